@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.common.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes log messages to standard output in a background thread. Messages are
+ * written in batches, so the logging thread does not wait for console output.
+ * Pending messages are written on {@link #flush()} and when JVM shuts down.
+ */
+class AsyncLogWriter {
+
+	private final Object queueLock = new Object();
+
+	private final Object outputLock = new Object();
+
+	private List<String> pending = new ArrayList<String>();
+
+	AsyncLogWriter() {
+		Thread writer = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				while (true) {
+					synchronized (queueLock) {
+						while (pending.isEmpty()) {
+							try {
+								queueLock.wait();
+							} catch (InterruptedException e) {
+								return;
+							}
+						}
+					}
+					writePending();
+				}
+			}
+		}, "RedDeer Log Writer");
+		writer.setDaemon(true);
+		writer.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				flush();
+			}
+		}, "RedDeer Log Flusher"));
+	}
+
+	/**
+	 * Queues message to be written.
+	 *
+	 * @param message message to write
+	 */
+	void write(String message) {
+		synchronized (queueLock) {
+			pending.add(message);
+			queueLock.notify();
+		}
+	}
+
+	/**
+	 * Writes all queued messages in the calling thread.
+	 */
+	void flush() {
+		writePending();
+		System.out.flush();
+	}
+
+	private void writePending() {
+		// taking and writing of messages has to be atomic to keep their order
+		synchronized (outputLock) {
+			List<String> batch;
+			synchronized (queueLock) {
+				if (pending.isEmpty()) {
+					return;
+				}
+				batch = pending;
+				pending = new ArrayList<String>();
+			}
+			StringBuilder sb = new StringBuilder();
+			String lineSeparator = System.lineSeparator();
+			for (String message : batch) {
+				sb.append(message).append(lineSeparator);
+			}
+			System.out.print(sb.toString());
+		}
+	}
+}
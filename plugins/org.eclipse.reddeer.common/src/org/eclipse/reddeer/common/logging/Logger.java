@@ -11,12 +11,14 @@
  *******************************************************************************/
 package org.eclipse.reddeer.common.logging;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
 import org.eclipse.reddeer.common.context.ExecutionSetting;
 import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 
 /**
  * Simple console logger for Reddeer
@@ -26,7 +28,12 @@ import org.eclipse.reddeer.common.exception.RedDeerException;
  */
 public class Logger {
 
-	private DateFormat dateFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+	private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS")
+			.withZone(ZoneId.systemDefault());
+
+	private static volatile Timestamp lastTimestamp = new Timestamp(0);
+
+	private static AsyncLogWriter asyncWriter = RedDeerProperties.LOG_ASYNC.getBooleanValue() ? new AsyncLogWriter() : null;
 
 	private static final String error = "ERROR";
 	private static final String warning = "WARNING";
@@ -75,7 +82,20 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void debug(String fmtString, Object... args) {
-		debug(String.format(fmtString, args));
+		if (isEnabled(MessageType.DEBUG)) {
+			debug(String.format(fmtString, args));
+		}
+	}
+
+	/**
+	 * Log debug message provided by supplier. Supplier is called only if debug messages are logged.
+	 *
+	 * @param msgSupplier supplier of message
+	 */
+	public void debug(Supplier<String> msgSupplier) {
+		if (isEnabled(MessageType.DEBUG)) {
+			debug(msgSupplier.get());
+		}
 	}
 
 	/**
@@ -95,7 +115,20 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void trace(String fmtString, Object... args) {
-		trace(String.format(fmtString, args));
+		if (isEnabled(MessageType.TRACE)) {
+			trace(String.format(fmtString, args));
+		}
+	}
+
+	/**
+	 * Log trace message provided by supplier. Supplier is called only if trace messages are logged.
+	 *
+	 * @param msgSupplier supplier of message
+	 */
+	public void trace(Supplier<String> msgSupplier) {
+		if (isEnabled(MessageType.TRACE)) {
+			trace(msgSupplier.get());
+		}
 	}
 
 	/**
@@ -115,7 +148,20 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void warn(String fmtString, Object... args) {
-		warn(String.format(fmtString, args));
+		if (isEnabled(MessageType.WARN)) {
+			warn(String.format(fmtString, args));
+		}
+	}
+
+	/**
+	 * Log warn message provided by supplier. Supplier is called only if warn messages are logged.
+	 *
+	 * @param msgSupplier supplier of message
+	 */
+	public void warn(Supplier<String> msgSupplier) {
+		if (isEnabled(MessageType.WARN)) {
+			warn(msgSupplier.get());
+		}
 	}
 
 	/**
@@ -135,7 +181,9 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void error(String fmtString, Object... args) {
-		error(String.format(fmtString, args));
+		if (isEnabled(MessageType.ERROR)) {
+			error(String.format(fmtString, args));
+		}
 	}
 
 	/**
@@ -159,7 +207,11 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void error(String fmtString, Throwable t, Object... args) {
-		error(String.format(fmtString, args), t);
+		if (isEnabled(MessageType.ERROR)) {
+			error(String.format(fmtString, args), t);
+		} else {
+			printStackTraceRecursive(t);
+		}
 	}
 
 	/**
@@ -179,7 +231,20 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void info(String fmtString, Object... args) {
-		info(String.format(fmtString, args));
+		if (isEnabled(MessageType.INFO)) {
+			info(String.format(fmtString, args));
+		}
+	}
+
+	/**
+	 * Log info message provided by supplier. Supplier is called only if info messages are logged.
+	 *
+	 * @param msgSupplier supplier of message
+	 */
+	public void info(Supplier<String> msgSupplier) {
+		if (isEnabled(MessageType.INFO)) {
+			info(msgSupplier.get());
+		}
 	}
 
 	/**
@@ -199,7 +264,9 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void dump(String fmtString, Object... args) {
-		dump(String.format(fmtString, args));
+		if (isEnabled(MessageType.DUMP)) {
+			dump(String.format(fmtString, args));
+		}
 	}
 
 	/**
@@ -227,7 +294,9 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void step(String fmtString, Object... args) {
-		step(String.format(fmtString, args));
+		if (isEnabled(MessageType.STEP)) {
+			step(String.format(fmtString, args));
+		}
 	}
 
 	/**
@@ -255,30 +324,79 @@ public class Logger {
 	 * @see java.lang.String#format(String, Object...)
 	 */
 	public void fatal(String fmtString, Object... args) {
-		fatal(String.format(fmtString, args));
+		if (isEnabled(MessageType.FATAL)) {
+			fatal(String.format(fmtString, args));
+		}
+	}
+
+	/**
+	 * Finds out whether debug messages are logged.
+	 *
+	 * @return true if debug messages are logged, false otherwise
+	 */
+	public boolean isDebugEnabled() {
+		return isEnabled(MessageType.DEBUG);
+	}
+
+	/**
+	 * Finds out whether trace messages are logged.
+	 *
+	 * @return true if trace messages are logged, false otherwise
+	 */
+	public boolean isTraceEnabled() {
+		return isEnabled(MessageType.TRACE);
+	}
+
+	/**
+	 * Writes all pending asynchronously logged messages.
+	 */
+	public static void flush() {
+		if (asyncWriter != null) {
+			asyncWriter.flush();
+		}
+	}
+
+	private boolean isEnabled(int type) {
+		ExecutionSetting setting = ExecutionSetting.getInstance();
+		if ((type & setting.getLogMessageFilter()) != type) {
+			return false;
+		}
+		return setting.getLogLevel() >= getLevelFromMsgType(type).getValue();
 	}
 
 	private void print(String severity, String msg, int type) {
-		if ((type & ExecutionSetting.getInstance().getLogMessageFilter()) != type)
+		if (!isEnabled(type)) {
 			return;
-		
-		int logLevel = ExecutionSetting.getInstance().getLogLevel();
-		if (logLevel < getLevelFromMsgType(type).getValue()) {
-			return; 
 		}
 
-		StringBuilder sb = new StringBuilder();
-		sb.append(dateFormat.format(new Date()) + " ");		
-
+		String threadName = getThreadName();
+		String className = loggerClass.getSimpleName();
+		StringBuilder sb = new StringBuilder(20 + severity.length() + threadName.length() + className.length()
+				+ (msg == null ? 4 : msg.length()));
+		sb.append(getTimestamp()).append(' ');
 		sb.append(severity);
 		sb.append(" [");
-		sb.append(getThreadName());
+		sb.append(threadName);
 		sb.append("]");
 		sb.append("[");
-		sb.append(loggerClass.getSimpleName());
+		sb.append(className);
 		sb.append("] ");
 		sb.append(msg);
-		System.out.println(sb.toString());
+		if (asyncWriter != null) {
+			asyncWriter.write(sb.toString());
+		} else {
+			System.out.println(sb.toString());
+		}
+	}
+
+	private static String getTimestamp() {
+		long now = System.currentTimeMillis();
+		Timestamp timestamp = lastTimestamp;
+		if (timestamp.millis != now) {
+			timestamp = new Timestamp(now);
+			lastTimestamp = timestamp;
+		}
+		return timestamp.text;
 	}
 
 	private LogLevel getLevelFromMsgType(int msgType) {
@@ -306,8 +424,26 @@ public class Logger {
 
 	private void printStackTraceRecursive(Throwable t) {
 		if ((t != null) && (t.getStackTrace() != null)) {
+			// keep order of messages and stack traces
+			flush();
 			t.printStackTrace();
 			printStackTraceRecursive(t.getCause());
 		}
 	}
+
+	/**
+	 * Formatted timestamp of one millisecond. Instances are immutable, so they
+	 * can be shared between threads without locking.
+	 */
+	private static class Timestamp {
+
+		private final long millis;
+
+		private final String text;
+
+		private Timestamp(long millis) {
+			this.millis = millis;
+			this.text = TIMESTAMP_FORMAT.format(Instant.ofEpochMilli(millis));
+		}
+	}
 }
\ No newline at end of file
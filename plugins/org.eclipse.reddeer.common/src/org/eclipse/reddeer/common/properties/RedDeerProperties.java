@@ -29,6 +29,11 @@ public enum RedDeerProperties {
 
 	LOG_LEVEL("rd.logLevel", "ALL"),
 
+	/**
+	 * System property enabling asynchronous writing of log messages. 
+	 */
+	LOG_ASYNC("rd.logAsync", false),
+
 	CLOSE_WELCOME_SCREEN("rd.closeWelcomeScreen", true),
 
 	CLOSE_ALL_SHELLS("rd.closeShells", true),
@@ -52,7 +57,90 @@ public enum RedDeerProperties {
 
 	OPEN_ASSOCIATED_PERSPECTIVE("rd.openAssociatedPerspective", "never"),
 
-	TIME_PERIOD_FACTOR("rd.timePeriodFactor", 1.f);
+	TIME_PERIOD_FACTOR("rd.timePeriodFactor", 1.f),
+
+	/**
+	 * System property enabling widget tree traversal within one UI thread visit instead of one visit per widget. 
+	 */
+	SINGLE_UI_VISIT_LOOKUP("rd.singleUIVisitLookup", false),
+
+	/**
+	 * System property enabling waits which test their conditions when notified by {@link org.eclipse.reddeer.common.wait.WaitNotifier}
+	 * instead of testing them in fixed periods. 
+	 */
+	EVENT_DRIVEN_WAIT("rd.eventDrivenWait", false),
+
+	/**
+	 * System property enabling cached index of widgets used by widget lookups. 
+	 */
+	WIDGET_INDEX("rd.widgetIndex", false),
+
+	/**
+	 * System property enabling shell registry answering active shell lookups from tracked shell events without waiting. 
+	 */
+	SHELL_REGISTRY("rd.shellRegistry", false),
+
+	/**
+	 * System property enabling log collector copying only new workbench log entries to one indexed archive
+	 * instead of deleting the workbench log. 
+	 */
+	LOG_COLLECTOR_INCREMENTAL("rd.logCollectorIncremental", false),
+
+	/**
+	 * System property enabling compression of log segments in the archive of incremental log collector. 
+	 */
+	LOG_COLLECTOR_COMPRESSED("rd.logCollectorCompressed", false),
+
+	/**
+	 * System property enabling encoding and saving of screenshots in background thread instead of UI thread. 
+	 */
+	SCREENSHOT_ASYNC("rd.screenshotAsync", false),
+
+	/**
+	 * System property selecting image format of screenshots, BMP is saved faster than PNG. 
+	 */
+	SCREENSHOT_FORMAT("rd.screenshotFormat", "png", "png", "bmp", "jpg"),
+
+	/**
+	 * System property enabling screenshots containing only the region which changed since the previous screenshot. 
+	 */
+	SCREENSHOT_CHANGED_REGION("rd.screenshotChangedRegion", false),
+
+	/**
+	 * System property enabling keyboard typing text in bursts of key events synchronized only at burst boundaries. 
+	 */
+	KEYBOARD_FAST_TYPING("rd.keyboardFastTyping", false),
+
+	/**
+	 * System property pointing to the directory where parsed YAML configuration files are cached by hash of their content. 
+	 */
+	CONFIG_CACHE_DIRECTORY("rd.configCacheDirectory", (String) null),
+
+	/**
+	 * System property enabling console observer which tracks new console output instead of reading whole console text. 
+	 */
+	CONSOLE_OBSERVER("rd.consoleObserver", false),
+
+	/**
+	 * System property enabling Problems view to read problems from workspace markers instead of its tree. 
+	 */
+	PROBLEMS_FROM_MARKERS("rd.problemsFromMarkers", false),
+
+	/**
+	 * System property in form index/count (e.g. 2/8) selecting shard of tests executed by RedDeer suite. 
+	 */
+	SHARD("rd.shard", (String) null),
+
+	/**
+	 * System property pointing to the file with recorded durations of tests used to balance shards.
+	 * All shards read the same file, shards never write it. 
+	 */
+	SHARD_DURATIONS("rd.shardDurations", (String) null),
+
+	/**
+	 * System property pointing to the file where durations of tests executed by the process are stored when JVM exits. 
+	 */
+	SHARD_DURATIONS_OUTPUT("rd.shardDurationsOutput", (String) null);
 
 	private String name;
 
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.reddeer.common.exception.RedDeerException;
+
+/**
+ * Display batch executes many runnables in one {@link Display#syncExec(Runnable)} call. Runnables
+ * are queued by {@link #add(ResultRunnable)} and executed in the order they were added
+ * by {@link #execute()}. Runtime exception of a runnable does not stop the execution of other runnables,
+ * it is captured in its {@link Result}. Errors are not captured, they stop the execution of the batch.
+ * <br>
+ * Handler methods can be queued too, their own UI thread calls are executed directly
+ * because the batch already runs in UI thread.
+ *
+ * <pre>
+ * DisplayBatch batch = new DisplayBatch();
+ * Result&lt;String&gt; text = batch.add(() -&gt; TreeItemHandler.getInstance().getText(item));
+ * Result&lt;Boolean&gt; visible = batch.add(() -&gt; ControlHandler.getInstance().isVisible(control));
+ * batch.execute();
+ * text.get();
+ * </pre>
+ */
+public class DisplayBatch {
+
+	private final List<Result<?>> results = new ArrayList<Result<?>>();
+
+	private boolean executed;
+
+	/**
+	 * Queues specified runnable to be executed with the batch.
+	 *
+	 * @param <T> type of the result
+	 * @param runnable runnable to execute in UI thread
+	 * @return result of the runnable available after the batch is executed
+	 */
+	public <T> Result<T> add(ResultRunnable<T> runnable) {
+		if (executed) {
+			throw new IllegalStateException("Display batch was already executed");
+		}
+		Result<T> result = new Result<T>(runnable);
+		results.add(result);
+		return result;
+	}
+
+	/**
+	 * Gets number of queued runnables.
+	 *
+	 * @return number of queued runnables
+	 */
+	public int size() {
+		return results.size();
+	}
+
+	/**
+	 * Executes all queued runnables in one UI thread visit. Batch can be executed only once.
+	 */
+	public void execute() {
+		if (executed) {
+			throw new IllegalStateException("Display batch was already executed");
+		}
+		executed = true;
+		if (results.isEmpty()) {
+			return;
+		}
+		Display.syncExec(new Runnable() {
+
+			@Override
+			public void run() {
+				for (Result<?> result : results) {
+					result.run();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Applies specified reader to all specified objects in one UI thread visit.
+	 *
+	 * @param <S> type of objects
+	 * @param <T> type of read values
+	 * @param objects objects to read values from
+	 * @param reader function reading value of an object
+	 * @return read values in the same order as objects
+	 * @throws RuntimeException exception thrown by the reader of the first failed value
+	 */
+	public static <S, T> List<T> readAll(List<? extends S> objects, final Function<S, T> reader) {
+		DisplayBatch batch = new DisplayBatch();
+		List<Result<T>> results = new ArrayList<Result<T>>(objects.size());
+		for (final S object : objects) {
+			results.add(batch.add(new ResultRunnable<T>() {
+
+				@Override
+				public T run() {
+					return reader.apply(object);
+				}
+			}));
+		}
+		batch.execute();
+		List<T> values = new ArrayList<T>(results.size());
+		for (Result<T> result : results) {
+			if (result.isFailed()) {
+				// same exception as if the value was read alone
+				throw result.getException();
+			}
+			values.add(result.get());
+		}
+		return values;
+	}
+
+	/**
+	 * Result of a runnable executed by {@link DisplayBatch}.
+	 *
+	 * @param <T> type of the result
+	 */
+	public static class Result<T> {
+
+		private final ResultRunnable<T> runnable;
+
+		private boolean done;
+
+		private T value;
+
+		private RuntimeException exception;
+
+		private Result(ResultRunnable<T> runnable) {
+			this.runnable = runnable;
+		}
+
+		private void run() {
+			try {
+				value = runnable.run();
+			} catch (RuntimeException e) {
+				exception = e;
+			}
+			done = true;
+		}
+
+		/**
+		 * Finds out whether the runnable was executed.
+		 *
+		 * @return true if the runnable was executed, false otherwise
+		 */
+		public boolean isDone() {
+			return done;
+		}
+
+		/**
+		 * Finds out whether the runnable threw an exception.
+		 *
+		 * @return true if the runnable failed, false otherwise
+		 */
+		public boolean isFailed() {
+			return exception != null;
+		}
+
+		/**
+		 * Gets exception thrown by the runnable.
+		 *
+		 * @return exception or null if the runnable did not fail
+		 */
+		public RuntimeException getException() {
+			return exception;
+		}
+
+		/**
+		 * Gets value returned by the runnable.
+		 *
+		 * @return value returned by the runnable
+		 * @throws RedDeerException if the runnable failed
+		 * @throws IllegalStateException if the batch was not executed yet
+		 */
+		public T get() {
+			if (!done) {
+				throw new IllegalStateException("Display batch was not executed yet");
+			}
+			if (exception != null) {
+				throw new RedDeerException("Exception during batch execution in UI thread", exception);
+			}
+			return value;
+		}
+	}
+}
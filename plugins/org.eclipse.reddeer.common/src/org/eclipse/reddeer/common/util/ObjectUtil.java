@@ -11,18 +11,36 @@
  *******************************************************************************/
 package org.eclipse.reddeer.common.util;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.reddeer.common.exception.RedDeerException;
 
 /**
  * Object util contains helper methods for method invocation using reflection, etc.
+ * Methods are looked up only once per class and method signature, absent methods
+ * are remembered too.
  * 
  * @author Jiri Peterka
  */
 public class ObjectUtil {
 
+	private static final ClassValue<Map<MethodKey, Accessor>> ACCESSORS = new ClassValue<Map<MethodKey, Accessor>>() {
+
+		@Override
+		protected Map<MethodKey, Accessor> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<MethodKey, Accessor>();
+		}
+	};
+
 	/**
 	 * Invokes method using reflection. Widget based methods are executed in UI thread.
 	 * 
@@ -45,42 +63,143 @@ public class ObjectUtil {
 	 */
 	public static Object invokeMethod(final Object object, String methodName, final Class<?>[] argTypes, final Object[] args) {
 
-		final Method method = getMethod(object, methodName, argTypes);
-		
+		final Accessor accessor = getAccessor(object, methodName, argTypes);
+		if (accessor.method == null) {
+			throw new RedDeerException("Exception when retrieving method " + methodName + " by reflection",
+					accessor.lookupFailure);
+		}
+
 		final Object result;
 		if (object instanceof Widget) {
-			result = invokeMethodUI(method, object, args);
+			result = invokeMethodUI(accessor, object, args);
 		} else {
-			result = invokeMethod(method, object, args);
+			result = invokeMethod(accessor, object, args);
 		}
 
 		return result;
 	}
 
-	private static Method getMethod(final Object object, String methodName, final Class<?>[] argTypes) {
+	/**
+	 * Finds out whether specified object has public method with specified name and no parameters.
+	 * Nothing is thrown if there is no such method.
+	 *
+	 * @param object object to check
+	 * @param methodName method name
+	 * @return true if object has such method, false otherwise
+	 */
+	public static boolean hasMethod(Object object, String methodName) {
+		return object != null && getAccessor(object, methodName, new Class<?>[0]).method != null;
+	}
+
+	private static Accessor getAccessor(final Object object, String methodName, Class<?>[] argTypes) {
+		if (argTypes == null) {
+			argTypes = new Class<?>[0];
+		}
+		Map<MethodKey, Accessor> accessors = ACCESSORS.get(object.getClass());
+		MethodKey key = new MethodKey(methodName, argTypes);
+		Accessor accessor = accessors.get(key);
+		if (accessor == null) {
+			accessor = createAccessor(object.getClass(), methodName, argTypes);
+			accessors.put(new MethodKey(methodName, argTypes.clone()), accessor);
+		}
+		return accessor;
+	}
+
+	private static Accessor createAccessor(Class<?> type, String methodName, Class<?>[] argTypes) {
 		final Method method;
 		try {
-			method = object.getClass().getMethod(methodName, argTypes);
+			method = type.getMethod(methodName, argTypes);
 		} catch (Exception e) {
-			throw new RedDeerException("Exception when retrieving method " + methodName + " by reflection", e);
+			return new Accessor(null, null, e);
+		}
+		MethodHandle handle;
+		try {
+			// (Object, Object[]) -> Object so the handle can be invoked exactly
+			handle = MethodHandles.publicLookup().unreflect(method).asFixedArity()
+					.asType(MethodType.genericMethodType(argTypes.length + 1))
+					.asSpreader(Object[].class, argTypes.length);
+		} catch (IllegalAccessException e) {
+			// method is declared in non public class, it is invoked by reflection
+			handle = null;
+		} catch (WrongMethodTypeException e) {
+			// static method has no receiver, it is invoked by reflection
+			handle = null;
 		}
-		return method;
+		return new Accessor(method, handle, null);
 	}
-	
-	private static Object invokeMethodUI(final Method method, final Object object, final Object[] args) {
+
+	private static Object invokeMethodUI(final Accessor accessor, final Object object, final Object[] args) {
 		return Display.syncExec(new ResultRunnable<Object>() {
 			@Override
 			public Object run() {
-				return invokeMethod(method, object, args);
+				return invokeMethod(accessor, object, args);
 			}
 		});
 	}
 
-	private static Object invokeMethod(Method method, Object object, Object[] args) {
+	private static Object invokeMethod(Accessor accessor, Object object, Object[] args) {
+		if (accessor.handle == null) {
+			try {
+				return accessor.method.invoke(object, args);
+			} catch (InvocationTargetException e) {
+				throw invocationFailure(accessor, e.getCause());
+			} catch (IllegalAccessException | IllegalArgumentException e) {
+				throw invocationFailure(accessor, e);
+			}
+		}
 		try {
-			return method.invoke(object, args);
-		} catch (Exception e) {
-			throw new RedDeerException("Exception when invoking method " + method + " by reflection", e);
+			return (Object) accessor.handle.invokeExact(object, args);
+		} catch (Throwable e) {
+			// method handle throws exceptions of invoked method as they are
+			throw invocationFailure(accessor, e);
+		}
+	}
+
+	private static RedDeerException invocationFailure(Accessor accessor, Throwable cause) {
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+		return new RedDeerException("Exception when invoking method " + accessor.method + " by reflection", cause);
+	}
+
+	private static class Accessor {
+
+		private final Method method;
+
+		private final MethodHandle handle;
+
+		private final Exception lookupFailure;
+
+		private Accessor(Method method, MethodHandle handle, Exception lookupFailure) {
+			this.method = method;
+			this.handle = handle;
+			this.lookupFailure = lookupFailure;
+		}
+	}
+
+	private static class MethodKey {
+
+		private final String name;
+
+		private final Class<?>[] argTypes;
+
+		private MethodKey(String name, Class<?>[] argTypes) {
+			this.name = name;
+			this.argTypes = argTypes;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * name.hashCode() + Arrays.hashCode(argTypes);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof MethodKey)) {
+				return false;
+			}
+			MethodKey other = (MethodKey) obj;
+			return name.equals(other.name) && Arrays.equals(argTypes, other.argTypes);
 		}
 	}
 }
@@ -14,6 +14,7 @@ package org.eclipse.reddeer.common.wait;
 import org.eclipse.reddeer.common.condition.WaitCondition;
 import org.eclipse.reddeer.common.exception.WaitTimeoutExpiredException;
 import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.common.util.Display;
 
 /**
@@ -33,6 +34,8 @@ public abstract class AbstractWait implements Wait {
 	private static final Logger log = Logger.getLogger(AbstractWait.class);
 	// Default wait tick period in milliseconds
 	private static final long DEFAULT_TICK_PERIOD = 500;
+	// Minimal time between two tests of a wait condition in event driven wait in milliseconds
+	private static final long MIN_TICK_PERIOD = 20;
 	
 	private TimePeriod timeout;
 
@@ -143,19 +146,66 @@ public abstract class AbstractWait implements Wait {
 			limit = Long.MAX_VALUE;
 		}
 
+		if (RedDeerProperties.EVENT_DRIVEN_WAIT.getBooleanValue()) {
+			if (!waitForSignals(condition, testPeriod, limit)) {
+				return;
+			}
+		} else {
+			while (true) {
+				if (stopWaiting(condition)) {
+					break;
+				}
+
+				if (timeoutExceeded(condition, limit)) {
+					return;
+				}
+
+				sleep(testPeriod);
+			}
+		}
+
+		log.debug(this.description() + condition.description() + " finished successfully");
+	}
+
+	/**
+	 * Tests wait condition whenever {@link WaitNotifier} is signaled. Conditions which are not
+	 * affected by any signal are tested with adaptive backoff starting at {@link #MIN_TICK_PERIOD} and growing 
+	 * up to specified test period. Timeout is honored exactly, the condition is tested for the last time 
+	 * right after the limit is reached.
+	 * 
+	 * @param condition wait condition to met
+	 * @param testPeriod maximal time between two tests of a wait condition in milliseconds
+	 * @param limit time in milliseconds when waiting times out
+	 * @return true if waiting stopped because the condition was met, false if timeout exceeded
+	 */
+	private boolean waitForSignals(WaitCondition condition, long testPeriod, long limit) {
+		WaitNotifier notifier = WaitNotifier.getInstance();
+		notifier.install();
+		long minPeriod = Math.min(MIN_TICK_PERIOD, testPeriod);
+		long backoff = minPeriod;
 		while (true) {
+			long mark = notifier.getSignalCount();
+			long lastTest = System.currentTimeMillis();
 			if (stopWaiting(condition)) {
-				break;
+				return true;
 			}
 
 			if (timeoutExceeded(condition, limit)) {
-				return;
+				return false;
 			}
 
-			sleep(testPeriod);
+			long remaining = limit == Long.MAX_VALUE ? Long.MAX_VALUE : limit - System.currentTimeMillis() + 1;
+			if (notifier.awaitSignal(mark, Math.min(backoff, remaining))) {
+				backoff = minPeriod;
+				// coalesce bursts of signals (e.g. paint events) 
+				long sinceLastTest = System.currentTimeMillis() - lastTest;
+				if (sinceLastTest < minPeriod) {
+					sleep(Math.min(minPeriod - sinceLastTest, remaining));
+				}
+			} else {
+				backoff = Math.min(backoff * 2, testPeriod);
+			}
 		}
-
-		log.debug(this.description() + condition.description() + " finished successfully");
 	}
 
 	/**
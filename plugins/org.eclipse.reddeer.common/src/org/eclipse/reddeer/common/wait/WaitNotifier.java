@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.common.wait;
+
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+
+/**
+ * Wait notifier wakes up event driven waits (see {@link AbstractWait}) whenever something
+ * that could change result of a wait condition happens. Notifier listens to SWT Show, Hide, Activate,
+ * Deactivate, Dispose and Paint events of the display. Other sources of changes (e.g. jobs) can
+ * notify waits by calling {@link #signal()}.
+ */
+public class WaitNotifier {
+
+	private static final Logger log = Logger.getLogger(WaitNotifier.class);
+
+	private static final int[] NOTIFYING_EVENTS = { SWT.Show, SWT.Hide, SWT.Activate, SWT.Deactivate, SWT.Dispose,
+			SWT.Paint };
+
+	private static WaitNotifier instance;
+
+	private final Object lock = new Object();
+
+	private long signalCount;
+
+	private org.eclipse.swt.widgets.Display installedDisplay;
+
+	private final Listener eventListener = new Listener() {
+
+		@Override
+		public void handleEvent(Event event) {
+			signal();
+		}
+	};
+
+	private WaitNotifier() {
+	}
+
+	/**
+	 * Gets instance of WaitNotifier.
+	 *
+	 * @return WaitNotifier instance
+	 */
+	public static synchronized WaitNotifier getInstance() {
+		if (instance == null) {
+			instance = new WaitNotifier();
+		}
+		return instance;
+	}
+
+	/**
+	 * Registers display event filters notifying waits. If filters are already registered
+	 * to current display nothing happens. If there is no display, waits are woken up only
+	 * by explicit signals.
+	 */
+	public void install() {
+		final org.eclipse.swt.widgets.Display display;
+		try {
+			display = Display.getDisplay();
+		} catch (RedDeerException ex) {
+			log.debug("No display available, waits will be notified only explicitly");
+			return;
+		}
+		synchronized (lock) {
+			if (display == installedDisplay) {
+				return;
+			}
+			installedDisplay = display;
+		}
+		Display.syncExec(new Runnable() {
+
+			@Override
+			public void run() {
+				for (int eventType : NOTIFYING_EVENTS) {
+					display.addFilter(eventType, eventListener);
+				}
+			}
+		});
+		log.debug("Display event filters notifying waits were registered");
+	}
+
+	/**
+	 * Notifies all waits that something which could change result of their wait conditions happened.
+	 */
+	public void signal() {
+		synchronized (lock) {
+			signalCount++;
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * Gets number of signals received so far. Value is used as a mark for {@link #awaitSignal(long, long)}.
+	 *
+	 * @return number of signals received so far
+	 */
+	public long getSignalCount() {
+		synchronized (lock) {
+			return signalCount;
+		}
+	}
+
+	/**
+	 * Waits until a signal newer than specified mark is received or until specified time elapses.
+	 * Must not be called from UI thread.
+	 *
+	 * @param mark signal count obtained by {@link #getSignalCount()} before the last test of a wait condition
+	 * @param milliseconds maximum time to wait in milliseconds
+	 * @return true if a signal was received, false if time elapsed
+	 */
+	public boolean awaitSignal(long mark, long milliseconds) {
+		org.eclipse.swt.widgets.Display display = Display.getDisplay();
+		if (display != null && Thread.currentThread().equals(display.getThread())) {
+			throw new RuntimeException("Tried to wait for a signal in UI thread!");
+		}
+		long deadline = milliseconds == Long.MAX_VALUE ? Long.MAX_VALUE : System.currentTimeMillis() + milliseconds;
+		synchronized (lock) {
+			long remaining = milliseconds;
+			while (signalCount == mark && remaining > 0) {
+				try {
+					lock.wait(remaining);
+				} catch (InterruptedException e) {
+					throw new RuntimeException("Wait for signal interrupted", e);
+				}
+				remaining = deadline - System.currentTimeMillis();
+			}
+			return signalCount != mark;
+		}
+	}
+}
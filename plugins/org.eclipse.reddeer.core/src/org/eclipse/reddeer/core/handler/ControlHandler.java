@@ -11,12 +11,15 @@
  *******************************************************************************/
 package org.eclipse.reddeer.core.handler;
 
+import java.util.List;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.DisplayBatch;
 import org.eclipse.reddeer.common.util.ResultRunnable;
 /**
  * Contains methods for handling UI operations on {@link Control} widgets.
@@ -70,6 +73,33 @@ public class ControlHandler extends WidgetHandler{
 		
 	}
 	
+	/**
+	 * Checks which of specified controls are enabled in one UI thread visit.
+	 * @param controls controls to handle
+	 * @return list containing true for each enabled control and false for each disabled control
+	 */
+	public List<Boolean> isEnabled(List<? extends Control> controls){
+		return DisplayBatch.readAll(controls, Control::isEnabled);
+	}
+	
+	/**
+	 * Checks which of specified controls are visible in one UI thread visit.
+	 * @param controls controls to handle
+	 * @return list containing true for each visible control and false for each invisible control
+	 */
+	public List<Boolean> isVisible(List<? extends Control> controls){
+		return DisplayBatch.readAll(controls, Control::isVisible);
+	}
+	
+	/**
+	 * Gets tooltip texts of specified controls in one UI thread visit.
+	 * @param controls controls to get tooltip text from
+	 * @return tooltip texts in the same order as controls
+	 */
+	public List<String> getToolTipText(List<? extends Control> controls){
+		return DisplayBatch.readAll(controls, Control::getToolTipText);
+	}
+	
 	/**
 	 * Sets focus to specified control
 	 *
@@ -15,12 +15,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
 import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.reddeer.common.util.Display;
 import org.eclipse.reddeer.common.util.ResultRunnable;
 import org.eclipse.reddeer.core.exception.CoreLayerException;
+import org.eclipse.reddeer.core.util.ItemsSnapshot;
 
 /**
  * Contains methods that handle UI operations on {@link TableHandler} widgets.
@@ -159,6 +161,35 @@ public class TableHandler extends ControlHandler{
 		});
 	}
 
+	/**
+	 * Captures texts of all columns, checked state and images of all rows of specified
+	 * {@link Table} within one UI thread visit.
+	 * 
+	 * @param table table to handle
+	 * @return snapshot of table rows
+	 */
+	public ItemsSnapshot getSnapshot(final Table table) {
+		return Display.syncExec(new ResultRunnable<ItemsSnapshot>() {
+
+			@Override
+			public ItemsSnapshot run() {
+				int columnCount = Math.max(table.getColumnCount(), 1);
+				boolean checkable = (table.getStyle() & SWT.CHECK) != 0;
+				ItemsSnapshot.Builder builder = new ItemsSnapshot.Builder(columnCount);
+				for (TableItem item : table.getItems()) {
+					String[] texts = new String[columnCount];
+					Image[] images = new Image[columnCount];
+					for (int column = 0; column < columnCount; column++) {
+						texts[column] = item.getText(column);
+						images[column] = item.getImage(column);
+					}
+					builder.addRow(item, texts, images, checkable && item.getChecked(), new String[] { texts[0] });
+				}
+				return builder.build();
+			}
+		});
+	}
+
 	/**
 	 * Deselects all items from specified {@link Table}. 
 	 * 
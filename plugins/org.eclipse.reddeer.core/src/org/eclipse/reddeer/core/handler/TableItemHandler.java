@@ -11,6 +11,8 @@
  *******************************************************************************/
 package org.eclipse.reddeer.core.handler;
 
+import java.util.List;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Rectangle;
@@ -21,6 +23,7 @@ import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
 import org.eclipse.reddeer.common.exception.RedDeerException;
 import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.DisplayBatch;
 import org.eclipse.reddeer.common.util.ResultRunnable;
 import org.eclipse.reddeer.common.wait.TimePeriod;
 import org.eclipse.reddeer.common.wait.WaitUntil;
@@ -88,6 +91,18 @@ public class TableItemHandler extends ItemHandler{
 		return text;
 	}
 
+	/**
+	 * Gets texts of specified {@link TableItem}s laying on specified cell index
+	 * in one UI thread visit.
+	 * 
+	 * @param tableItems table items to handle
+	 * @param cellIndex index of cell
+	 * @return texts of specified table items in the same order as table items
+	 */
+	public List<String> getText(final List<TableItem> tableItems, final int cellIndex) {
+		return DisplayBatch.readAll(tableItems, item -> item.getText(cellIndex));
+	}
+
 	/**
 	 * Selects specified {@link TableItem}.
 	 * 
@@ -16,11 +16,13 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.TreeColumn;
 import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.common.util.Display;
 import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.reddeer.core.util.ItemsSnapshot;
 
 /**
  * Contains methods for handling UI operations on
@@ -96,6 +98,48 @@ public class TreeHandler extends ControlHandler{
         });
     }
 	
+	/**
+	 * Captures texts of all columns, checked state, images and paths of tree items of specified
+	 * {@link org.eclipse.swt.widgets.Tree} within one UI thread visit. Items are captured in
+	 * depth-first order, only children of expanded items are captured, so tree items are not
+	 * created by the snapshot.
+	 * 
+	 * @param swtTree tree to handle
+	 * @return snapshot of tree items
+	 */
+	public ItemsSnapshot getSnapshot(final org.eclipse.swt.widgets.Tree swtTree) {
+		return Display.syncExec(new ResultRunnable<ItemsSnapshot>() {
+			@Override
+			public ItemsSnapshot run() {
+				int columnCount = Math.max(swtTree.getColumnCount(), 1);
+				boolean checkable = (swtTree.getStyle() & SWT.CHECK) != 0;
+				ItemsSnapshot.Builder builder = new ItemsSnapshot.Builder(columnCount);
+				for (org.eclipse.swt.widgets.TreeItem item : swtTree.getItems()) {
+					addToSnapshot(builder, item, columnCount, checkable, new String[0]);
+				}
+				return builder.build();
+			}
+		});
+	}
+
+	private void addToSnapshot(ItemsSnapshot.Builder builder, org.eclipse.swt.widgets.TreeItem item, int columnCount,
+			boolean checkable, String[] parentPath) {
+		String[] texts = new String[columnCount];
+		Image[] images = new Image[columnCount];
+		for (int column = 0; column < columnCount; column++) {
+			texts[column] = item.getText(column);
+			images[column] = item.getImage(column);
+		}
+		String[] path = Arrays.copyOf(parentPath, parentPath.length + 1);
+		path[parentPath.length] = texts[0];
+		builder.addRow(item, texts, images, checkable && item.getChecked(), path);
+		if (item.getExpanded()) {
+			for (org.eclipse.swt.widgets.TreeItem child : item.getItems()) {
+				addToSnapshot(builder, child, columnCount, checkable, path);
+			}
+		}
+	}
+
 	/**
 	 * Unselects all tree item on specified {@link org.eclipse.swt.widgets.Tree}.
 	 * 
@@ -26,6 +26,7 @@ import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
 import org.eclipse.reddeer.common.exception.WaitTimeoutExpiredException;
 import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.DisplayBatch;
 import org.eclipse.reddeer.common.util.ResultRunnable;
 import org.eclipse.reddeer.common.wait.TimePeriod;
 import org.eclipse.reddeer.common.wait.WaitUntil;
@@ -74,6 +75,20 @@ public class TreeItemHandler extends ItemHandler{
 		return text;
 	}
 
+	/**
+	 * Gets texts from cells of specified tree items on the position specified
+	 * by index in one UI thread visit.
+	 * 
+	 * @param treeItems
+	 *            tree items to handle
+	 * @param cellIndex
+	 *            index of cell to get text
+	 * @return texts of the cells in the same order as tree items
+	 */
+	public List<String> getText(final List<TreeItem> treeItems, final int cellIndex) {
+		return DisplayBatch.readAll(treeItems, item -> item.getText(cellIndex));
+	}
+
 	/**
 	 * Gets tool tip of specified tree item.
 	 * 
@@ -108,6 +123,18 @@ public class TreeItemHandler extends ItemHandler{
 		});
 	}
 
+	/**
+	 * Finds out which of specified tree items are expanded in one UI thread visit.
+	 * 
+	 * @param items
+	 *            items to handle
+	 * @return list containing true for each expanded tree item and false for
+	 *         each collapsed tree item
+	 */
+	public List<Boolean> isExpanded(final List<TreeItem> items) {
+		return DisplayBatch.readAll(items, TreeItem::getExpanded);
+	}
+
 	/**
 	 * Sets specified text to column on the position specified by index in
 	 * specified tree item.
@@ -418,6 +445,91 @@ public class TreeItemHandler extends ItemHandler{
 		});
 	}
 
+	/**
+	 * Expands specified swt tree item if it is collapsed and waits until it has children.
+	 * Expand notification is sent to the tree and the method is woken up as soon as tree
+	 * listeners handle it. Children added asynchronously by lazy or deferred content providers
+	 * are waited for at most specified time period, so leaf items delay the caller only
+	 * by this period. Expanded items with children are left untouched.
+	 * 
+	 * @param swtTreeItem
+	 *            tree item to handle
+	 * @param timePeriod
+	 *            maximal time to wait for expand notification to be handled and for children to appear
+	 */
+	public void expandLazily(final TreeItem swtTreeItem, TimePeriod timePeriod) {
+		final ItemExpandListener listener = new ItemExpandListener(swtTreeItem);
+		final boolean[] hasChildren = new boolean[1];
+		final Event event = Display.syncExec(new ResultRunnable<Event>() {
+			@Override
+			public Event run() {
+				if (swtTreeItem.isDisposed()) {
+					hasChildren[0] = true;
+					return null;
+				}
+				hasChildren[0] = swtTreeItem.getItemCount() > 0;
+				if (swtTreeItem.getExpanded()) {
+					return null;
+				}
+				listener.register(swtTreeItem.getParent());
+				return TreeHandler.getInstance().createEventForTree(swtTreeItem, SWT.Expand);
+			}
+		});
+		if (event != null) {
+			logger.debug("Expand Tree Item " + getText(swtTreeItem));
+			try {
+				notifyExpand(swtTreeItem, event, listener, timePeriod);
+			} finally {
+				if (listener.isRegistered()) {
+					Display.syncExec(new Runnable() {
+						@Override
+						public void run() {
+							listener.unregister();
+						}
+					});
+				}
+			}
+		} else if (hasChildren[0]) {
+			return;
+		}
+		if (!Thread.currentThread().equals(Display.getDisplay().getThread())) {
+			new WaitUntil(new TreeItemHasItems(swtTreeItem), timePeriod, false);
+		}
+	}
+
+	private void notifyExpand(final TreeItem swtTreeItem, final Event event, final ItemExpandListener listener,
+			TimePeriod timePeriod) {
+		boolean heard = false;
+		if (!Thread.currentThread().equals(Display.getDisplay().getThread())) {
+			Display.asyncExec(new Runnable() {
+				@Override
+				public void run() {
+					// item is expanded by the caller if notification was not heard in time
+					if (listener.isRegistered() && !swtTreeItem.isDisposed()) {
+						swtTreeItem.getParent().notifyListeners(SWT.Expand, event);
+					}
+				}
+			});
+			heard = listener.await(timePeriod.getSeconds() * 1000);
+		}
+		final boolean notified = heard;
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				listener.unregister();
+				if (swtTreeItem.isDisposed()) {
+					return;
+				}
+				Tree tree = swtTreeItem.getParent();
+				if (!notified) {
+					tree.notifyListeners(SWT.Expand, event);
+				}
+				swtTreeItem.setExpanded(true);
+				tree.update();
+			}
+		});
+	}
+
 	/**
 	 * Clicks on specified TreeItem.
 	 *
@@ -504,6 +616,88 @@ public class TreeItemHandler extends ItemHandler{
 
 	}
 
+	private static class ItemExpandListener implements Listener {
+
+		private final TreeItem treeItem;
+
+		private Tree tree;
+
+		private boolean heard = false;
+
+		public ItemExpandListener(TreeItem treeItem) {
+			this.treeItem = treeItem;
+		}
+
+		/**
+		 * Adds the listener to specified tree. Has to be called in UI thread.
+		 */
+		public synchronized void register(Tree tree) {
+			this.tree = tree;
+			tree.addListener(SWT.Expand, this);
+		}
+
+		/**
+		 * Removes the listener from the tree if it was not removed yet. Has to be called in UI thread.
+		 */
+		public synchronized void unregister() {
+			if (tree != null && !tree.isDisposed()) {
+				tree.removeListener(SWT.Expand, this);
+			}
+			tree = null;
+		}
+
+		public synchronized boolean isRegistered() {
+			return tree != null;
+		}
+
+		@Override
+		public synchronized void handleEvent(Event event) {
+			if (event.item == treeItem) {
+				heard = true;
+				notifyAll();
+			}
+		}
+
+		public synchronized boolean await(long milliseconds) {
+			long deadline = System.currentTimeMillis() + milliseconds;
+			long remaining = milliseconds;
+			while (!heard && remaining > 0) {
+				try {
+					wait(remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return heard;
+				}
+				remaining = deadline - System.currentTimeMillis();
+			}
+			return heard;
+		}
+	}
+
+	private class TreeItemHasItems extends AbstractWaitCondition {
+
+		private final TreeItem treeItem;
+
+		public TreeItemHasItems(TreeItem treeItem) {
+			this.treeItem = treeItem;
+		}
+
+		@Override
+		public boolean test() {
+			return Display.syncExec(new ResultRunnable<Boolean>() {
+				@Override
+				public Boolean run() {
+					return treeItem.isDisposed() || treeItem.getItemCount() > 0;
+				}
+			});
+		}
+
+		@Override
+		public String description() {
+			return "tree item has children";
+		}
+	}
+
 	private class TreeHeardExpandNotification extends AbstractWaitCondition {
 
 		private org.eclipse.swt.widgets.TreeItem treeItem;
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.lookup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.reddeer.core.resolver.WidgetResolver;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.custom.CLabel;
+import org.eclipse.swt.layout.FormData;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Label index resolves labels of controls for {@link WidgetLookup#getLabel(Control)}. Labels attached
+ * to controls by {@link FormData} are resolved in one pass over children of their parent. Other controls
+ * are labeled by the closest preceding {@link Label} or {@link CLabel} without image, these labels are
+ * resolved in one pass over all visible widgets of the root control (active workbench part or shell).
+ * <br>
+ * Resolved labels are kept while a widget lookup is in progress (see {@link #beginLookup()}), so labels
+ * of all candidate widgets of the lookup are resolved by a single pass. Outside of a lookup labels
+ * are resolved again for each control.
+ */
+class LabelIndex {
+
+	private static LabelIndex instance;
+
+	private int lookups;
+
+	private final Map<Widget, Map<Control, String>> formLabels = new HashMap<Widget, Map<Control, String>>();
+
+	private final Map<Control, Map<Control, String>> precedingLabels = new HashMap<Control, Map<Control, String>>();
+
+	private final Map<Shell, Control> roots = new HashMap<Shell, Control>();
+
+	private LabelIndex() {
+	}
+
+	/**
+	 * Gets instance of LabelIndex.
+	 *
+	 * @return LabelIndex instance
+	 */
+	static synchronized LabelIndex getInstance() {
+		if (instance == null) {
+			instance = new LabelIndex();
+		}
+		return instance;
+	}
+
+	/**
+	 * Marks start of a widget lookup. Resolved labels are kept until the matching {@link #endLookup()}
+	 * is called. Lookups can be nested.
+	 */
+	synchronized void beginLookup() {
+		lookups++;
+	}
+
+	/**
+	 * Marks end of a widget lookup. Resolved labels are dropped when the outermost lookup ends.
+	 */
+	synchronized void endLookup() {
+		if (lookups > 0 && --lookups == 0) {
+			formLabels.clear();
+			precedingLabels.clear();
+			roots.clear();
+		}
+	}
+
+	/**
+	 * Gets root control used to resolve preceding labels of controls located in specified shell.
+	 *
+	 * @param shell shell of the control
+	 * @return root control or null if it is not known yet
+	 */
+	synchronized Control getRoot(Shell shell) {
+		return roots.get(shell);
+	}
+
+	/**
+	 * Remembers root control used to resolve preceding labels of controls located in specified shell
+	 * until the current lookup ends.
+	 *
+	 * @param shell shell of the control
+	 * @param root root control
+	 */
+	synchronized void putRoot(Shell shell, Control root) {
+		if (lookups > 0) {
+			roots.put(shell, root);
+		}
+	}
+
+	/**
+	 * Gets text of label attached to specified control by form data layout.
+	 *
+	 * Note: Must be used in UI Thread
+	 *
+	 * @param control control to get label for
+	 * @return label text or null if there is no such label
+	 */
+	synchronized String getFormLabel(Control control) {
+		Widget parent = control.getParent();
+		if (parent == null) {
+			return null;
+		}
+		Map<Control, String> labels = formLabels.get(parent);
+		if (labels == null) {
+			labels = collectFormLabels(parent);
+			if (lookups > 0) {
+				formLabels.put(parent, labels);
+			}
+		}
+		return labels.get(control);
+	}
+
+	/**
+	 * Gets text of the closest label without image preceding specified control among
+	 * visible widgets of specified root control.
+	 *
+	 * Note: Must be used in UI Thread
+	 *
+	 * @param root root control
+	 * @param control control to get label for
+	 * @return label text or null if there is no such label
+	 */
+	synchronized String getPrecedingLabel(Control root, Control control) {
+		Map<Control, String> labels = precedingLabels.get(root);
+		if (labels == null) {
+			labels = new HashMap<Control, String>();
+			collectPrecedingLabels(root, null, labels, new HashSet<Widget>());
+			if (lookups > 0) {
+				precedingLabels.put(root, labels);
+			}
+		}
+		return labels.get(control);
+	}
+
+	private Map<Control, String> collectFormLabels(Widget parent) {
+		Map<Control, String> labels = new HashMap<Control, String>();
+		for (Widget child : getChildren(parent)) {
+			if (child instanceof Label || child instanceof CLabel) {
+				Object layoutData = ((Control) child).getLayoutData();
+				if (layoutData instanceof FormData) {
+					FormData formData = (FormData) layoutData;
+					if (formData.right != null && formData.right.control != null
+							&& !labels.containsKey(formData.right.control)) {
+						labels.put(formData.right.control, getText(child));
+					}
+				}
+			}
+		}
+		return labels;
+	}
+
+	/**
+	 * Walks visible widgets in the same order as {@link WidgetLookup} and maps each control
+	 * to the text of the last label without image visited before it.
+	 *
+	 * @return text of the last label without image visited so far
+	 */
+	private String collectPrecedingLabels(Widget widget, String precedingLabel, Map<Control, String> labels,
+			Set<Widget> visited) {
+		if (widget == null || widget.isDisposed() || (widget instanceof Control && !((Control) widget).getVisible())
+				|| !visited.add(widget)) {
+			return precedingLabel;
+		}
+		if (widget instanceof Control && precedingLabel != null) {
+			labels.put((Control) widget, precedingLabel);
+		}
+		if (widget instanceof Label && ((Label) widget).getImage() == null
+				|| widget instanceof CLabel && ((CLabel) widget).getImage() == null) {
+			precedingLabel = getText(widget);
+		}
+		for (Widget child : getChildren(widget)) {
+			precedingLabel = collectPrecedingLabels(child, precedingLabel, labels, visited);
+		}
+		return precedingLabel;
+	}
+
+	private List<Widget> getChildren(Widget widget) {
+		try {
+			return WidgetResolver.getInstance().getChildren(widget);
+		} catch (SWTException e) {
+			if (!widget.isDisposed()) {
+				throw e;
+			}
+			// widget is disposed so it has no children
+			return new ArrayList<Widget>();
+		}
+	}
+
+	private String getText(Widget label) {
+		return label instanceof Label ? ((Label) label).getText() : ((CLabel) label).getText();
+	}
+}
@@ -61,11 +61,17 @@ public class ShellLookup {
 	 * If there is no active shell at the moment waits for a shell to become active.
 	 * If there is no active shell even after waiting has finished then shell with focus is returned.
 	 * If there still is no active shell, shell with highest index is returned.
+	 * <br>
+	 * If {@link ShellRegistry} is enabled, no waiting is performed. Active shell or the most recently
+	 * activated or shown visible shell tracked by the registry is returned instead.
 	 * 
 	 * @return active shell, or focused shell if there is no active shell 
 	 * or shell with highest index if there is no active or focused shell
 	 */
 	public Shell getActiveShell() {
+		if (ShellRegistry.getInstance().isEnabled()) {
+			return ShellRegistry.getInstance().getActiveShell();
+		}
 		new WaitUntil(new ActiveShellExists(), TimePeriod.SHORT, false);
 		Shell activeShell = getCurrentActiveShell();
 		// try to find shell with focus
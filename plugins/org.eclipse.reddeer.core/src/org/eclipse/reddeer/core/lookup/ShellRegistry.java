@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.lookup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Shell registry tracks shells of the display by Activate, Deactivate, Show, Hide and Dispose
+ * display filters. It keeps visible shells ordered by the time they were last activated or shown,
+ * so the active shell is known immediately even if the window manager does not activate shells.
+ * Registry is accessed only in UI thread.
+ * <br>
+ * Registry is used by {@link ShellLookup#getActiveShell()} if it is enabled by
+ * {@link RedDeerProperties#SHELL_REGISTRY} property or by {@link #setEnabled(boolean)}.
+ */
+public class ShellRegistry {
+
+	private static final Logger log = Logger.getLogger(ShellRegistry.class);
+
+	private static final int[] TRACKED_EVENTS = { SWT.Activate, SWT.Deactivate, SWT.Show, SWT.Hide, SWT.Dispose };
+
+	private static ShellRegistry instance;
+
+	private volatile boolean enabled;
+
+	private org.eclipse.swt.widgets.Display installedDisplay;
+
+	// visible shells, the most recently activated or shown is the last one
+	private final LinkedHashSet<Shell> recentShells = new LinkedHashSet<Shell>();
+
+	private Shell activeShell;
+
+	private final Listener trackingListener = new Listener() {
+
+		@Override
+		public void handleEvent(Event event) {
+			if (event.widget instanceof Shell) {
+				shellChanged((Shell) event.widget, event.type);
+			} else if (event.type == SWT.Activate && event.widget instanceof Control) {
+				shellChanged(((Control) event.widget).getShell(), event.type);
+			}
+		}
+	};
+
+	private ShellRegistry() {
+		enabled = RedDeerProperties.SHELL_REGISTRY.getBooleanValue();
+	}
+
+	/**
+	 * Gets instance of ShellRegistry.
+	 *
+	 * @return ShellRegistry instance
+	 */
+	public static synchronized ShellRegistry getInstance() {
+		if (instance == null) {
+			instance = new ShellRegistry();
+		}
+		return instance;
+	}
+
+	/**
+	 * Finds out whether registry is used by shell lookup.
+	 *
+	 * @return true if registry is enabled, false otherwise
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables registry.
+	 *
+	 * @param enabled true to enable registry, false to disable it
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Gets active shell of the display. If the display has no active shell, the most recently
+	 * activated or shown shell which is still visible is returned. If no such shell was tracked,
+	 * visible shell with highest index is returned.
+	 *
+	 * @return active or last visible shell or null if there is no visible shell
+	 */
+	public Shell getActiveShell() {
+		install();
+		return Display.syncExec(new ResultRunnable<Shell>() {
+
+			@Override
+			public Shell run() {
+				Shell shell = Display.getDisplay().getActiveShell();
+				if (isVisible(shell)) {
+					return shell;
+				}
+				if (isVisible(activeShell)) {
+					return activeShell;
+				}
+				List<Shell> recent = new ArrayList<Shell>(recentShells);
+				for (int i = recent.size() - 1; i >= 0; i--) {
+					if (isVisible(recent.get(i))) {
+						return recent.get(i);
+					}
+				}
+				Shell[] shells = Display.getDisplay().getShells();
+				for (int i = shells.length - 1; i >= 0; i--) {
+					if (isVisible(shells[i])) {
+						return shells[i];
+					}
+				}
+				return null;
+			}
+		});
+	}
+
+	private void shellChanged(Shell shell, int eventType) {
+		switch (eventType) {
+		case SWT.Activate:
+			activeShell = shell;
+			recentShells.remove(shell);
+			recentShells.add(shell);
+			break;
+		case SWT.Show:
+			recentShells.remove(shell);
+			recentShells.add(shell);
+			break;
+		case SWT.Deactivate:
+			if (shell == activeShell) {
+				activeShell = null;
+			}
+			break;
+		default:
+			// hidden or disposed shell
+			if (shell == activeShell) {
+				activeShell = null;
+			}
+			recentShells.remove(shell);
+		}
+	}
+
+	private boolean isVisible(Shell shell) {
+		return shell != null && !shell.isDisposed() && shell.isVisible();
+	}
+
+	private void install() {
+		final org.eclipse.swt.widgets.Display display = Display.getDisplay();
+		synchronized (this) {
+			if (display == installedDisplay) {
+				return;
+			}
+			installedDisplay = display;
+		}
+		Display.syncExec(new Runnable() {
+
+			@Override
+			public void run() {
+				recentShells.clear();
+				activeShell = null;
+				for (Shell shell : display.getShells()) {
+					if (isVisible(shell)) {
+						recentShells.add(shell);
+					}
+				}
+				for (int eventType : TRACKED_EVENTS) {
+					display.addFilter(eventType, trackingListener);
+				}
+			}
+		});
+		log.debug("Display event filters tracking shells were registered");
+	}
+}
@@ -16,8 +16,11 @@ import java.util.List;
 
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
 import org.hamcrest.Matcher;
 import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
 import org.eclipse.reddeer.common.wait.TimePeriod;
 import org.eclipse.reddeer.common.wait.WaitUntil;
 import org.eclipse.reddeer.core.exception.CoreLayerException;
@@ -26,6 +29,8 @@ import org.eclipse.reddeer.core.handler.TreeItemHandler;
 
 /**
  * Tree item lookup provides methods for looking up tree items located within trees.
+ * Each level of the path is read and matched in one pass in UI thread and only tree items
+ * on matching paths are expanded.
  * 
  * @author Lucia Jelinkova
  *
@@ -50,6 +55,7 @@ public class TreeItemLookup {
 	
 	/**
 	 * Walks through specified tree and finds tree item with specified index matching specified matchers.
+	 * Tree is walked depth first and walking stops as soon as the item is found.
 	 * <br>
 	 * Example:
 	 * Tree item with path "A", "AA", "AAB" can be matched by the following
@@ -61,11 +67,8 @@ public class TreeItemLookup {
 	 * @return tree item on specified index matching specified matchers in specified tree 
 	 */
 	public TreeItem getTreeItem(Tree tree, int index, Matcher<TreeItem>... matchers){
-		List<TreeItem> result = getTreeItems(tree, matchers);
-		if (result.size() < index + 1) {
-			throw new CoreLayerException("Specified index (" + index + ") is bigger or equal as the number of found items (" + result.size() + ")");
-		}
-		return result.get(index);
+		new WaitUntil(new TreeHasChildren(tree));
+		return getTreeItem(findTreeItems(tree, index + 1, matchers), index);
 	}
 	
 	/**
@@ -81,12 +84,12 @@ public class TreeItemLookup {
 	 */
 	public List<TreeItem> getTreeItems(Tree tree, Matcher<TreeItem>... pathItemMatchers){
 		new WaitUntil(new TreeHasChildren(tree));
-		List<TreeItem> items = TreeHandler.getInstance().getSWTItems(tree);
-		return getTreeItems(items, pathItemMatchers);
+		return findTreeItems(tree, Integer.MAX_VALUE, pathItemMatchers);
 	}
 
 	/**
 	 * Walks through specified tree item and finds tree item with specified index matching specified matchers.
+	 * Tree item is walked depth first and walking stops as soon as the item is found.
 	 * <br>
 	 * Example:
 	 * Tree item with path "A", "AA", "AAB" can be matched by the following
@@ -98,11 +101,7 @@ public class TreeItemLookup {
 	 * @return tree item on specified index matching specified matchers in specified tree item
 	 */
 	public TreeItem getTreeItem(TreeItem treeItem, int index, Matcher<TreeItem>... matchers){
-		List<TreeItem> result = getTreeItems(treeItem, matchers);
-		if (result.size() < index + 1) {
-			throw new CoreLayerException("Specified index (" + index + ") is bigger or equal as the number of found items (" + result.size() + ")");
-		}
-		return result.get(index);
+		return getTreeItem(findTreeItems(treeItem, index + 1, matchers), index);
 	}
 	
 	/**
@@ -117,49 +116,117 @@ public class TreeItemLookup {
 	 * @return tree items matching specified matchers in specified tree item
 	 */
 	public List<TreeItem> getTreeItems(TreeItem treeItem, Matcher<TreeItem>... pathItemMatchers){
-		List<TreeItem> items = TreeItemHandler.getInstance().getChildrenItems(treeItem);
-		return getTreeItems(items, pathItemMatchers);
+		return findTreeItems(treeItem, Integer.MAX_VALUE, pathItemMatchers);
 	}
 	
-	private List<TreeItem> getTreeItems(List<TreeItem> items, Matcher<TreeItem>... pathItemMatchers) {
+	private TreeItem getTreeItem(List<TreeItem> result, int index) {
+		if (result.size() < index + 1) {
+			throw new CoreLayerException("Specified index (" + index + ") is bigger or equal as the number of found items (" + result.size() + ")");
+		}
+		return result.get(index);
+	}
+	
+	/**
+	 * Finds at most limit tree items matching specified matchers under specified parent. 
+	 * Items are returned in the same order as they are displayed in the tree. 
+	 * 
+	 * @param parent tree or tree item to walk through
+	 * @param limit maximal number of items to find
+	 * @param pathItemMatchers the path item matchers
+	 * @return tree items matching specified matchers
+	 */
+	private List<TreeItem> findTreeItems(Widget parent, int limit, Matcher<TreeItem>... pathItemMatchers) {
 		if (pathItemMatchers.length == 0){
-			return items;
+			return getMatchingChildren(parent, null, Integer.MAX_VALUE);
 		}
 
-		for(int index = 0; index < pathItemMatchers.length; index++) {
-			List<TreeItem> matchingItems = getMatchingTreeItems(items, pathItemMatchers[index]);
-			
-			if (matchingItems.isEmpty()){
-				throw new CoreLayerException("There are no items matching matcher " + pathItemMatchers[index]);
-			}
+		List<TreeItem> result = new ArrayList<TreeItem>();
+		int matchedLevels = findTreeItems(parent, pathItemMatchers, 0, limit, result);
+		if (result.isEmpty()) {
+			throw new CoreLayerException("There are no items matching matcher " + pathItemMatchers[matchedLevels]);
+		}
+		return result;
+	}
 
-			if (index == pathItemMatchers.length - 1) {
-				return matchingItems;
-			}
+	/**
+	 * Adds tree items matching path matchers from specified level under specified parent to the result 
+	 * until the result contains limit items. 
+	 * 
+	 * @return number of levels matched on the deepest visited path
+	 */
+	private int findTreeItems(Widget parent, Matcher<TreeItem>[] pathItemMatchers, int level, int limit,
+			List<TreeItem> result) {
+		boolean lastLevel = level == pathItemMatchers.length - 1;
+		List<TreeItem> matchingItems = getMatchingChildren(parent, pathItemMatchers[level],
+				lastLevel ? limit - result.size() : Integer.MAX_VALUE);
+		if (matchingItems.isEmpty()) {
+			return level;
+		}
+		if (lastLevel) {
+			result.addAll(matchingItems);
+			return level + 1;
+		}
 
-			items = getChildItems(matchingItems);
+		int matchedLevels = level + 1;
+		for (TreeItem item : matchingItems) {
+			matchedLevels = Math.max(matchedLevels, findTreeItems(item, pathItemMatchers, level + 1, limit, result));
+			if (result.size() >= limit) {
+				break;
+			}
 		}
-		
-		throw new IllegalStateException("It should never get here. This is probably flaw in lookup algoritnus");
+		return matchedLevels;
 	}
-		
-	private List<TreeItem> getChildItems(List<TreeItem> parentItems) {
-		List<TreeItem> children = new ArrayList<TreeItem>();
-		for (TreeItem parentItem : parentItems){
-			new WaitUntil(new TreeItemHasChildren(parentItem), TimePeriod.DEFAULT, false);	
-			children.addAll(TreeItemHandler.getInstance().getChildrenItems(parentItem));
+
+	/**
+	 * Gets children of specified tree or tree item matching specified matcher. Children are read
+	 * and matched in one pass in UI thread. Collapsed tree item is expanded and children of tree item
+	 * which has none yet are waited for a short time.
+	 * 
+	 * @param parent tree or tree item
+	 * @param matcher matcher of children or null to get all children
+	 * @param limit maximal number of children to return
+	 * @return matching children
+	 */
+	private List<TreeItem> getMatchingChildren(Widget parent, Matcher<TreeItem> matcher, int limit) {
+		List<TreeItem> children = matchChildren(parent, matcher, limit, false);
+		if (children == null) {
+			TreeItemHandler.getInstance().expandLazily((TreeItem) parent, TimePeriod.SHORT);
+			children = matchChildren(parent, matcher, limit, true);
 		}
 		return children;
 	}
 
-	private List<TreeItem> getMatchingTreeItems(List<TreeItem> items, Matcher<TreeItem> matcher){
-		List<TreeItem> matchingitems = new ArrayList<TreeItem>();
-		for (TreeItem item : items){
-			if (matcher.matches(item)){
-				matchingitems.add(item);
+	private List<TreeItem> matchChildren(final Widget parent, final Matcher<TreeItem> matcher, final int limit,
+			final boolean allowCollapsed) {
+		return Display.syncExec(new ResultRunnable<List<TreeItem>>() {
+			@Override
+			public List<TreeItem> run() {
+				List<TreeItem> matchingItems = new ArrayList<TreeItem>();
+				if (parent.isDisposed()) {
+					return matchingItems;
+				}
+				TreeItem[] items;
+				if (parent instanceof TreeItem) {
+					TreeItem parentItem = (TreeItem) parent;
+					// children of collapsed item or item without children can be added lazily
+					if (!allowCollapsed && (!parentItem.getExpanded() || parentItem.getItemCount() == 0)) {
+						return null;
+					}
+					items = parentItem.getItems();
+				} else {
+					items = ((Tree) parent).getItems();
+				}
+				for (TreeItem item : items) {
+					if (matchingItems.size() >= limit) {
+						break;
+					}
+					if (!item.isDisposed() && (matcher == null || matcher.matches(item))) {
+						matchingItems.add(item);
+					}
+				}
+				return matchingItems;
 			}
-		}
-		return matchingitems;
+		});
 	}
 	
 	/**
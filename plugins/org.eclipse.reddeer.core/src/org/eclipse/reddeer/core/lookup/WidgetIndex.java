@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.lookup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.reddeer.core.resolver.WidgetResolver;
+import org.eclipse.reddeer.core.util.TextWidgetUtil;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.CTabItem;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.ExpandItem;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.TabItem;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.ToolItem;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Widget index caches snapshots of visible widgets located within referenced composites.
+ * Snapshot of a composite is built in one UI thread visit when the composite is looked up for
+ * the first time and it is used by all subsequent lookups until a widget of the snapshot is disposed,
+ * shown, hidden or resized, or until a new widget appears within the composite. Events outside
+ * of indexed composites, e.g. typing or layout in other parts of workbench, do not drop any snapshot.
+ * Widgets of snapshot are further bucketed by class. Text, label, id and tooltip of widgets can change
+ * without any event, so they are never cached and matchers are always evaluated against current values
+ * of the class bucket.
+ * <br>
+ * SWT does not notify about created widgets directly. New widget is noticed when it is skinned or painted
+ * for the first time, both happen in the next run of event loop after the widget is created. A widget
+ * created and looked up in the same UI thread runnable is therefore not found until the index
+ * is invalidated, see {@link #invalidate()}.
+ *
+ * Index is disabled by default, it can be enabled by {@link RedDeerProperties#WIDGET_INDEX}
+ * property or by {@link #setEnabled(boolean)}.
+ */
+public class WidgetIndex {
+
+	private static final Logger log = Logger.getLogger(WidgetIndex.class);
+
+	private static final int[] INVALIDATING_EVENTS = { SWT.Dispose, SWT.Show, SWT.Hide, SWT.Resize, SWT.Paint };
+
+	private static WidgetIndex instance;
+
+	/**
+	 * Widget properties which can be used as index keys.
+	 */
+	public enum Key {
+		TEXT, LABEL, ID, TOOLTIP
+	}
+
+	private boolean enabled;
+
+	private final Map<Control, Snapshot> snapshots = new HashMap<Control, Snapshot>();
+
+	private final List<Control> building = new ArrayList<Control>();
+
+	private long generation;
+
+	private long hits;
+
+	private long misses;
+
+	private long invalidations;
+
+	private org.eclipse.swt.widgets.Display installedDisplay;
+
+	private final Listener invalidatingListener = new Listener() {
+
+		@Override
+		public void handleEvent(Event event) {
+			if (event.widget == null) {
+				return;
+			}
+			if ((event.type == SWT.Paint || event.type == SWT.Skin) && isIndexed(event.widget)) {
+				// only the first paint or skin of a new widget is interesting
+				return;
+			}
+			invalidate(event.widget);
+		}
+	};
+
+	private WidgetIndex() {
+		enabled = RedDeerProperties.WIDGET_INDEX.getBooleanValue();
+	}
+
+	/**
+	 * Gets instance of WidgetIndex.
+	 *
+	 * @return WidgetIndex instance
+	 */
+	public static synchronized WidgetIndex getInstance() {
+		if (instance == null) {
+			instance = new WidgetIndex();
+		}
+		return instance;
+	}
+
+	/**
+	 * Finds out whether index is used by widget lookups.
+	 *
+	 * @return true if index is enabled, false otherwise
+	 */
+	public synchronized boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables index. Disabling index drops all cached snapshots.
+	 *
+	 * @param enabled true to enable index, false to disable it
+	 */
+	public synchronized void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		if (!enabled) {
+			snapshots.clear();
+		}
+	}
+
+	/**
+	 * Gets all visible widgets located within specified parent control (including the control)
+	 * in the same order as they are found by {@link WidgetLookup}.
+	 *
+	 * @param parent parent control
+	 * @return unmodifiable list of widgets
+	 */
+	public List<Widget> getWidgets(Control parent) {
+		return getSnapshot(parent).widgets;
+	}
+
+	/**
+	 * Gets all visible widgets of specified class or its subclasses located within specified parent
+	 * control in the same order as they are found by {@link WidgetLookup}.
+	 *
+	 * @param parent parent control
+	 * @param clazz class of widgets
+	 * @return unmodifiable list of widgets
+	 */
+	public List<Widget> getWidgets(Control parent, Class<?> clazz) {
+		Snapshot snapshot = getSnapshot(parent);
+		synchronized (snapshot) {
+			List<Widget> widgets = snapshot.byClass.get(clazz);
+			if (widgets == null) {
+				widgets = new ArrayList<Widget>();
+				for (Widget widget : snapshot.widgets) {
+					if (clazz.isAssignableFrom(widget.getClass())) {
+						widgets.add(widget);
+					}
+				}
+				widgets = Collections.unmodifiableList(widgets);
+				snapshot.byClass.put(clazz, widgets);
+			}
+			return widgets;
+		}
+	}
+
+	/**
+	 * Gets all visible widgets of specified class or its subclasses located within specified parent
+	 * control whose property specified by key is equal to specified value. Widgets are in the
+	 * same order as they are found by {@link WidgetLookup}. Only the class bucket is cached, property
+	 * values can change without any event, so they are read again in one UI thread visit on each call.
+	 *
+	 * @param parent parent control
+	 * @param clazz class of widgets
+	 * @param key property used as index key
+	 * @param value expected value of the property
+	 * @return unmodifiable list of widgets
+	 */
+	public List<Widget> getWidgets(Control parent, final Class<?> clazz, final Key key, final String value) {
+		final List<Widget> candidates = getWidgets(parent, clazz);
+		// labels of all widgets are resolved by one pass
+		LabelIndex.getInstance().beginLookup();
+		try {
+			return Display.syncExec(new ResultRunnable<List<Widget>>() {
+
+				@Override
+				public List<Widget> run() {
+					List<Widget> widgets = new ArrayList<Widget>();
+					for (Widget widget : candidates) {
+						if (!widget.isDisposed() && value.equals(getKeyValue(widget, key))) {
+							widgets.add(widget);
+						}
+					}
+					return Collections.unmodifiableList(widgets);
+				}
+			});
+		} finally {
+			LabelIndex.getInstance().endLookup();
+		}
+	}
+
+	/**
+	 * Drops all cached snapshots.
+	 */
+	public synchronized void invalidate() {
+		generation++;
+		if (!snapshots.isEmpty()) {
+			invalidations++;
+			snapshots.clear();
+		}
+	}
+
+	/**
+	 * Drops cached snapshots containing specified widget or a composite the widget is located in.
+	 * Must be called in UI thread.
+	 */
+	private synchronized void invalidate(Widget widget) {
+		if (snapshots.isEmpty() && building.isEmpty()) {
+			return;
+		}
+		Set<Control> ancestors = new HashSet<Control>();
+		for (Control control = getControl(widget); control != null; control = control.getParent()) {
+			ancestors.add(control);
+		}
+		for (Control parent : building) {
+			if (ancestors.contains(parent)) {
+				// snapshot being built might already miss the change
+				generation++;
+				break;
+			}
+		}
+		boolean invalidated = false;
+		for (Iterator<Map.Entry<Control, Snapshot>> it = snapshots.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<Control, Snapshot> entry = it.next();
+			if (ancestors.contains(entry.getKey()) || entry.getValue().members.contains(widget)) {
+				it.remove();
+				invalidated = true;
+			}
+		}
+		if (invalidated) {
+			invalidations++;
+		}
+	}
+
+	private synchronized boolean isIndexed(Widget widget) {
+		for (Snapshot snapshot : snapshots.values()) {
+			if (snapshot.members.contains(widget)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets control the widget is located in. Only items which can be part of a snapshot are resolved.
+	 */
+	private Control getControl(Widget widget) {
+		if (widget instanceof Control) {
+			return (Control) widget;
+		}
+		if (widget instanceof ToolItem || widget instanceof TableItem || widget instanceof TabItem
+				|| widget instanceof CTabItem || widget instanceof ExpandItem) {
+			Widget parent = WidgetResolver.getInstance().getParent(widget);
+			return parent instanceof Control ? (Control) parent : null;
+		}
+		return null;
+	}
+
+	/**
+	 * Gets number of lookups served from a cached snapshot.
+	 *
+	 * @return number of cache hits
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	/**
+	 * Gets number of lookups which had to build a new snapshot.
+	 *
+	 * @return number of cache misses
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * Gets number of times cached snapshots were dropped because of UI changes.
+	 *
+	 * @return number of invalidations
+	 */
+	public synchronized long getInvalidationCount() {
+		return invalidations;
+	}
+
+	/**
+	 * Resets hit, miss and invalidation counters.
+	 */
+	public synchronized void resetCounters() {
+		hits = 0;
+		misses = 0;
+		invalidations = 0;
+	}
+
+	private Snapshot getSnapshot(Control parent) {
+		long buildGeneration;
+		synchronized (this) {
+			Snapshot snapshot = snapshots.get(parent);
+			if (snapshot != null) {
+				hits++;
+				return snapshot;
+			}
+			misses++;
+			buildGeneration = generation;
+			building.add(parent);
+		}
+		Snapshot snapshot = null;
+		try {
+			installListeners();
+			snapshot = new Snapshot(WidgetLookup.getInstance().getAllWidgetsInOneVisit(parent));
+		} finally {
+			synchronized (this) {
+				building.remove(parent);
+				// store snapshot only if nothing changed while it was being built
+				if (snapshot != null && enabled && buildGeneration == generation) {
+					snapshots.put(parent, snapshot);
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	private String getKeyValue(Widget widget, Key key) {
+		try {
+			switch (key) {
+			case TEXT:
+				return TextWidgetUtil.hasText(widget) ? TextWidgetUtil.getText(widget) : null;
+			case TOOLTIP:
+				return TextWidgetUtil.hasToolTipText(widget) ? TextWidgetUtil.getToolTipText(widget) : null;
+			case LABEL:
+				return widget instanceof Control ? WidgetLookup.getInstance().getLabel((Control) widget) : null;
+			case ID:
+				Object id = widget.getData(RedDeerProperties.DEFAULT_KEY.getValue());
+				return id == null ? null : id.toString();
+			default:
+				return null;
+			}
+		} catch (RedDeerException ex) {
+			// widget does not have such property
+			return null;
+		}
+	}
+
+	private void installListeners() {
+		final org.eclipse.swt.widgets.Display display = Display.getDisplay();
+		synchronized (this) {
+			if (display == installedDisplay) {
+				return;
+			}
+			installedDisplay = display;
+		}
+		Display.syncExec(new Runnable() {
+
+			@Override
+			public void run() {
+				for (int eventType : INVALIDATING_EVENTS) {
+					display.addFilter(eventType, invalidatingListener);
+				}
+			}
+		});
+		log.debug("Display event filters invalidating widget index were registered");
+	}
+
+	private static class Snapshot {
+
+		private final List<Widget> widgets;
+
+		private final Set<Widget> members;
+
+		private final Map<Class<?>, List<Widget>> byClass = new HashMap<Class<?>, List<Widget>>();
+
+		private Snapshot(List<Widget> widgets) {
+			this.widgets = Collections.unmodifiableList(widgets);
+			this.members = new HashSet<Widget>(widgets);
+		}
+	}
+}
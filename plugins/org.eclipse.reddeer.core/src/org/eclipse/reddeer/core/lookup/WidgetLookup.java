@@ -15,13 +15,9 @@ import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 
 import org.eclipse.swt.SWTException;
-import org.eclipse.swt.custom.CLabel;
-import org.eclipse.swt.layout.FormData;
 import org.eclipse.swt.widgets.Control;
-import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
 import org.hamcrest.BaseMatcher;
@@ -32,6 +28,7 @@ import org.eclipse.reddeer.common.exception.WaitTimeoutExpiredException;
 import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.common.matcher.AndMatcher;
 import org.eclipse.reddeer.common.matcher.MatcherBuilder;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.common.util.Display;
 import org.eclipse.reddeer.common.util.ObjectUtil;
 import org.eclipse.reddeer.common.util.ResultRunnable;
@@ -59,7 +56,10 @@ public class WidgetLookup {
 	private static WidgetLookup instance = null;
 	private static final Logger logger = Logger.getLogger(WidgetLookup.class);
 
+	private boolean singleUIVisit;
+
 	private WidgetLookup() {
+		singleUIVisit = RedDeerProperties.SINGLE_UI_VISIT_LOOKUP.getBooleanValue();
 	}
 
 	/**
@@ -72,6 +72,27 @@ public class WidgetLookup {
 		return instance;
 	}
 
+	/**
+	 * Finds out whether widget tree is traversed within one UI thread visit. 
+	 * 
+	 * @return true if whole subtree is traversed in one UI thread visit, false if each widget is visited separately
+	 */
+	public boolean isSingleUIVisit() {
+		return singleUIVisit;
+	}
+
+	/**
+	 * Sets whether widget tree should be traversed within one UI thread visit. If enabled, visibility
+	 * check, children resolving and matching of all widgets in subtree are performed in one 
+	 * UI thread visit. Matchers are then evaluated in UI thread, so they must not wait for 
+	 * UI thread themselves. Default value is taken from {@link RedDeerProperties#SINGLE_UI_VISIT_LOOKUP}.
+	 * 
+	 * @param singleUIVisit true to traverse whole subtree in one UI thread visit, false to visit each widget separately
+	 */
+	public void setSingleUIVisit(boolean singleUIVisit) {
+		this.singleUIVisit = singleUIVisit;
+	}
+
 	/**
 	 * Method looks for active widget located in specified referenced composite, laying on specified index and matching specified matchers.
 	 *
@@ -100,7 +121,7 @@ public class WidgetLookup {
 	 */
 	@SuppressWarnings({ "rawtypes","unchecked" })
 	public <T extends Widget> T activeWidget(ReferencedComposite refComposite, Class<T> clazz, int index, TimePeriod timePeriod, Matcher... matchers) {				
-		logger.debug("Looking up active widget with class type " + clazz.getName() + createRererencedCompositeDebugMsg(refComposite) +
+		logger.debug(() -> "Looking up active widget with class type " + clazz.getName() + createRererencedCompositeDebugMsg(refComposite) +
 				", index " + index + " and " + createMatcherDebugMsg(matchers));
 
 		Control parentControl = getParentControl(refComposite);
@@ -113,7 +134,7 @@ public class WidgetLookup {
 			logger.error("Active widget with class type " + clazz.getName() +  " and index " + index + " was not found");
 			throw new CoreLayerException(exceptionText, ex);
 		}
-		logger.debug("Active widget with class type " + clazz.getName() +  " and index " + index + " was found");
+		logger.debug(() -> "Active widget with class type " + clazz.getName() +  " and index " + index + " was found");
 		return (T)found.getResult();
 	}
 	
@@ -138,14 +159,14 @@ public class WidgetLookup {
 	 * @return widgets located in specified referenced composite and matching specified matchers
 	 */
 	public <T extends Widget> List<T> activeWidgets(ReferencedComposite refComposite, Class<T> clazz, Matcher<?>... matchers) {				
-		logger.debug("Looking up active widgets with class type " + clazz.getName() +  " and " + createMatcherDebugMsg(matchers));
+		logger.debug(() -> "Looking up active widgets with class type " + clazz.getName() +  " and " + createMatcherDebugMsg(matchers));
 
 		ClassMatcher cm = new ClassMatcher(clazz);
 		Matcher<?>[] allMatchers = MatcherBuilder.getInstance().addMatcher(matchers, cm);
 		AndMatcher am  = new AndMatcher(allMatchers);
 
 		List<T> foundWidgets = activeWidgets(refComposite.getControl(), am);
-		logger.debug("Found " + foundWidgets.size() + " widgets");
+		logger.debug(() -> "Found " + foundWidgets.size() + " widgets");
 		return foundWidgets;
 	}
 
@@ -185,8 +206,18 @@ public class WidgetLookup {
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public <T extends Widget> List<T> activeWidgets(Control refComposite, Matcher matcher) {
 		logger.trace("Looking up widgets with specified parent and matchers");
-		List<T> widgets = findControls(refComposite, matcher, true);
-		logger.trace(widgets.size() + " widget(s) found");
+		List<T> widgets;
+		LabelIndex.getInstance().beginLookup();
+		try {
+			if (refComposite != null && WidgetIndex.getInstance().isEnabled()) {
+				widgets = findIndexedControls(refComposite, matcher, -1);
+			} else {
+				widgets = findControls(refComposite, matcher, true);
+			}
+		} finally {
+			LabelIndex.getInstance().endLookup();
+		}
+		logger.trace(() -> widgets.size() + " widget(s) found");
 		return widgets;
 	}
 
@@ -201,10 +232,20 @@ public class WidgetLookup {
 	 */
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public <T extends Widget> T activeWidget(Control refComposite, Matcher matcher, int index) {
-		String widgetDescription = "widget with index " + index;
-		logger.trace("Looking up " + widgetDescription + " with specified parent and matchers");
-		T widget = (T)findControl(refComposite, matcher, true, index);
-		logger.trace(widgetDescription + (widget != null ? " is found" : "is not found"));
+		logger.trace(() -> "Looking up widget with index " + index + " with specified parent and matchers");
+		T widget;
+		LabelIndex.getInstance().beginLookup();
+		try {
+			if (refComposite != null && WidgetIndex.getInstance().isEnabled()) {
+				List<T> widgets = findIndexedControls(refComposite, matcher, index);
+				widget = widgets.isEmpty() ? null : widgets.get(0);
+			} else {
+				widget = (T)findControl(refComposite, matcher, true, index);
+			}
+		} finally {
+			LabelIndex.getInstance().endLookup();
+		}
+		logger.trace(() -> "widget with index " + index + (widget != null ? " is found" : " is not found"));
 		return widget;
 	}
 
@@ -288,6 +329,112 @@ public class WidgetLookup {
 		return findControls;
 	}
 
+	/**
+	 * Looks for widgets of specified class located in specified referenced composite whose property
+	 * specified by key is equal to specified value. Lookup uses {@link WidgetIndex}, so the widget tree
+	 * is traversed only if there is no valid snapshot of the referenced composite.
+	 *
+	 * @param <T> the generic type
+	 * @param refComposite reference composite to search for widgets, if null active parent is used
+	 * @param clazz class type of widgets
+	 * @param key property used as index key
+	 * @param value expected value of the property
+	 * @return widgets located in specified referenced composite having the property with specified value
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Widget> List<T> indexedWidgets(ReferencedComposite refComposite, Class<T> clazz,
+			WidgetIndex.Key key, String value) {
+		Control parentControl = getParentControl(refComposite);
+		List<T> widgets = new ArrayList<T>();
+		for (Widget widget : WidgetIndex.getInstance().getWidgets(parentControl, clazz, key, value)) {
+			if (!widget.isDisposed()) {
+				widgets.add((T) widget);
+			}
+		}
+		return widgets;
+	}
+
+	/**
+	 * Gets all visible widgets located within specified parent control including the control
+	 * itself. Whole subtree is traversed within one UI thread visit.
+	 * 
+	 * @param parent parent control
+	 * @return list of all visible widgets within parent control 
+	 */
+	List<Widget> getAllWidgetsInOneVisit(final Control parent) {
+		return Display.syncExec(new ResultRunnable<List<Widget>>() {
+
+			@Override
+			public List<Widget> run() {
+				LinkedHashSet<Widget> widgets = new LinkedHashSet<Widget>();
+				collectControlsInUIThread(parent, new BaseMatcher<Widget>() {
+
+					@Override
+					public boolean matches(Object item) {
+						return true;
+					}
+
+					@Override
+					public void describeTo(Description description) {
+					}
+				}, true, widgets);
+				return new ArrayList<Widget>(widgets);
+			}
+		});
+	}
+
+	/**
+	 * Finds controls matching specified matcher among widgets of cached snapshot of parent widget.
+	 * Class matchers are used to narrow candidates by index, the matcher is then evaluated on each candidate.
+	 * 
+	 * @param parentWidget parent widget to search for controls
+	 * @param matcher matcher to match controls
+	 * @param index index of control to find or -1 to find all matching controls
+	 * @return list of matching controls or list containing only control with specified index
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private <T extends Widget> List<T> findIndexedControls(final Control parentWidget, final Matcher matcher, final int index) {
+		if (parentWidget.isDisposed()) {
+			return new ArrayList<T>();
+		}
+		final List<Widget> candidates = getIndexedCandidates(parentWidget, matcher);
+		ResultRunnable<List<T>> matching = new ResultRunnable<List<T>>() {
+
+			@Override
+			public List<T> run() {
+				List<T> controls = new ArrayList<T>();
+				Index remaining = new Index(index);
+				for (Widget candidate : candidates) {
+					if (candidate.isDisposed() || !matcher.matches(candidate)) {
+						continue;
+					}
+					if (index < 0) {
+						controls.add((T) candidate);
+					} else if (remaining.isFirst()) {
+						controls.add((T) candidate);
+						break;
+					} else {
+						remaining.passed();
+					}
+				}
+				return controls;
+			}
+		};
+		return singleUIVisit ? Display.syncExec(matching) : matching.run();
+	}
+
+	@SuppressWarnings("rawtypes")
+	private List<Widget> getIndexedCandidates(Control parentWidget, Matcher matcher) {
+		Matcher[] matchers = matcher instanceof AndMatcher ? ((AndMatcher) matcher).getMatchers() : new Matcher[] { matcher };
+		Class<?> clazz = Widget.class;
+		for (Matcher part : matchers) {
+			if (part instanceof ClassMatcher && clazz.isAssignableFrom(((ClassMatcher) part).getWidgetClass())) {
+				clazz = ((ClassMatcher) part).getWidgetClass();
+			}
+		}
+		return WidgetIndex.getInstance().getWidgets(parentWidget, clazz);
+	}
+
 	/**
 	 * Finds list of controls matching specified matchers for parent widget.
 	 * 
@@ -298,11 +445,31 @@ public class WidgetLookup {
 	 */
 	private <T extends Widget> List<T> findControls(final Widget parentWidget, 
 			final Matcher<T> matcher, final boolean recursive) {
+		if (singleUIVisit) {
+			return Display.syncExec(new ResultRunnable<List<T>>() {
+
+				@Override
+				public List<T> run() {
+					LinkedHashSet<T> controls = new LinkedHashSet<T>();
+					collectControlsInUIThread(parentWidget, matcher, recursive, controls);
+					return new ArrayList<T>(controls);
+				}
+			});
+		}
 		return findControlsUI(parentWidget, matcher, recursive);
 	}
 
 	private <T extends Widget> T findControl(final Widget parentWidget, 
 			final Matcher<T> matcher, final boolean recursive, final int index) {
+		if (singleUIVisit) {
+			return Display.syncExec(new ResultRunnable<T>() {
+
+				@Override
+				public T run() {
+					return findControlInUIThread(parentWidget, matcher, recursive, new Index(index));
+				}
+			});
+		}
 		return findControlUI(parentWidget, matcher, recursive, new Index(index));
 	}
 
@@ -448,6 +615,97 @@ public class WidgetLookup {
 		return null;
 	}
 
+	/**
+	 * Collects all widgets matching specified matcher within subtree of specified widget
+	 * in the same order as {@link #findControlsUI(Widget, Matcher, boolean)}.
+	 * 
+	 * Note: Must be used in UI Thread
+	 * 
+	 * @param widget root of subtree to traverse
+	 * @param matcher matcher to match widgets
+	 * @param recursive true for recursive search, false otherwise
+	 * @param controls collection to add matching widgets to
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends Widget> void collectControlsInUIThread(final Widget widget, final Matcher<T> matcher,
+			final boolean recursive, LinkedHashSet<T> controls) {
+		if (!visibleInUIThread(widget)) {
+			return;
+		}
+		if (matcher.matches(widget)) {
+			try {
+				controls.add((T) widget);
+			} catch (ClassCastException exception) {
+				throw new IllegalArgumentException("The specified matcher should only match against is declared type.", exception);
+			}
+		}
+		if (recursive) {
+			for (Widget child : getChildrenInUIThread(widget)) {
+				collectControlsInUIThread(child, matcher, recursive, controls);
+			}
+		}
+	}
+
+	/**
+	 * Finds widget matching specified matcher with specified index within subtree of specified widget
+	 * in the same order as {@link #findControlUI(Widget, Matcher, boolean, Index)}.
+	 * 
+	 * Note: Must be used in UI Thread
+	 * 
+	 * @param widget root of subtree to traverse
+	 * @param matcher matcher to match widgets
+	 * @param recursive true for recursive search, false otherwise
+	 * @param index index of matching widget
+	 * @return widget matching specified matcher with specified index or null if there is no such widget
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends Widget> T findControlInUIThread(final Widget widget, final Matcher<T> matcher,
+			final boolean recursive, Index index) {
+		if (!visibleInUIThread(widget)) {
+			return null;
+		}
+		if (matcher.matches(widget)) {
+			try {
+				T control = (T) widget;
+				if (index.isFirst()) {
+					return control;
+				} else {
+					index.passed();
+				}
+			} catch (ClassCastException exception) {
+				throw new IllegalArgumentException("The specified matcher should only match against is declared type.", exception);
+			}
+		}
+		if (recursive) {
+			for (Widget child : getChildrenInUIThread(widget)) {
+				T control = findControlInUIThread(child, matcher, recursive, index);
+				if (control != null) {
+					return control;
+				}
+			}
+		}
+		return null;
+	}
+
+	private List<Widget> getChildrenInUIThread(Widget widget) {
+		try {
+			return WidgetResolver.getInstance().getChildren(widget);
+		} catch (SWTException e) {
+			if (!widget.isDisposed()) {
+				throw e;
+			}
+			// widget is disposed so it has no children
+			return new ArrayList<Widget>();
+		}
+	}
+
+	private boolean visibleInUIThread(Widget w) {
+		if (w == null || w.isDisposed()) {
+			return false;
+		}
+		return !((w instanceof Control) && !((Control) w).getVisible());
+	}
+
 	/**
 	 * Finds out whether widget is visible or not.
 	 * 
@@ -516,62 +774,23 @@ public class WidgetLookup {
 	 * @return label of specified widget
 	 */
 	public <T extends Control> String getLabel(final T control) {
+		final LabelIndex labelIndex = LabelIndex.getInstance();
 		String label = Display.syncExec(new ResultRunnable<String>() {
 
 			@Override
 			public String run() {
-				Control parent = control.getParent();
-				if(parent != null){
-					java.util.List<Widget> children = WidgetResolver.getInstance()
-							.getChildren(parent);
-					// check whether a label is defined using form data layout
-					for (Widget child : children) {
-						if (child instanceof Label || child instanceof CLabel) {
-							Object layoutData = ((Control) child).getLayoutData();
-							if (layoutData instanceof FormData) {
-								FormData formData = (FormData) layoutData;
-								if (formData.right != null && control.equals(formData.right.control)) {
-									if (child instanceof Label) {
-										return ((Label) child).getText();
-									} else if (child instanceof CLabel) {
-										return ((CLabel) child).getText();
-									}
-								}
-							}
-						}
-					}
-				}
-				return null;
+				// check whether a label is defined using form data layout
+				return labelIndex.getFormLabel(control);
 			}
 		});
 		
 		if(label == null && ControlHandler.getInstance().getParent(control) != null){
-			java.util.List<Control> allWidgets = findAllParentWidgets(ControlHandler.getInstance().getParent(control));
+			final Control root = getLabelRoot(ControlHandler.getInstance().getParent(control));
 			label = Display.syncExec(new ResultRunnable<String>() {
 
 				@Override
 				public String run() {
-					int widgetIndex = allWidgets.indexOf(control);
-					if (widgetIndex < 0) {
-						return null;
-					}
-					ListIterator<? extends Widget> listIterator = allWidgets.listIterator(widgetIndex);
-					while (listIterator.hasPrevious()) {
-						Widget previousWidget = listIterator.previous();
-						if (previousWidget instanceof Label) {
-							Label label = (Label) previousWidget;
-							if (label.getImage() == null) {
-								return label.getText();
-							}
-						}
-						if (previousWidget instanceof CLabel) {
-							CLabel cLabel = (CLabel) previousWidget;
-							if (cLabel.getImage() == null) {
-								return cLabel.getText();
-							}
-						}
-					}
-					return null;
+					return labelIndex.getPrecedingLabel(root, control);
 				}
 			});
 		}
@@ -581,15 +800,17 @@ public class WidgetLookup {
 		return label;
 	}
 	
-	/**
-	 * Find all parent widgets.
-	 *
-	 * @return the list
-	 */
-	public List<Control> findAllParentWidgets(Control control) {
-		Control parent = null;
-		
+	private Control getLabelRoot(Control control) {
 		Shell controlShell = ControlHandler.getInstance().getShell(control);
+		Control root = LabelIndex.getInstance().getRoot(controlShell);
+		if (root == null) {
+			root = getAllWidgetsParent(controlShell);
+			LabelIndex.getInstance().putRoot(controlShell, root);
+		}
+		return root;
+	}
+	
+	private Control getAllWidgetsParent(Shell controlShell) {
 		Shell activeWorkbenchParentShell = null;
 		
 		if(getWorkbenchShellLookup() != null){
@@ -597,10 +818,18 @@ public class WidgetLookup {
 		}
 		
 		if(controlShell.equals(activeWorkbenchParentShell) && getWorkbenchLookup() != null){
-			parent = getWorkbenchLookup().getActiveWorkbenchPartControl();
-		} else {
-			parent = controlShell;
+			return getWorkbenchLookup().getActiveWorkbenchPartControl();
 		}
+		return controlShell;
+	}
+	
+	/**
+	 * Find all parent widgets.
+	 *
+	 * @return the list
+	 */
+	public List<Control> findAllParentWidgets(Control control) {
+		Control parent = getAllWidgetsParent(ControlHandler.getInstance().getShell(control));
 		
 		List<Control> allWidgets = findControls(parent, new BaseMatcher<Control>() {
 
@@ -87,6 +87,9 @@ public abstract class AbstractWidgetWithTextMatcher extends BaseMatcher<String>
 	 * @return the string
 	 */
 	protected String extractWidgetText(Widget widget) {
+		if (!TextWidgetUtil.hasText(widget)) {
+			return null;
+		}
 		try {
 			return TextWidgetUtil.getText(widget);
 		} catch (RedDeerException ex) {
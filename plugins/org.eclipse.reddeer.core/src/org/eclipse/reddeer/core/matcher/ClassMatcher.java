@@ -44,6 +44,15 @@ public class ClassMatcher extends BaseMatcher {
 		this.c = c;
 	}
 	
+	/**
+	 * Gets class used as a base for matching.
+	 * 
+	 * @return class of matched widgets
+	 */
+	public Class<? extends Widget> getWidgetClass() {
+		return c;
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.hamcrest.Matcher#matches(java.lang.Object)
 	 */
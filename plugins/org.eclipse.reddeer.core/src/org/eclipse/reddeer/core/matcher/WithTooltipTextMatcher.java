@@ -55,6 +55,9 @@ public class WithTooltipTextMatcher extends AbstractWidgetWithTextMatcher {
 	 */
 	@Override
 	protected String extractWidgetText(Widget widget) {
+		if (!TextWidgetUtil.hasToolTipText(widget)) {
+			return null;
+		}
 		try{
 			return TextWidgetUtil.getToolTipText(widget);
 		} catch (CoreLayerException ex) {
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Item;
+import org.hamcrest.Matcher;
+
+/**
+ * Immutable snapshot of rows of a table or a tree captured within one UI thread visit.
+ * Texts and images are stored by columns, so rows can be queried and matched outside of
+ * UI thread without further access to the widget. Cells of nonexisting columns are empty
+ * and without image as in SWT.
+ * 
+ */
+public class ItemsSnapshot {
+
+	private final Item[] items;
+	private final String[][] texts;
+	private final Image[][] images;
+	private final boolean[] checked;
+	private final String[][] paths;
+
+	private ItemsSnapshot(Builder builder) {
+		int rowCount = builder.rowCount;
+		this.items = Arrays.copyOf(builder.items, rowCount);
+		this.texts = new String[builder.columnCount][];
+		this.images = new Image[builder.columnCount][];
+		for (int column = 0; column < builder.columnCount; column++) {
+			texts[column] = Arrays.copyOf(builder.texts[column], rowCount);
+			images[column] = Arrays.copyOf(builder.images[column], rowCount);
+		}
+		this.checked = Arrays.copyOf(builder.checked, rowCount);
+		this.paths = Arrays.copyOf(builder.paths, rowCount);
+	}
+
+	/**
+	 * Gets number of rows.
+	 * 
+	 * @return number of rows
+	 */
+	public int getRowCount() {
+		return items.length;
+	}
+
+	/**
+	 * Gets number of columns. Widget without columns has one column.
+	 * 
+	 * @return number of columns
+	 */
+	public int getColumnCount() {
+		return texts.length;
+	}
+
+	/**
+	 * Gets SWT item of the row. Item can be disposed after snapshot was captured.
+	 * 
+	 * @param row index of row
+	 * @return SWT item
+	 */
+	public Item getItem(int row) {
+		return items[row];
+	}
+
+	/**
+	 * Gets text of the row in the column. Cells of nonexisting columns are empty as in SWT.
+	 * 
+	 * @param row index of row
+	 * @param column index of column
+	 * @return text of cell
+	 */
+	public String getText(int row, int column) {
+		if (!hasColumn(column)) {
+			return "";
+		}
+		return texts[column][row];
+	}
+
+	/**
+	 * Gets texts of all rows in the column.
+	 * 
+	 * @param column index of column
+	 * @return unmodifiable list of texts
+	 */
+	public List<String> getColumn(int column) {
+		if (!hasColumn(column)) {
+			return Collections.nCopies(items.length, "");
+		}
+		return Collections.unmodifiableList(Arrays.asList(texts[column]));
+	}
+
+	/**
+	 * Gets image of the row in the column. Images can be compared by identity.
+	 * 
+	 * @param row index of row
+	 * @param column index of column
+	 * @return image of cell or null
+	 */
+	public Image getImage(int row, int column) {
+		if (!hasColumn(column)) {
+			return null;
+		}
+		return images[column][row];
+	}
+
+	/**
+	 * Finds out whether the row was checked.
+	 * 
+	 * @param row index of row
+	 * @return true if row was checked, false otherwise
+	 */
+	public boolean isChecked(int row) {
+		return checked[row];
+	}
+
+	/**
+	 * Gets path of the row. Path of tree item contains texts of all its parent items,
+	 * path of table item contains only its text.
+	 * 
+	 * @param row index of row
+	 * @return path of the row
+	 */
+	public String[] getPath(int row) {
+		return paths[row].clone();
+	}
+
+	/**
+	 * Gets index of first row with given text in the column.
+	 * 
+	 * @param column index of column
+	 * @param text text of cell
+	 * @return index of row or -1 if there is no such row
+	 */
+	public int indexOf(int column, String text) {
+		for (int row = 0; row < items.length; row++) {
+			if (getText(row, column).equals(text)) {
+				return row;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets indices of rows whose texts in the column match the matcher.
+	 * 
+	 * @param column index of column
+	 * @param matcher matcher of cell text
+	 * @return indices of matching rows
+	 */
+	public List<Integer> getRows(int column, Matcher<?> matcher) {
+		List<Integer> rows = new ArrayList<Integer>();
+		List<String> columnTexts = getColumn(column);
+		for (int row = 0; row < columnTexts.size(); row++) {
+			if (matcher.matches(columnTexts.get(row))) {
+				rows.add(row);
+			}
+		}
+		return rows;
+	}
+
+	private boolean hasColumn(int column) {
+		return column >= 0 && column < texts.length;
+	}
+
+	/**
+	 * Builder of snapshot. It has to be used in UI thread.
+	 */
+	public static class Builder {
+
+		private final int columnCount;
+		private int rowCount = 0;
+		private Item[] items = new Item[16];
+		private String[][] texts;
+		private Image[][] images;
+		private boolean[] checked = new boolean[16];
+		private String[][] paths = new String[16][];
+
+		/**
+		 * Creates builder of snapshot with given number of columns.
+		 * 
+		 * @param columnCount number of columns, at least 1
+		 */
+		public Builder(int columnCount) {
+			this.columnCount = Math.max(columnCount, 1);
+			this.texts = new String[this.columnCount][16];
+			this.images = new Image[this.columnCount][16];
+		}
+
+		/**
+		 * Adds row.
+		 * 
+		 * @param item SWT item
+		 * @param rowTexts texts of columns
+		 * @param rowImages images of columns
+		 * @param rowChecked whether row is checked
+		 * @param path path of row
+		 * @return this builder
+		 */
+		public Builder addRow(Item item, String[] rowTexts, Image[] rowImages, boolean rowChecked, String[] path) {
+			if (rowCount == items.length) {
+				int capacity = rowCount * 2;
+				items = Arrays.copyOf(items, capacity);
+				checked = Arrays.copyOf(checked, capacity);
+				paths = Arrays.copyOf(paths, capacity);
+				for (int column = 0; column < columnCount; column++) {
+					texts[column] = Arrays.copyOf(texts[column], capacity);
+					images[column] = Arrays.copyOf(images[column], capacity);
+				}
+			}
+			items[rowCount] = item;
+			for (int column = 0; column < columnCount; column++) {
+				texts[column][rowCount] = rowTexts[column];
+				images[column][rowCount] = rowImages[column];
+			}
+			checked[rowCount] = rowChecked;
+			paths[rowCount] = path;
+			rowCount++;
+			return this;
+		}
+
+		/**
+		 * Creates immutable snapshot of added rows.
+		 * 
+		 * @return snapshot
+		 */
+		public ItemsSnapshot build() {
+			return new ItemsSnapshot(this);
+		}
+	}
+}
@@ -22,6 +22,28 @@ import org.eclipse.reddeer.core.exception.CoreLayerException;
  */
 public class TextWidgetUtil {
 	
+	/**
+	 * Finds out whether specified widget has text. Nothing is thrown and no exception
+	 * is created if the widget has no text.
+	 *
+	 * @param widget widget to handle
+	 * @return true if widget has getText method, false otherwise
+	 */
+	public static boolean hasText(Widget widget) {
+		return ObjectUtil.hasMethod(widget, "getText");
+	}
+
+	/**
+	 * Finds out whether specified widget has tool tip text. Nothing is thrown and no exception
+	 * is created if the widget has no tool tip text.
+	 *
+	 * @param widget widget to handle
+	 * @return true if widget has getToolTipText method, false otherwise
+	 */
+	public static boolean hasToolTipText(Widget widget) {
+		return ObjectUtil.hasMethod(widget, "getToolTipText");
+	}
+
 	/**
 	 * Gets text of specified widget.
 	 *
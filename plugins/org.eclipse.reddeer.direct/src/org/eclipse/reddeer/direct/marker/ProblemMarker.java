@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.direct.marker;
+
+import java.text.DateFormat;
+import java.util.Date;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.Platform;
+
+/**
+ * Problem marker is a snapshot of a workspace problem marker. Its values are formatted the same way
+ * as columns of Problems view.
+ */
+public class ProblemMarker {
+
+	// attribute with path shown by Problems view instead of the path of resource's parent
+	private static final String PATH_ATTRIBUTE = "org.eclipse.ui.views.markers.path";
+
+	private final int severity;
+	private final String description;
+	private final String resource;
+	private final String path;
+	private final String id;
+	private final String location;
+	private final String type;
+	private final String creationTime;
+
+	/**
+	 * Creates a snapshot of specified marker.
+	 * 
+	 * @param marker problem marker
+	 * @throws CoreException if the marker does not exist anymore
+	 */
+	public ProblemMarker(IMarker marker) throws CoreException {
+		IResource markerResource = marker.getResource();
+		severity = marker.getAttribute(IMarker.SEVERITY, -1);
+		description = marker.getAttribute(IMarker.MESSAGE, "");
+		resource = markerResource.getName();
+		path = marker.getAttribute(PATH_ATTRIBUTE, getContainerPath(markerResource));
+		id = String.valueOf(marker.getId());
+		location = marker.getAttribute(IMarker.LOCATION, getLineLocation(marker));
+		type = getTypeLabel(marker.getType());
+		creationTime = DateFormat.getDateTimeInstance(DateFormat.LONG, DateFormat.LONG)
+				.format(new Date(marker.getCreationTime()));
+	}
+
+	/**
+	 * Gets severity of the problem.
+	 * 
+	 * @return {@link IMarker#SEVERITY_ERROR}, {@link IMarker#SEVERITY_WARNING}, {@link IMarker#SEVERITY_INFO}
+	 *         or -1 if the marker has no severity
+	 */
+	public int getSeverity() {
+		return severity;
+	}
+
+	/**
+	 * Gets description of the problem.
+	 * 
+	 * @return description of the problem
+	 */
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * Gets name of the resource with the problem.
+	 * 
+	 * @return name of the resource
+	 */
+	public String getResource() {
+		return resource;
+	}
+
+	/**
+	 * Gets path of the folder containing the resource with the problem.
+	 * 
+	 * @return path of the resource's folder
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Gets ID of the marker.
+	 * 
+	 * @return ID of the marker
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Gets location of the problem, usually line of the problem in form "line N".
+	 * 
+	 * @return location of the problem
+	 */
+	public String getLocation() {
+		return location;
+	}
+
+	/**
+	 * Gets label of the marker type, e.g. "Java Problem".
+	 * 
+	 * @return label of the marker type
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Gets formatted time when the marker was created.
+	 * 
+	 * @return creation time of the marker
+	 */
+	public String getCreationTime() {
+		return creationTime;
+	}
+
+	private static String getContainerPath(IResource resource) {
+		if (resource.getParent() == null) {
+			return "";
+		}
+		String containerPath = resource.getParent().getFullPath().toString();
+		return containerPath.endsWith("/") ? containerPath.substring(0, containerPath.length() - 1) : containerPath;
+	}
+
+	private static String getLineLocation(IMarker marker) {
+		int line = marker.getAttribute(IMarker.LINE_NUMBER, -1);
+		return line < 0 ? "" : "line " + line;
+	}
+
+	private static String getTypeLabel(String markerType) {
+		IExtension extension = Platform.getExtensionRegistry().getExtension(ResourcesPlugin.PI_RESOURCES,
+				ResourcesPlugin.PT_MARKERS, markerType);
+		if (extension == null || extension.getLabel() == null || extension.getLabel().isEmpty()) {
+			return markerType;
+		}
+		return extension.getLabel();
+	}
+
+	@Override
+	public String toString() {
+		return "description: '" + description + "'; resource: '" + resource + "'; path: '" + path
+				+ "'; location: '" + location + "'; type: '" + type + "'";
+	}
+}
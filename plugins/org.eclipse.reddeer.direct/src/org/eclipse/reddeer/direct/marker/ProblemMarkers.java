@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.direct.marker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.logging.Logger;
+
+/**
+ * Problem markers provides problem markers of the workspace without Problems view. Markers are
+ * found by {@link IWorkspace#findMarkers(String, boolean, int)} and kept until a resource change
+ * listener reports a change of problem markers.
+ */
+public class ProblemMarkers {
+
+	private static final Logger log = Logger.getLogger(ProblemMarkers.class);
+
+	private static ProblemMarkers instance;
+
+	private List<ProblemMarker> markers;
+
+	private long changeCount;
+
+	private final IResourceChangeListener markersListener = new IResourceChangeListener() {
+
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			IMarkerDelta[] deltas = event.findMarkerDeltas(IMarker.PROBLEM, true);
+			if (deltas.length > 0) {
+				markersChanged();
+			}
+		}
+	};
+
+	private ProblemMarkers() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(markersListener, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Gets instance of ProblemMarkers.
+	 * 
+	 * @return ProblemMarkers instance
+	 */
+	public static synchronized ProblemMarkers getInstance() {
+		if (instance == null) {
+			instance = new ProblemMarkers();
+		}
+		return instance;
+	}
+
+	/**
+	 * Gets problem markers of the workspace with specified severity.
+	 * 
+	 * @param severity {@link IMarker#SEVERITY_ERROR}, {@link IMarker#SEVERITY_WARNING} or
+	 *            {@link IMarker#SEVERITY_INFO}
+	 * @return problem markers with specified severity
+	 */
+	public List<ProblemMarker> getMarkers(int severity) {
+		List<ProblemMarker> result = new ArrayList<ProblemMarker>();
+		for (ProblemMarker marker : getMarkers()) {
+			if (marker.getSeverity() == severity) {
+				result.add(marker);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets all problem markers of the workspace.
+	 * 
+	 * @return unmodifiable list of problem markers
+	 */
+	public synchronized List<ProblemMarker> getMarkers() {
+		if (markers == null) {
+			markers = Collections.unmodifiableList(findMarkers());
+		}
+		return markers;
+	}
+
+	/**
+	 * Gets number of changes of problem markers reported since this instance was created.
+	 * 
+	 * @return number of changes of problem markers
+	 */
+	public synchronized long getChangeCount() {
+		return changeCount;
+	}
+
+	private synchronized void markersChanged() {
+		markers = null;
+		changeCount++;
+	}
+
+	private List<ProblemMarker> findMarkers() {
+		IMarker[] workspaceMarkers;
+		try {
+			workspaceMarkers = ResourcesPlugin.getWorkspace().getRoot().findMarkers(IMarker.PROBLEM, true,
+					IResource.DEPTH_INFINITE);
+		} catch (CoreException e) {
+			throw new RedDeerException("Cannot find problem markers of the workspace", e);
+		}
+		List<ProblemMarker> result = new ArrayList<ProblemMarker>(workspaceMarkers.length);
+		for (IMarker marker : workspaceMarkers) {
+			try {
+				result.add(new ProblemMarker(marker));
+			} catch (CoreException e) {
+				// marker was deleted in the meantime, listener has already invalidated the markers
+				log.debug("Problem marker was deleted while reading it");
+			}
+		}
+		return result;
+	}
+}
@@ -11,10 +11,30 @@
  *******************************************************************************/
 package org.eclipse.reddeer.direct.workspace;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.reddeer.common.exception.RedDeerException;
 
 /**
- * This class provides support for Eclipse workspace.
+ * This class provides support for Eclipse workspace. Workspace can be reset to an empty workspace or
+ * to a workspace template without UI.
  * 
  * @author Andrej Podhradsky (apodhrad@redhat.com)
  *
@@ -30,4 +50,81 @@ public class Workspace {
 		return ResourcesPlugin.getWorkspace().getRoot().getLocation().toString();
 	}
 
+	/**
+	 * Deletes all projects of the workspace including their content in one workspace operation,
+	 * so only one resource change is reported.
+	 */
+	public static void deleteAllProjects() {
+		reset(null);
+	}
+
+	/**
+	 * Deletes all projects of the workspace including their content and then imports projects
+	 * of specified workspace template. Template is a directory containing project directories with
+	 * <i>.project</i> files, these are copied into the workspace. All is done in one workspace operation,
+	 * so only one resource change is reported.
+	 * 
+	 * @param templateDirectory directory with projects to import or null if no projects should be imported
+	 * @throws RedDeerException if projects could not be deleted or imported
+	 */
+	public static void reset(final String templateDirectory) {
+		final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceRunnable runnable = new IWorkspaceRunnable() {
+
+			@Override
+			public void run(IProgressMonitor monitor) throws CoreException {
+				IWorkspaceRoot root = workspace.getRoot();
+				for (IProject project : root.getProjects()) {
+					project.delete(true, true, monitor);
+				}
+				if (templateDirectory != null) {
+					importTemplate(workspace, new File(templateDirectory), monitor);
+				}
+			}
+		};
+		try {
+			workspace.run(runnable, workspace.getRoot(), IWorkspace.AVOID_UPDATE, new NullProgressMonitor());
+		} catch (CoreException e) {
+			throw new RedDeerException("Cannot reset workspace", e);
+		}
+	}
+
+	private static void importTemplate(IWorkspace workspace, File templateDirectory, IProgressMonitor monitor)
+			throws CoreException {
+		File[] projectDirectories = templateDirectory.listFiles();
+		if (projectDirectories == null) {
+			throw new CoreException(new Status(IStatus.ERROR, ResourcesPlugin.PI_RESOURCES,
+					"Workspace template " + templateDirectory.getAbsolutePath() + " is not a directory"));
+		}
+		for (File projectDirectory : projectDirectories) {
+			File projectFile = new File(projectDirectory, IProjectDescription.DESCRIPTION_FILE_NAME);
+			if (!projectFile.isFile()) {
+				continue;
+			}
+			IProjectDescription description = workspace
+					.loadProjectDescription(new org.eclipse.core.runtime.Path(projectFile.getAbsolutePath()));
+			copyDirectory(projectDirectory.toPath(), Paths.get(getLocation(), description.getName()));
+			description.setLocation(null);
+			IProject project = workspace.getRoot().getProject(description.getName());
+			project.create(description, monitor);
+			project.open(monitor);
+		}
+	}
+
+	private static void copyDirectory(final Path source, final Path target) throws CoreException {
+		try (Stream<Path> paths = Files.walk(source)) {
+			for (Path path : (Iterable<Path>) paths::iterator) {
+				Path targetPath = target.resolve(source.relativize(path).toString());
+				if (Files.isDirectory(path)) {
+					Files.createDirectories(targetPath);
+				} else {
+					Files.copy(path, targetPath, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, ResourcesPlugin.PI_RESOURCES,
+					"Cannot copy " + source + " into workspace", e));
+		}
+	}
+
 }
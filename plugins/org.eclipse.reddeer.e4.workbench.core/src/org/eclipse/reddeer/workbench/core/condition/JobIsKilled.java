@@ -44,6 +44,7 @@ public class JobIsKilled extends AbstractWaitCondition {
 		for (String jobToBeKilled : jobsToBeKilled) {
 			this.jobsToBeKilled.add(jobToBeKilled);
 		}
+		Jobs.notifyWaitsOnJobChanges();
 	}
 
 	@Override
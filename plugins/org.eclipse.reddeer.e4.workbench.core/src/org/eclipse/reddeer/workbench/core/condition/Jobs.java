@@ -14,8 +14,12 @@ package org.eclipse.reddeer.workbench.core.condition;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.wait.WaitNotifier;
 
 /**
  * Jobs provides utilities to work with Eclipse jobs.
@@ -32,6 +36,7 @@ public class Jobs {
 	public static final String BUILDING_WORKSPACE_JOB = "Building workspace";
 	public static final String LOADING_JOB = "Loading";
 	public static final String COMPACTING_RESOURCE_MODEL = "Compacting resource model";
+	private static IJobChangeListener waitNotifyingListener;
 	
 	/**
 	 * Gets formatted job description containing information about priority, state, result and name.
@@ -127,4 +132,37 @@ public class Jobs {
     	}
     	return jobNames.toArray(new String[0]);
     }
+
+    /**
+     * Registers job change listener notifying event driven waits (see {@link WaitNotifier})
+     * whenever state of a job changes. Listener is registered only once.
+     */
+    public static synchronized void notifyWaitsOnJobChanges() {
+    	if (waitNotifyingListener != null) {
+    		return;
+    	}
+    	waitNotifyingListener = new JobChangeAdapter() {
+
+    		@Override
+    		public void scheduled(IJobChangeEvent event) {
+    			WaitNotifier.getInstance().signal();
+    		}
+
+    		@Override
+    		public void running(IJobChangeEvent event) {
+    			WaitNotifier.getInstance().signal();
+    		}
+
+    		@Override
+    		public void sleeping(IJobChangeEvent event) {
+    			WaitNotifier.getInstance().signal();
+    		}
+
+    		@Override
+    		public void done(IJobChangeEvent event) {
+    			WaitNotifier.getInstance().signal();
+    		}
+    	};
+    	Job.getJobManager().addJobChangeListener(waitNotifyingListener);
+    }
 }
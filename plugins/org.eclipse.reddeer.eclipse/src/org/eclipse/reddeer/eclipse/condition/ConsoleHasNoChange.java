@@ -13,10 +13,13 @@ package org.eclipse.reddeer.eclipse.condition;
 
 import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
 import org.eclipse.reddeer.common.wait.TimePeriod;
+import org.eclipse.reddeer.eclipse.ui.console.ConsoleObserver;
 import org.eclipse.reddeer.eclipse.ui.console.ConsoleView;
 
 /**
  * Returns true if a console has no change for the specified time period.
+ * If {@link ConsoleObserver} is enabled, time of the last change is taken from
+ * the observer instead of comparing whole console text.
  * 
  * @author Andrej Podhradsky
  * 
@@ -43,8 +46,13 @@ public class ConsoleHasNoChange extends AbstractWaitCondition {
 	 */
 	public ConsoleHasNoChange(TimePeriod timePeriod) {
 		this.timePeriod = timePeriod;
-		this.consoleText = getConsoleText();
 		this.consoleTime = System.currentTimeMillis();
+		if (ConsoleObserver.getInstance().isEnabled()) {
+			openConsoleView();
+			ConsoleObserver.getInstance().update();
+		} else {
+			this.consoleText = getConsoleText();
+		}
 	}
 
 	/* (non-Javadoc)
@@ -52,6 +60,12 @@ public class ConsoleHasNoChange extends AbstractWaitCondition {
 	 */
 	@Override
 	public boolean test() {
+		ConsoleObserver observer = ConsoleObserver.getInstance();
+		if (observer.isEnabled()) {
+			observer.update();
+			consoleTime = Math.max(consoleTime, observer.getLastChangeTime());
+			return System.currentTimeMillis() - consoleTime - timePeriod.getSeconds() * 1000 >= 0;
+		}
 		String currentConsoleText = getConsoleText();
 		long currentConsoleTime = System.currentTimeMillis();
 
@@ -73,9 +87,12 @@ public class ConsoleHasNoChange extends AbstractWaitCondition {
 	}
 
 	private static String getConsoleText() {
+		return openConsoleView().getConsoleText();
+	}
+
+	private static ConsoleView openConsoleView() {
 		ConsoleView consoleView = new ConsoleView();
 		consoleView.open();
-
-		return consoleView.getConsoleText();
+		return consoleView;
 	}
 }
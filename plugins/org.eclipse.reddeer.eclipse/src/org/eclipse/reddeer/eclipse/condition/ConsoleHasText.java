@@ -13,10 +13,13 @@ package org.eclipse.reddeer.eclipse.condition;
 
 import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
 import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.eclipse.ui.console.ConsoleObserver;
+import org.eclipse.reddeer.eclipse.ui.console.ConsoleObserver.Cursor;
 import org.eclipse.reddeer.eclipse.ui.console.ConsoleView;
 
 /**
- * Wait condition for existence of text.
+ * Wait condition for existence of text. If {@link ConsoleObserver} is enabled, only
+ * the console output appended since the previous test is searched.
  * 
  * @author apodhrad, mlabuda@redhat.com, jkopriva@redhat.com
  * 
@@ -26,6 +29,7 @@ public class ConsoleHasText extends AbstractWaitCondition {
 	private String text;
 	private ConsoleView consoleView;
 	private String resultText;
+	private Cursor cursor = ConsoleObserver.getInstance().createCursor();
 	
 	/**
 	 * Creates new ConsoleHasText wait condition waiting until a console
@@ -65,6 +69,15 @@ public class ConsoleHasText extends AbstractWaitCondition {
 	
 	@Override
 	public boolean test() {
+		ConsoleObserver observer = ConsoleObserver.getInstance();
+		if (observer.isEnabled()) {
+			observer.update();
+			if (observer.contains(text, cursor)) {
+				this.resultText = observer.getText();
+				return true;
+			}
+			return false;
+		}
 		String consoleText = consoleView.getConsoleText();
 		if (consoleText == null) {
 			return false;
@@ -67,8 +67,6 @@ public class ExactNumberOfProblemsExists extends AbstractWaitCondition {
 
 	@Override
 	public boolean test() {
-		problemsView.activate();
-
 		problems = problemsView.getProblems(problemType, problemMatchers);
 		
 		return problems.size() == expectedProblemsCount;
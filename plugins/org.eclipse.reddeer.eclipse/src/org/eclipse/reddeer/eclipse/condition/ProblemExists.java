@@ -47,7 +47,6 @@ public class ProblemExists extends AbstractWaitCondition {
 	
 	@Override
 	public boolean test() {
-		problemsView.activate();
 		return !problemsView.getProblems(problemType, matchers).isEmpty();
 	}
 
@@ -12,7 +12,9 @@
 package org.eclipse.reddeer.eclipse.condition;
 
 import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.eclipse.ui.views.markers.ProblemsView;
+import org.eclipse.reddeer.eclipse.ui.views.markers.ProblemsView.ProblemType;
 import org.eclipse.reddeer.swt.impl.tree.DefaultTree;
 
 /**
@@ -39,6 +41,9 @@ public class ProblemsViewIsEmpty extends AbstractWaitCondition {
 	 */
 	@Override
 	public boolean test() {
+		if (RedDeerProperties.PROBLEMS_FROM_MARKERS.getBooleanValue()) {
+			return problemsView.getProblemsFromMarkers(ProblemType.ALL).isEmpty();
+		}
 		problemsView.activate();
 		// using this should ensure atomicity, because getProblems method of Problems view 
 		// does not get warnings and errors at once
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.eclipse.ui.console;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.ui.IViewPart;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.console.IConsole;
+import org.eclipse.ui.console.IConsoleConstants;
+import org.eclipse.ui.console.IConsoleView;
+import org.eclipse.ui.console.TextConsole;
+
+/**
+ * Console observer mirrors the document of the console displayed in Console view. Document listener
+ * appends new output to the observer's log and remembers time of the last change, so console text
+ * can be matched against new output only instead of reading the whole text of console widget again
+ * and again. Any other change of the document, e.g. clearing of the console, rebuilds the log.
+ * <br>
+ * Observer is used by {@link ConsoleView#getConsoleText()} and console wait conditions if it is
+ * enabled by {@link RedDeerProperties#CONSOLE_OBSERVER} property or by {@link #setEnabled(boolean)}.
+ */
+public class ConsoleObserver {
+
+	private static final Logger log = Logger.getLogger(ConsoleObserver.class);
+
+	private static ConsoleObserver instance;
+
+	private volatile boolean enabled;
+
+	private IDocument document;
+
+	// text of the observed document
+	private final StringBuilder text = new StringBuilder();
+
+	// incremented whenever the log is rebuilt, positions of older cursors are not valid anymore
+	private int generation;
+
+	private long lastChangeTime = System.currentTimeMillis();
+
+	private final IDocumentListener documentListener = new IDocumentListener() {
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			// only finished changes are observed
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			ConsoleObserver.this.documentChanged(event);
+		}
+	};
+
+	private ConsoleObserver() {
+		enabled = RedDeerProperties.CONSOLE_OBSERVER.getBooleanValue();
+	}
+
+	/**
+	 * Gets instance of ConsoleObserver.
+	 *
+	 * @return ConsoleObserver instance
+	 */
+	public static synchronized ConsoleObserver getInstance() {
+		if (instance == null) {
+			instance = new ConsoleObserver();
+		}
+		return instance;
+	}
+
+	/**
+	 * Finds out whether observer is used by console view and console wait conditions.
+	 *
+	 * @return true if observer is enabled, false otherwise
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables observer.
+	 *
+	 * @param enabled true to enable observer, false to disable it
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Starts observing the console displayed in Console view if it is not observed yet.
+	 * Switching to another console is considered as a change of the console.
+	 */
+	public void update() {
+		Display.syncExec(new Runnable() {
+
+			@Override
+			public void run() {
+				IDocument activeDocument = getActiveDocument();
+				synchronized (ConsoleObserver.this) {
+					if (activeDocument == document) {
+						return;
+					}
+					if (document != null) {
+						document.removeDocumentListener(documentListener);
+					}
+					document = activeDocument;
+					if (document != null) {
+						document.addDocumentListener(documentListener);
+					}
+					rebuild();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Finds out whether a console is observed.
+	 *
+	 * @return true if there is an observed console, false otherwise
+	 */
+	public synchronized boolean hasConsole() {
+		return document != null;
+	}
+
+	/**
+	 * Gets text of the observed console.
+	 *
+	 * @return console text or null if there is no observed console
+	 */
+	public synchronized String getText() {
+		return document == null ? null : text.toString();
+	}
+
+	/**
+	 * Finds out whether text of the observed console is equal to specified text.
+	 *
+	 * @param consoleText text to compare
+	 * @return true if there is an observed console with specified text, false otherwise
+	 */
+	public synchronized boolean hasText(String consoleText) {
+		return document != null && text.length() == consoleText.length()
+				&& consoleText.contentEquals(text);
+	}
+
+	/**
+	 * Gets time of the last change of the observed console.
+	 *
+	 * @return time of the last change in milliseconds
+	 */
+	public synchronized long getLastChangeTime() {
+		return lastChangeTime;
+	}
+
+	/**
+	 * Creates a cursor pointing to the beginning of console text.
+	 *
+	 * @return new cursor
+	 */
+	public Cursor createCursor() {
+		return new Cursor();
+	}
+
+	/**
+	 * Finds out whether the observed console contains specified text. Only the output appended
+	 * since the previous call with the same cursor is searched, cursor is moved to the end of console text.
+	 *
+	 * @param searchedText text to search for
+	 * @param cursor cursor pointing to already searched text
+	 * @return true if there is an observed console containing specified text, false otherwise
+	 */
+	public synchronized boolean contains(String searchedText, Cursor cursor) {
+		if (document == null) {
+			return false;
+		}
+		int from = Math.max(0, cursor.getPosition(generation) - searchedText.length() + 1);
+		cursor.position = text.length();
+		return text.indexOf(searchedText, from) >= 0;
+	}
+
+	/**
+	 * Finds out whether the observed console contains a match of specified pattern. Only the lines
+	 * containing output appended since the previous call with the same cursor are searched, cursor
+	 * is moved to the end of console text.
+	 *
+	 * @param pattern pattern to search for
+	 * @param cursor cursor pointing to already searched text
+	 * @return true if there is an observed console containing a match of specified pattern, false otherwise
+	 */
+	public synchronized boolean find(Pattern pattern, Cursor cursor) {
+		if (document == null) {
+			return false;
+		}
+		int position = cursor.getPosition(generation);
+		int from = position == 0 ? 0 : text.lastIndexOf("\n", position - 1) + 1;
+		cursor.position = text.length();
+		Matcher matcher = pattern.matcher(text);
+		matcher.region(from, text.length());
+		return matcher.find();
+	}
+
+	private synchronized void documentChanged(DocumentEvent event) {
+		if (event.getDocument() != document) {
+			return;
+		}
+		String appendedText = event.getText();
+		if (event.getLength() == 0 && event.getOffset() == text.length() && appendedText != null) {
+			text.append(appendedText);
+			lastChangeTime = System.currentTimeMillis();
+		} else {
+			rebuild();
+		}
+	}
+
+	private void rebuild() {
+		text.setLength(0);
+		if (document != null) {
+			text.append(document.get());
+		}
+		generation++;
+		lastChangeTime = System.currentTimeMillis();
+		log.debug("Console observer log was rebuilt");
+	}
+
+	private static IDocument getActiveDocument() {
+		IWorkbenchWindow window = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+		if (window == null || window.getActivePage() == null) {
+			return null;
+		}
+		IViewPart view = window.getActivePage().findView(IConsoleConstants.ID_CONSOLE_VIEW);
+		if (!(view instanceof IConsoleView)) {
+			return null;
+		}
+		IConsole console = ((IConsoleView) view).getConsole();
+		return console instanceof TextConsole ? ((TextConsole) console).getDocument() : null;
+	}
+
+	/**
+	 * Position in console text up to which the text was already searched.
+	 */
+	public static class Cursor {
+
+		private int generation;
+
+		private int position;
+
+		private Cursor() {
+			// created by console observer
+		}
+
+		private int getPosition(int currentGeneration) {
+			if (generation != currentGeneration) {
+				generation = currentGeneration;
+				position = 0;
+			}
+			return position;
+		}
+	}
+}
@@ -63,6 +63,10 @@ public class ConsoleView extends WorkbenchView {
 		}
 		// wait for text to appear
 		new WaitWhile(new ConsoleHasText(""),TimePeriod.SHORT,false);
+		ConsoleObserver observer = ConsoleObserver.getInstance();
+		if (observer.isEnabled() && observer.hasConsole()) {
+			return observer.getText();
+		}
 		return new DefaultStyledText(cTabItem).getText();
 	}
 	
@@ -220,6 +224,13 @@ public class ConsoleView extends WorkbenchView {
 
 		@Override
 		public boolean test() {
+			ConsoleObserver observer = ConsoleObserver.getInstance();
+			if (observer.isEnabled()) {
+				observer.update();
+				if (observer.hasConsole()) {
+					return observer.hasText(consoleText);
+				}
+			}
 			WidgetIsFound widgetIsFound = new WidgetIsFound(org.eclipse.swt.custom.StyledText.class, cTabItem.getControl());
 			widgetIsFound.test();
 			org.eclipse.swt.widgets.Widget swtWidget = widgetIsFound.getResult();
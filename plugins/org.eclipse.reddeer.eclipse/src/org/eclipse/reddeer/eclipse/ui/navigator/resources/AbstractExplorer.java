@@ -13,6 +13,7 @@ package org.eclipse.reddeer.eclipse.ui.navigator.resources;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.common.wait.TimePeriod;
@@ -26,7 +27,6 @@ import org.eclipse.reddeer.eclipse.core.resources.DefaultProjectItem;
 import org.eclipse.reddeer.eclipse.core.resources.ProjectItem;
 import org.eclipse.reddeer.eclipse.exception.EclipseLayerException;
 import org.eclipse.reddeer.eclipse.utils.DeleteUtils;
-import org.eclipse.reddeer.jface.handler.TreeViewerHandler;
 import org.eclipse.reddeer.swt.api.Shell;
 import org.eclipse.reddeer.swt.api.TreeItem;
 import org.eclipse.reddeer.swt.impl.button.CheckBox;
@@ -61,9 +61,12 @@ public class AbstractExplorer extends WorkbenchView {
 	 */
 	public void selectProjects(String... projectName){
 		activate();
-		ArrayList<TreeItem> selectTreeItems = new ArrayList<TreeItem>();
-		for(String pname: projectName){
-			selectTreeItems.add(getProject(pname).getTreeItem()); //check if project exists
+		List<TreeItem> selectTreeItems = getProjectTreeItems(projectName);
+		for (int i = 0; i < projectName.length; i++) {
+			//check if project exists
+			if (selectTreeItems.get(i) == null) {
+				throw new EclipseLayerException("There is no project with name " + projectName[i]);
+			}
 		}
 		if (selectTreeItems.size() > 0){
 			getTree().selectItems(selectTreeItems.toArray(new TreeItem[]{}));
@@ -91,14 +94,8 @@ public class AbstractExplorer extends WorkbenchView {
 	 * @return true if project exists, false otherwise
 	 */
 	public boolean containsProject(String projectName) {
-		boolean result = false;
-		try{
-			getProject(projectName);
-			result = true;
-			} catch (EclipseLayerException ele){
-				result = false;
-			}
-		return result;
+		activate();
+		return getProjectTreeItems(projectName).get(0) != null;
 	}
 	
 	/**
@@ -107,16 +104,16 @@ public class AbstractExplorer extends WorkbenchView {
 	 * @return list of projects in explorer
 	 */
 	public List<DefaultProject> getProjects(){
+		activate();
 		List<DefaultProject> projects = new ArrayList<DefaultProject>();
-
-		TreeViewerHandler treeViewerHandler = TreeViewerHandler.getInstance();
-		
-		
-		for (TreeItem item : getExplorerTreeItems()){
-			String projectName = treeViewerHandler.getNonStyledText(item);
+		if (isEmpty()) {
+			return projects;
+		}
+		for (Map.Entry<String, TreeItem> item : ExplorerItemIndex.getAllItems(getTree().getSWTWidget()).entrySet()){
+			String projectName = item.getKey();
 			log.debug("Getting project with name "+projectName);
 			if (org.eclipse.reddeer.direct.project.Project.isProject(projectName)) {
-				projects.add(new DefaultProject(item));
+				projects.add(new DefaultProject(item.getValue()));
 			}
 		}
 		return projects;
@@ -185,12 +182,11 @@ public class AbstractExplorer extends WorkbenchView {
 	 */
 	public DefaultProject getProject(String projectName){
 		activate();
-		for (DefaultProject project : getProjects()){
-			if (project.getName().equals(projectName)){
-				return project;
-			}
+		TreeItem item = getProjectTreeItems(projectName).get(0);
+		if (item == null) {
+			throw new EclipseLayerException("There is no project with name " + projectName);
 		}
-		throw new EclipseLayerException("There is no project with name " + projectName);
+		return new DefaultProject(item);
 	}	
 	
 	/**
@@ -202,17 +198,13 @@ public class AbstractExplorer extends WorkbenchView {
 	 * @return project of specific type with defined name
 	 */
 	public <T extends AbstractProject> T getProject(final String projectName, Class<T> projectType) {		
-		for (TreeItem item : getExplorerTreeItems()){
+		activate();
+		TreeItem item = getProjectTreeItems(projectName).get(0);
+		if (item != null) {
 			try {
-				T project =  projectType.getDeclaredConstructor(TreeItem.class).newInstance(item);
-				if (project.getName().equals(projectName)) {
-					return project;
-				}
-			} catch (EclipseLayerException ex) {
-				// Because there are attempts to create from all tree items projects of specific type but
-				// not all of them can fit it.
+				return projectType.getDeclaredConstructor(TreeItem.class).newInstance(item);
 			} catch (ReflectiveOperationException e) {
-				// This should not happen.
+				// Project exists but it is not of specific type
 			}
 		}
 		
@@ -221,6 +213,48 @@ public class AbstractExplorer extends WorkbenchView {
 				+ " and desired project exists.");
 	}
 	
+	/**
+	 * Gets tree items of projects with specified names. Items are looked up in an index of root items
+	 * of the explorer tree.
+	 * 
+	 * @param projectNames names of projects
+	 * @return tree items in the same order as names, null for names without a project
+	 */
+	private List<TreeItem> getProjectTreeItems(String... projectNames) {
+		List<TreeItem> items = new ArrayList<TreeItem>(projectNames.length);
+		if (isEmpty()) {
+			for (int i = 0; i < projectNames.length; i++) {
+				items.add(null);
+			}
+			return items;
+		}
+		items.addAll(ExplorerItemIndex.getItems(getTree().getSWTWidget(), projectNames));
+		for (int i = 0; i < projectNames.length; i++) {
+			if (items.get(i) != null && !org.eclipse.reddeer.direct.project.Project.isProject(projectNames[i])) {
+				items.set(i, null);
+			}
+		}
+		return items;
+	}
+	
+	/**
+	 * Finds out whether explorer shows links for creating or importing a project instead of tree.
+	 * 
+	 * @return true if there is link for creating a project, false otherwise
+	 */
+	private boolean isEmpty() {
+		WidgetIsFound link = new WidgetIsFound(org.eclipse.ui.forms.widgets.Hyperlink.class, cTabItem.getControl(),
+				new WithTextMatcher("Create a project..."));
+		if (link.test()) {
+			return true;
+		}
+		if (new WidgetIsFound(org.eclipse.swt.widgets.Tree.class, cTabItem.getControl()).test()) {
+			return false;
+		}
+		new WaitUntil(link, TimePeriod.SHORT, false);
+		return link.getResult() != null;
+	}
+	
 	/**
 	 * Since 2019-03 Eclipse there is text and link in package/project explorer views when no project available
 	 * https://github.com/eclipse/reddeer/issues/2003
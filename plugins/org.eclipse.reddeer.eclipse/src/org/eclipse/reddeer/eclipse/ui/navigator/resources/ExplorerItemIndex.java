@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.eclipse.ui.navigator.resources;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.reddeer.jface.handler.TreeViewerHandler;
+import org.eclipse.reddeer.swt.api.TreeItem;
+import org.eclipse.reddeer.swt.impl.tree.DefaultTreeItem;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Tree;
+
+/**
+ * Index of root items of an explorer tree by their non-styled texts. Index is built in one UI thread
+ * visit and rebuilt when an indexed item is disposed, number of root items changes or a looked up
+ * item does not have expected text anymore. SWT does not notify about created tree items, so
+ * the number of root items is checked on each lookup instead. Index is accessed only in UI thread.
+ * Index of a tree is removed when the tree is disposed, indexed items reference the tree, so
+ * the index would never be garbage collected otherwise.
+ */
+class ExplorerItemIndex {
+
+	private static final Logger log = Logger.getLogger(ExplorerItemIndex.class);
+
+	private static final Map<Tree, ExplorerItemIndex> INDEXES = new HashMap<Tree, ExplorerItemIndex>();
+
+	private final Tree tree;
+
+	private final Map<String, TreeItem> items = new LinkedHashMap<String, TreeItem>();
+
+	private int itemCount;
+
+	private boolean stale = true;
+
+	private final Listener disposeListener = new Listener() {
+
+		@Override
+		public void handleEvent(Event event) {
+			stale = true;
+		}
+	};
+
+	private ExplorerItemIndex(Tree tree) {
+		this.tree = tree;
+	}
+
+	/**
+	 * Gets root items with specified texts.
+	 * 
+	 * @param tree explorer tree
+	 * @param texts non-styled texts of root items
+	 * @return root items in the same order as texts, null for texts without an item
+	 */
+	static List<TreeItem> getItems(final Tree tree, final String... texts) {
+		return Display.syncExec(new ResultRunnable<List<TreeItem>>() {
+
+			@Override
+			public List<TreeItem> run() {
+				return getIndex(tree).lookup(texts);
+			}
+		});
+	}
+
+	/**
+	 * Gets all root items by their non-styled texts. If more items have the same text, only the first
+	 * one is returned.
+	 * 
+	 * @param tree explorer tree
+	 * @return root items by texts in order of the tree
+	 */
+	static Map<String, TreeItem> getAllItems(final Tree tree) {
+		return Display.syncExec(new ResultRunnable<Map<String, TreeItem>>() {
+
+			@Override
+			public Map<String, TreeItem> run() {
+				ExplorerItemIndex index = getIndex(tree);
+				if (index.isStale()) {
+					index.rebuild();
+				}
+				return new LinkedHashMap<String, TreeItem>(index.items);
+			}
+		});
+	}
+
+	private static ExplorerItemIndex getIndex(Tree tree) {
+		ExplorerItemIndex index = INDEXES.get(tree);
+		if (index == null) {
+			index = new ExplorerItemIndex(tree);
+			if (tree.isDisposed()) {
+				return index;
+			}
+			INDEXES.put(tree, index);
+			tree.addListener(SWT.Dispose, new Listener() {
+
+				@Override
+				public void handleEvent(Event event) {
+					INDEXES.remove(event.widget);
+				}
+			});
+		}
+		return index;
+	}
+
+	private List<TreeItem> lookup(String... texts) {
+		boolean rebuilt = false;
+		if (isStale()) {
+			rebuild();
+			rebuilt = true;
+		}
+		List<TreeItem> result = find(texts);
+		if (result == null && !rebuilt) {
+			// an item is missing or its text changed
+			rebuild();
+			result = find(texts);
+		}
+		if (result == null) {
+			result = new ArrayList<TreeItem>(texts.length);
+			for (String text : texts) {
+				result.add(items.get(text));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Finds indexed items with specified texts.
+	 * 
+	 * @return items with specified texts or null if there is an unknown text or an item with
+	 *         different text
+	 */
+	private List<TreeItem> find(String... texts) {
+		List<TreeItem> result = new ArrayList<TreeItem>(texts.length);
+		for (String text : texts) {
+			TreeItem item = items.get(text);
+			if (item == null || item.getSWTWidget().isDisposed()
+					|| !text.equals(TreeViewerHandler.getInstance().getNonStyledText(item))) {
+				return null;
+			}
+			result.add(item);
+		}
+		return result;
+	}
+
+	private boolean isStale() {
+		return stale || tree.isDisposed() || tree.getItemCount() != itemCount;
+	}
+
+	private void rebuild() {
+		items.clear();
+		itemCount = 0;
+		stale = false;
+		if (tree.isDisposed()) {
+			return;
+		}
+		org.eclipse.swt.widgets.TreeItem[] swtItems = tree.getItems();
+		for (org.eclipse.swt.widgets.TreeItem swtItem : swtItems) {
+			swtItem.removeListener(SWT.Dispose, disposeListener);
+			swtItem.addListener(SWT.Dispose, disposeListener);
+			TreeItem item = new DefaultTreeItem(swtItem);
+			String text = TreeViewerHandler.getInstance().getNonStyledText(item);
+			if (!items.containsKey(text)) {
+				items.put(text, item);
+			}
+		}
+		itemCount = swtItems.length;
+		log.debug(itemCount + " explorer tree items were indexed");
+	}
+}
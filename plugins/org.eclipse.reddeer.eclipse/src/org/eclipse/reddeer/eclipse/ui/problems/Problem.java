@@ -13,14 +13,21 @@ package org.eclipse.reddeer.eclipse.ui.problems;
 
 import java.util.List;
 
+import org.eclipse.reddeer.direct.marker.ProblemMarker;
+import org.eclipse.reddeer.eclipse.exception.EclipseLayerException;
 import org.eclipse.reddeer.eclipse.ui.markers.AbstractMarker;
+import org.eclipse.reddeer.eclipse.ui.markers.matcher.MarkerDescriptionMatcher;
+import org.eclipse.reddeer.eclipse.ui.markers.matcher.MarkerResourceMatcher;
 import org.eclipse.reddeer.eclipse.ui.views.markers.ProblemsView;
 import org.eclipse.reddeer.eclipse.ui.views.markers.AbstractMarkersSupportView.Column;
 import org.eclipse.reddeer.eclipse.ui.views.markers.ProblemsView.ProblemType;
+import org.eclipse.reddeer.eclipse.ui.views.markers.QuickFixWizard;
 import org.eclipse.reddeer.swt.api.TreeItem;
 
 /**
- * Problem represents an error or warning in Problems view.
+ * Problem represents an error or warning in Problems view. Problem can be also created from
+ * a workspace problem marker, then values of all columns are available even if they are hidden
+ * in Problems view.
  * 
  * @author mlabuda@redhat.com
  * @author rawagner
@@ -29,6 +36,8 @@ import org.eclipse.reddeer.swt.api.TreeItem;
 public class Problem extends AbstractMarker {
 	
 	private ProblemType problemType;
+	
+	private ProblemMarker problemMarker;
 		
 	/**
 	 * Creates a new problem of Problems view. 
@@ -50,6 +59,18 @@ public class Problem extends AbstractMarker {
 		this(ProblemType.fromString(problemType), item);
 	}
 	
+	/**
+	 * Constructs a new problem of specific problem type from a workspace problem marker.
+	 * 
+	 * @param problemType type of a problem [warning|error]
+	 * @param problemMarker workspace problem marker
+	 */
+	public Problem(ProblemType problemType, ProblemMarker problemMarker) {
+		super(null);
+		this.problemType = problemType;
+		this.problemMarker = problemMarker;
+	}
+	
 	/**
 	 * Gets type of the problem. Currently either warning or error. There is also info but this feature is not 
 	 * supported yet.
@@ -62,6 +83,9 @@ public class Problem extends AbstractMarker {
 
 	@Override
 	protected String getCell(Column column) {
+		if (problemMarker != null) {
+			return getMarkerValue(column);
+		}
 		ProblemsView problemsView = new ProblemsView();
 		List<String> columns = problemsView.getProblemColumns();
 		if (columns.contains(column.toString())) {
@@ -70,6 +94,49 @@ public class Problem extends AbstractMarker {
 		return null;
 	}
 
+	/**
+	 * Opens quick fix. If the problem was created from a workspace problem marker, quick fix
+	 * is opened for the same problem in Problems view.
+	 *
+	 * @return Quickfix wizard
+	 */
+	@Override
+	public QuickFixWizard openQuickFix() {
+		if (problemMarker == null) {
+			return super.openQuickFix();
+		}
+		ProblemsView problemsView = new ProblemsView();
+		problemsView.open();
+		List<Problem> problems = problemsView.getProblemsFromView(problemType,
+				new MarkerDescriptionMatcher(problemMarker.getDescription()),
+				new MarkerResourceMatcher(problemMarker.getResource()));
+		if (problems.isEmpty()) {
+			throw new EclipseLayerException("Problem " + this + " is not shown in Problems view");
+		}
+		return problems.get(0).openQuickFix();
+	}
+
+	private String getMarkerValue(Column column) {
+		switch (column) {
+		case DESCRIPTION:
+			return problemMarker.getDescription();
+		case RESOURCE:
+			return problemMarker.getResource();
+		case PATH:
+			return problemMarker.getPath();
+		case ID:
+			return problemMarker.getId();
+		case LOCATION:
+			return problemMarker.getLocation();
+		case TYPE:
+			return problemMarker.getType();
+		case CREATION_TIME:
+			return problemMarker.getCreationTime();
+		default:
+			return null;
+		}
+	}
+
 	@Override
 	public String toString() {
 		return super.toString();
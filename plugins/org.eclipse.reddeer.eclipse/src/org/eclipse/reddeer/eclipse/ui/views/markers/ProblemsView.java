@@ -12,17 +12,24 @@
 package org.eclipse.reddeer.eclipse.ui.views.markers;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.common.wait.TimePeriod;
 import org.eclipse.reddeer.common.wait.WaitUntil;
 import org.eclipse.reddeer.common.wait.WaitWhile;
+import org.eclipse.reddeer.direct.marker.ProblemMarker;
+import org.eclipse.reddeer.direct.marker.ProblemMarkers;
 import org.eclipse.reddeer.eclipse.condition.AbstractExtendedMarkersViewIsUpdating;
 import org.eclipse.reddeer.eclipse.ui.markers.matcher.AbstractMarkerMatcher;
 import org.eclipse.reddeer.eclipse.ui.problems.Problem;
 
 /**
- * Represents the Problems view.
+ * Represents the Problems view. Problems are read from the tree of the view or, if it is enabled
+ * by {@link RedDeerProperties#PROBLEMS_FROM_MARKERS} property, from workspace problem markers
+ * without waiting for the view to be updated.
  * 
  * @author mlabuda@redhat.com
  *
@@ -44,6 +51,21 @@ public class ProblemsView extends AbstractMarkersSupportView {
 	 * @return list of problem
 	 */
 	public List<Problem> getProblems(ProblemType problemType, AbstractMarkerMatcher... matchers) {
+		if (RedDeerProperties.PROBLEMS_FROM_MARKERS.getBooleanValue()) {
+			return getProblemsFromMarkers(problemType, matchers);
+		}
+		return getProblemsFromView(problemType, matchers);
+	}
+
+	/**
+	 * Returns a list of problems shown in the view that are of a specific type or any and that are matching
+	 * specified matchers.
+	 * 
+	 * @param problemType type of a problem
+	 * @param matchers matchers of columns
+	 * @return list of problem
+	 */
+	public List<Problem> getProblemsFromView(ProblemType problemType, AbstractMarkerMatcher... matchers) {
 		activate();
 		new WaitUntil(new ProblemsViewMarkerIsUpdating(),TimePeriod.SHORT,false);
 		new WaitWhile(new ProblemsViewMarkerIsUpdating());
@@ -57,8 +79,104 @@ public class ProblemsView extends AbstractMarkersSupportView {
 		}
 		return result;
 	}
-	
 
+	/**
+	 * Returns a list of workspace problem markers that are of a specific type or any and that are matching
+	 * specified matchers. The view is not used, matchers are applied to values of all columns even if
+	 * they are hidden in the view.
+	 * 
+	 * @param problemType type of a problem
+	 * @param matchers matchers of columns
+	 * @return list of problem
+	 */
+	public List<Problem> getProblemsFromMarkers(ProblemType problemType, AbstractMarkerMatcher... matchers) {
+		List<Problem> result = new ArrayList<Problem>();
+		if (problemType.equals(ProblemType.ERROR) || problemType.equals(ProblemType.ALL)) {
+			addMatchingProblems(result, ProblemType.ERROR, IMarker.SEVERITY_ERROR, matchers);
+		}
+		if (problemType.equals(ProblemType.WARNING) || problemType.equals(ProblemType.ALL)) {
+			addMatchingProblems(result, ProblemType.WARNING, IMarker.SEVERITY_WARNING, matchers);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether problems shown in the view are the same as workspace problem markers. Problems are
+	 * compared by description, resource, path and location if those columns are shown. Check is meaningful
+	 * only if the view is not filtered and shows all items.
+	 * 
+	 * @param problemType type of a problem
+	 * @return true if the view shows the same problems as workspace markers, false otherwise
+	 */
+	public boolean isConsistentWithMarkers(ProblemType problemType) {
+		List<String> columns = getProblemColumns();
+		List<String> viewProblems = getComparableProblems(getProblemsFromView(problemType), columns);
+		List<String> markerProblems = getComparableProblems(getProblemsFromMarkers(problemType), columns);
+		if (viewProblems.equals(markerProblems)) {
+			return true;
+		}
+		log.warn("Problems view is not consistent with problem markers.\nView: " + viewProblems
+				+ "\nMarkers: " + markerProblems);
+		return false;
+	}
+
+	private void addMatchingProblems(List<Problem> result, ProblemType problemType, int severity,
+			AbstractMarkerMatcher... matchers) {
+		for (ProblemMarker marker : ProblemMarkers.getInstance().getMarkers(severity)) {
+			Problem problem = new Problem(problemType, marker);
+			if (matchesProblem(problem, matchers)) {
+				result.add(problem);
+			}
+		}
+	}
+
+	private boolean matchesProblem(Problem problem, AbstractMarkerMatcher... matchers) {
+		if (matchers != null) {
+			for (AbstractMarkerMatcher matcher : matchers) {
+				if (!matcher.matches(getValue(problem, matcher.getColumn()))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private List<String> getComparableProblems(List<Problem> problems, List<String> columns) {
+		Column[] comparedColumns = { Column.DESCRIPTION, Column.RESOURCE, Column.PATH, Column.LOCATION };
+		List<String> result = new ArrayList<String>(problems.size());
+		for (Problem problem : problems) {
+			StringBuilder builder = new StringBuilder(problem.getProblemType().toString());
+			for (Column column : comparedColumns) {
+				if (columns.contains(column.toString())) {
+					builder.append(" | ").append(getValue(problem, column));
+				}
+			}
+			result.add(builder.toString());
+		}
+		Collections.sort(result);
+		return result;
+	}
+
+	private String getValue(Problem problem, Column column) {
+		switch (column) {
+		case DESCRIPTION:
+			return problem.getDescription();
+		case RESOURCE:
+			return problem.getResource();
+		case PATH:
+			return problem.getPath();
+		case ID:
+			return problem.getId();
+		case LOCATION:
+			return problem.getLocation();
+		case TYPE:
+			return problem.getType();
+		case CREATION_TIME:
+			return problem.getCreationTime();
+		default:
+			return null;
+		}
+	}
 	
 	/**
 	 * Enum for type of a problem. Currently only warning and errors are supported although there is also info type. 
@@ -12,7 +12,6 @@
 package org.eclipse.reddeer.junit.extension.log.collector;
 
 import org.eclipse.reddeer.common.properties.RedDeerProperties;
-import org.eclipse.reddeer.direct.platform.Platform;
 import org.eclipse.reddeer.junit.extension.ExtensionPriority;
 import org.eclipse.reddeer.junit.extensionpoint.IAfterTest;
 import org.junit.runners.model.FrameworkMethod;
@@ -45,14 +44,14 @@ public class AftersLogCollector extends LogCollector implements IAfterTest {
 	@Override
 	public void runAfterTestClass(String config, TestClass testClass) {
 		processWorkbenchLog(config, testClass.getJavaClass().getSimpleName(), AFTER_TEST_CLASS_DESCRIPTION);
-		Platform.getWorkbenchLog().delete();
+		discardWorkbenchLog();
 	}
 
 	@Override
 	public void runAfterTest(String config, Object target, FrameworkMethod method) {
 		constructAfterTestMethodDescription(method.getMethod().getName());
 		processWorkbenchLog(config, method.getDeclaringClass().getSimpleName(), AFTER_TEST_METHOD_DESCRIPTION);
-		Platform.getWorkbenchLog().delete();
+		discardWorkbenchLog();
 	}
 
 	@Override
@@ -12,7 +12,6 @@
 package org.eclipse.reddeer.junit.extension.log.collector;
 
 import org.eclipse.reddeer.common.properties.RedDeerProperties;
-import org.eclipse.reddeer.direct.platform.Platform;
 import org.eclipse.reddeer.junit.extension.ExtensionPriority;
 import org.eclipse.reddeer.junit.extensionpoint.IBeforeTest;
 import org.junit.runners.model.FrameworkMethod;
@@ -41,14 +40,14 @@ public class BeforesLogCollector extends LogCollector implements IBeforeTest{
 
 	@Override
 	public void runBeforeTestClass(String config, TestClass testClass) {	
-		Platform.getWorkbenchLog().delete();
+		discardWorkbenchLog();
 		hasToRun = true;
 	}
 
 	@Override
 	public void runBeforeTest(String config, Object target, FrameworkMethod method) {
 		processWorkbenchLog(config, method.getDeclaringClass().getSimpleName(), BEFORE_TEST_METHOD_DESCRIPTION);
-		Platform.getWorkbenchLog().delete();
+		discardWorkbenchLog();
 		hasToRun = false;
 	}
 
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.extension.log.collector;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.reddeer.common.logging.Logger;
+
+/**
+ * Log archive collects workbench log incrementally. It remembers the position in workbench log up to which
+ * log entries were already collected and copies only new log entries as a segment of one archive file.
+ * Workbench log is never modified. If workbench log was rotated or truncated, it is collected from its
+ * beginning again.
+ * <br>
+ * Each segment is described by one line of index file in form
+ * <i>offset&lt;TAB&gt;length&lt;TAB&gt;config&lt;TAB&gt;class&lt;TAB&gt;description</i> where offset and
+ * length locate the segment in archive file. Compressed segments are separate GZIP members, so each of them
+ * can be decompressed alone and the whole archive is a valid GZIP file.
+ * 
+ * @since 3.5
+ */
+public class LogArchive {
+
+	private static final Logger log = Logger.getLogger(LogArchive.class);
+
+	private final File archiveFile;
+
+	private final File indexFile;
+
+	private final boolean compressed;
+
+	private long logOffset;
+
+	private Object logFileKey;
+
+	/**
+	 * Creates a new log archive.
+	 * 
+	 * @param path path of archive files without extension
+	 * @param compressed whether segments should be compressed
+	 */
+	public LogArchive(String path, boolean compressed) {
+		this.archiveFile = new File(path + (compressed ? ".log.gz" : ".log"));
+		this.indexFile = new File(path + ".idx");
+		this.compressed = compressed;
+	}
+
+	/**
+	 * Gets archive file containing log segments.
+	 * 
+	 * @return archive file
+	 */
+	public File getArchiveFile() {
+		return archiveFile;
+	}
+
+	/**
+	 * Gets index file describing log segments.
+	 * 
+	 * @return index file
+	 */
+	public File getIndexFile() {
+		return indexFile;
+	}
+
+	/**
+	 * Marks all current entries of workbench log as collected without copying them.
+	 * 
+	 * @param workbenchLog workbench log file
+	 */
+	public synchronized void skip(File workbenchLog) {
+		try (FileChannel in = FileChannel.open(workbenchLog.toPath(), StandardOpenOption.READ)) {
+			logFileKey = getFileKey(workbenchLog);
+			logOffset = in.size();
+		} catch (IOException e) {
+			log.error("Cannot read workbench log " + workbenchLog, e);
+		}
+	}
+
+	/**
+	 * Copies workbench log entries which were not collected yet to a new segment of archive.
+	 * 
+	 * @param workbenchLog workbench log file
+	 * @param config RedDeer config
+	 * @param className test class name
+	 * @param description description related to log entries
+	 */
+	public synchronized void collect(File workbenchLog, String config, String className, String description) {
+		try (FileChannel in = FileChannel.open(workbenchLog.toPath(), StandardOpenOption.READ)) {
+			long size = in.size();
+			long start = getStart(workbenchLog, size);
+			if (size > start) {
+				long segmentOffset;
+				long segmentLength;
+				archiveFile.getParentFile().mkdirs();
+				try (FileChannel out = FileChannel.open(archiveFile.toPath(), StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+					segmentOffset = out.size();
+					if (compressed) {
+						GZIPOutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(out));
+						transfer(in, start, size - start, Channels.newChannel(gzip));
+						gzip.finish();
+					} else {
+						transfer(in, start, size - start, out);
+					}
+					segmentLength = out.size() - segmentOffset;
+				}
+				writeIndex(segmentOffset, segmentLength, config, className, description);
+			}
+			logOffset = size;
+		} catch (IOException e) {
+			log.error("Cannot collect workbench log " + workbenchLog, e);
+		}
+	}
+
+	/**
+	 * Gets position from which workbench log was not collected yet. Workbench log is collected
+	 * from its beginning if it is another file than before or if it is shorter than before.
+	 */
+	private long getStart(File workbenchLog, long size) throws IOException {
+		Object fileKey = getFileKey(workbenchLog);
+		boolean rotated = !Objects.equals(fileKey, logFileKey) || size < logOffset;
+		if (rotated && logOffset > 0) {
+			log.debug("Workbench log was rotated, collecting it from beginning");
+		}
+		logFileKey = fileKey;
+		return rotated ? 0 : logOffset;
+	}
+
+	private Object getFileKey(File file) throws IOException {
+		return Files.readAttributes(file.toPath(), BasicFileAttributes.class).fileKey();
+	}
+
+	private void transfer(FileChannel in, long position, long count, WritableByteChannel out) throws IOException {
+		long transferred = 0;
+		while (transferred < count) {
+			long bytes = in.transferTo(position + transferred, count - transferred, out);
+			if (bytes <= 0) {
+				// log was truncated meanwhile
+				break;
+			}
+			transferred += bytes;
+		}
+	}
+
+	private void writeIndex(long offset, long length, String config, String className, String description)
+			throws IOException {
+		String line = offset + "\t" + length + "\t" + escape(config) + "\t" + escape(className) + "\t"
+				+ escape(description) + "\n";
+		try (OutputStream index = Files.newOutputStream(indexFile.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			index.write(line.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	private String escape(String value) {
+		return value == null ? "" : value.replaceAll("\\s+", " ").trim();
+	}
+}
@@ -22,11 +22,14 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 
 import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.direct.platform.Platform;
 
 /**
  * Log collector collect Eclipse workbench log and process it for a specific test class and test methods.
  * This is useful for post test run evaluation whether there were any silent errors/warnings shown in log.
+ * If {@link RedDeerProperties#LOG_COLLECTOR_INCREMENTAL} is enabled, only new log entries are copied
+ * to one {@link LogArchive} and workbench log is not deleted.
  * 
  * @author mlabuda@redhat.com
  * @since 1.2.0
@@ -35,6 +38,7 @@ public class LogCollector {
 
 	private static final long timestamp = System.currentTimeMillis();
 	private static final Logger log = Logger.getLogger(LogCollector.class);
+	private static LogArchive archive;
 
 	/**
 	 * Gets file name for a file with collected log entries. File name contains
@@ -111,7 +115,9 @@ public class LogCollector {
 	 * @param logDescription description related to log entries
 	 */
 	public void processWorkbenchLog(String config, String className, String logDescription) {
-		if(eclipseLogFileExists()){
+		if (eclipseLogFileExists() && isIncremental()) {
+			getLogArchive().collect(Platform.getWorkbenchLog(), config, className, logDescription);
+		} else if (eclipseLogFileExists()){
 			try (BufferedReader br = new BufferedReader(new FileReader(Platform.getWorkbenchLog()));
 					BufferedWriter bw = new BufferedWriter(new FileWriter(getLogFile(config, className), true))) {
 				String line = br.readLine();
@@ -134,6 +140,40 @@ public class LogCollector {
 		}
 	}
 	
+	/**
+	 * Discards entries of workbench log which were not processed. Workbench log is deleted
+	 * unless log entries are collected incrementally.
+	 */
+	public void discardWorkbenchLog() {
+		if (isIncremental()) {
+			if (eclipseLogFileExists()) {
+				getLogArchive().skip(Platform.getWorkbenchLog());
+			}
+		} else {
+			Platform.getWorkbenchLog().delete();
+		}
+	}
+
+	/**
+	 * Gets archive of log entries collected incrementally. Archive is shared by all log collectors
+	 * and located in log directory.
+	 * 
+	 * @return log archive
+	 */
+	public LogArchive getLogArchive() {
+		synchronized (LogCollector.class) {
+			if (archive == null) {
+				archive = new LogArchive(getDirectory() + "reddeer-log_" + getID(),
+						RedDeerProperties.LOG_COLLECTOR_COMPRESSED.getBooleanValue());
+			}
+			return archive;
+		}
+	}
+
+	private boolean isIncremental() {
+		return RedDeerProperties.LOG_COLLECTOR_INCREMENTAL.getBooleanValue();
+	}
+
 	protected boolean eclipseLogFileExists(){
 		File logFile = Platform.getWorkbenchLog();
 		return  logFile != null && logFile.exists();
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.internal.configuration;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Cartesian product of lists. Combinations are created lazily one by one while product is
+ * iterated, the first list changes slowest. Product of no lists contains one empty combination,
+ * product containing an empty list has no combinations.
+ *
+ * @param <T> type of list elements
+ */
+public class CartesianProduct<T> implements Iterable<List<T>> {
+
+	private final List<List<T>> lists;
+
+	/**
+	 * Creates a new Cartesian product of specified lists.
+	 *
+	 * @param lists lists to get Cartesian product of
+	 */
+	public CartesianProduct(List<List<T>> lists) {
+		this.lists = lists;
+	}
+
+	/**
+	 * Gets number of combinations of the product.
+	 *
+	 * @return number of combinations
+	 */
+	public long size() {
+		long size = 1;
+		for (List<T> list : lists) {
+			size *= list.size();
+		}
+		return size;
+	}
+
+	@Override
+	public Iterator<List<T>> iterator() {
+		return new Iterator<List<T>>() {
+
+			private final int[] indexes = new int[lists.size()];
+
+			private boolean hasNext = size() > 0;
+
+			@Override
+			public boolean hasNext() {
+				return hasNext;
+			}
+
+			@Override
+			public List<T> next() {
+				if (!hasNext) {
+					throw new NoSuchElementException();
+				}
+				List<T> combination = new ArrayList<T>(lists.size());
+				for (int i = 0; i < indexes.length; i++) {
+					combination.add(lists.get(i).get(indexes[i]));
+				}
+				// move to the next combination, last list changes fastest
+				hasNext = false;
+				for (int i = indexes.length - 1; i >= 0; i--) {
+					if (++indexes[i] < lists.get(i).size()) {
+						hasNext = true;
+						break;
+					}
+					indexes[i] = 0;
+				}
+				return combination;
+			}
+		};
+	}
+}
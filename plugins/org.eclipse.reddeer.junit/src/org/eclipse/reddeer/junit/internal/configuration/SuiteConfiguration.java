@@ -12,9 +12,9 @@
 package org.eclipse.reddeer.junit.internal.configuration;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -23,9 +23,11 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.junit.annotation.AnnotationUtils;
 import org.eclipse.reddeer.junit.annotation.RequirementRestriction;
 import org.eclipse.reddeer.junit.internal.requirement.RequirementHelper;
+import org.eclipse.reddeer.junit.internal.requirement.RequirementPool;
 import org.eclipse.reddeer.junit.requirement.ConfigurableRequirement;
 import org.eclipse.reddeer.junit.requirement.Requirement;
 import org.eclipse.reddeer.junit.requirement.configuration.MissingRequirementConfiguration;
@@ -38,16 +40,27 @@ import org.junit.runners.model.InitializationError;
  * Suite configuration. Suite configuration contains a map of requirement
  * configuration sets for a set of classes. Suites are constructed from this map
  * - there is one suite per configuration set and a set of test classes.
+ * Test classes declaring the same pooled requirements (see {@link RequirementPool})
+ * are ordered next to each other within a configuration set.
  *
  * @author mlabuda@redhat.com
  *
  */
 public class SuiteConfiguration {
 
+	private static final Logger log = Logger.getLogger(SuiteConfiguration.class);
+
 	private Class<?> suiteClass;
 
+	// interned configuration sets, equal sets of configurations share one instance
+	private Map<Set<RequirementConfiguration>, RequirementConfigurationSet> configurationSets = new HashMap<>();
+
+	private long combinationsCount;
+
 	private Map<RequirementConfigurationSet, List<Class<?>>> configurationSetSuites = new HashMap<>();
 
+	private Map<Class<?>, String> pooledRequirements = new HashMap<>();
+
 	/**
 	 * Creates a new suite configuration for a suite class.
 	 * 
@@ -71,6 +84,15 @@ public class SuiteConfiguration {
 		return configurationSetSuites;
 	}
 
+	/**
+	 * Gets number of combinations of requirement configurations built for all test classes.
+	 * 
+	 * @return number of built combinations
+	 */
+	public long getCombinationsCount() {
+		return combinationsCount;
+	}
+
 	/**
 	 * Creates test suites for a specific set of requirement configurations and
 	 * set of test classes having the same configuration set. If a test class
@@ -92,6 +114,7 @@ public class SuiteConfiguration {
 		List<Class<?>> testClasses = getTestClasses(suiteClass);
 		for (Class<?> clazz : testClasses) {
 			List<Requirement<?>> requirements = RequirementHelper.getRequirements(clazz);
+			pooledRequirements.put(clazz, getPooledRequirementsKey(requirements));
 			List<List<RequirementConfiguration>> requirementConfigurationsLists = new ArrayList<>();
 			boolean shouldHaveConfig = false;
 			Collection<RequirementMatcher> matchers = getRequirementRestrictions(clazz);
@@ -107,18 +130,52 @@ public class SuiteConfiguration {
 			if (shouldHaveConfig  && requirementConfigurationsLists.get(0).isEmpty()) {
 				Set<RequirementConfiguration> configSet = new HashSet<>();
 				configSet.add(new MissingRequirementConfiguration());
-				updateMap(new RequirementConfigurationSet(configSet), clazz);
+				updateMap(configSet, clazz);
 			} else if (requirementConfigurationsLists.isEmpty()) {
-				updateMap(new RequirementConfigurationSet(), clazz);
+				updateMap(new HashSet<>(), clazz);
 			} else {
-				for (List<RequirementConfiguration> configurationList : getCartesianProduct(
+				// combinations consisting of the same configurations are used once
+				Set<Set<RequirementConfiguration>> classConfigurations = new HashSet<>();
+				for (List<RequirementConfiguration> configurationList : new CartesianProduct<>(
 						requirementConfigurationsLists)) {
-					Set<RequirementConfiguration> configSet = new HashSet<>();
-					configSet.addAll(configurationList);
-					updateMap(new RequirementConfigurationSet(configSet), clazz);
+					combinationsCount++;
+					Set<RequirementConfiguration> configSet = new HashSet<>(configurationList);
+					if (classConfigurations.add(configSet)) {
+						updateMap(configSet, clazz);
+					}
 				}
 			}
 		}
+		orderClassesForReuse();
+		log.debug("Suite configuration built " + combinationsCount + " combinations of requirement configurations in "
+				+ configurationSetSuites.size() + " configuration sets for " + testClasses.size() + " test classes");
+	}
+
+	/**
+	 * Gets key of requirements of a test class which are kept alive after the
+	 * class is finished. Classes with the same key can reuse each other's pooled requirements.
+	 */
+	private String getPooledRequirementsKey(List<Requirement<?>> requirements) {
+		return requirements.stream().filter(RequirementPool::isPooled)
+				.map(requirement -> requirement.getClass().getName() + requirement.getDeclaration()).sorted()
+				.collect(Collectors.joining(","));
+	}
+
+	/**
+	 * Orders test classes of each configuration set so that classes declaring
+	 * the same pooled requirements are executed one after another and pooled
+	 * requirements are kept alive only while classes using them run. Classes
+	 * without pooled requirements keep their order and are executed first.
+	 */
+	private void orderClassesForReuse() {
+		for (Map.Entry<RequirementConfigurationSet, List<Class<?>>> entry : configurationSetSuites.entrySet()) {
+			List<Class<?>> classes = entry.getValue();
+			if (classes.stream().anyMatch(clazz -> !pooledRequirements.get(clazz).isEmpty())) {
+				List<Class<?>> orderedClasses = new ArrayList<>(classes);
+				orderedClasses.sort(Comparator.comparing(pooledRequirements::get));
+				entry.setValue(orderedClasses);
+			}
+		}
 	}
 	
 	@SuppressWarnings("unchecked")
@@ -152,43 +209,19 @@ public class SuiteConfiguration {
 		
 	}
 
-	private void updateMap(RequirementConfigurationSet requirementConfigurationSet, Class<?> clazz) {
-		if (configurationSetSuites.containsKey(requirementConfigurationSet)) {
-			List<Class<?>> classes = configurationSetSuites.get(requirementConfigurationSet);
-			List<Class<?>> updatedList = new ArrayList<>();
-			updatedList.addAll(classes);
-			updatedList.add(clazz);;
-			configurationSetSuites.put(requirementConfigurationSet, updatedList);
-		} else {
-			configurationSetSuites.put(requirementConfigurationSet, Arrays.asList(clazz));
-		}
-	}
-	
 	/**
-	 * Gets Cartesian product of given lists.
+	 * Adds a test class to the classes of a configuration set. Configuration sets are interned,
+	 * so equal sets of configurations are represented by the same configuration set.
 	 * 
-	 * @param lists
-	 *            list of lists to get its Cartesian product
-	 * @return Cartesian product of lists
+	 * @param configurations
+	 *            set of configurations
+	 * @param clazz
+	 *            test class to execute with the configurations
 	 */
-	private static <T> List<List<T>> getCartesianProduct(List<List<T>> lists) {
-		List<List<T>> resultLists = new ArrayList<List<T>>();
-		if (lists.size() == 0) {
-			resultLists.add(new ArrayList<T>());
-			return resultLists;
-		} else {
-			List<T> firstList = lists.get(0);
-			List<List<T>> remainingLists = getCartesianProduct(lists.subList(1, lists.size()));
-			for (T listElement : firstList) {
-				for (List<T> remainingList : remainingLists) {
-					ArrayList<T> resultList = new ArrayList<T>();
-					resultList.add(listElement);
-					resultList.addAll(remainingList);
-					resultLists.add(resultList);
-				}
-			}
-		}
-		return resultLists;
+	private void updateMap(Set<RequirementConfiguration> configurations, Class<?> clazz) {
+		RequirementConfigurationSet requirementConfigurationSet = configurationSets.computeIfAbsent(configurations,
+				RequirementConfigurationSet::new);
+		configurationSetSuites.computeIfAbsent(requirementConfigurationSet, set -> new ArrayList<>()).add(clazz);
 	}
 
 	/**
@@ -12,23 +12,31 @@
 package org.eclipse.reddeer.junit.internal.configuration.reader;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.junit.Activator;
 import org.eclipse.reddeer.junit.configuration.RedDeerConfigurationException;
 import org.eclipse.reddeer.junit.requirement.ConfigurableRequirement;
 import org.eclipse.reddeer.junit.requirement.Requirement;
 import org.eclipse.reddeer.junit.requirement.RequirementException;
 import org.eclipse.reddeer.junit.requirement.configuration.RequirementConfiguration;
-import org.json.JSONObject;
 import org.yaml.snakeyaml.Yaml;
 
 import com.fasterxml.jackson.core.JsonParseException;
@@ -40,12 +48,19 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 
 /**
  * JSON requirement reader read a requirements configurations from JSON/YAML file.
+ * Configuration file is parsed to a tree once and each requirement node of the tree
+ * is converted directly to configurations. Parsed YAML files are cached by hash of their
+ * content in memory and in directory given by {@link RedDeerProperties#CONFIG_CACHE_DIRECTORY}.
  * 
  * @author mlabuda@redhat.com
  * @author Andrej Podhradsky (apodhrad@redhat.com)
  */
 public class JSONConfigurationReader implements ConfigurationReader {
 
+	private static final Logger log = Logger.getLogger(JSONConfigurationReader.class);
+
+	private static final Map<String, JsonNode> parsedFiles = new ConcurrentHashMap<String, JsonNode>();
+
 	private ObjectMapper mapper;
 
 	public JSONConfigurationReader() {
@@ -64,7 +79,7 @@ public class JSONConfigurationReader implements ConfigurationReader {
 			if (fileName.endsWith(".json")) {
 				root = mapper.readTree(file);
 			} else if (fileName.endsWith(".yaml") || fileName.endsWith(".yml")) {
-				root = mapper.readTree(convertYamlToJson(file));	 
+				root = readYaml(file);
 			} else {
 				throw new RedDeerConfigurationException("Only JSON and YAML files are supported");
 			}
@@ -83,11 +98,72 @@ public class JSONConfigurationReader implements ConfigurationReader {
 		}
 	}
 	
+	/**
+	 * Reads YAML file to a tree. Trees of already parsed files are taken from cache.
+	 */
+	private JsonNode readYaml(File file) throws IOException {
+		byte[] content = Files.readAllBytes(file.toPath());
+		String hash = getHash(content);
+		JsonNode root = parsedFiles.get(hash);
+		File cacheFile = getCacheFile(hash);
+		if (root == null) {
+			if (cacheFile != null && cacheFile.isFile()) {
+				log.debug("Reading parsed configuration file " + file + " from cache " + cacheFile);
+				root = mapper.readTree(cacheFile);
+			} else {
+				root = convertYamlToJson(content);
+			}
+			parsedFiles.put(hash, root);
+		}
+		if (cacheFile != null && !cacheFile.isFile()) {
+			writeCache(cacheFile, root);
+		}
+		return root;
+	}
+
 	@SuppressWarnings("unchecked")
-	private String convertYamlToJson(File file) throws FileNotFoundException {
-		Map<String,Object> map= (Map<String, Object>) new Yaml().load(new FileReader(file));
-		JSONObject jsonObject = new JSONObject(map);
-		return jsonObject.toString();
+	private JsonNode convertYamlToJson(byte[] content) {
+		Map<String,Object> map= (Map<String, Object>) new Yaml().load(
+				new StringReader(new String(content, StandardCharsets.UTF_8)));
+		return mapper.valueToTree(map);
+	}
+
+	private File getCacheFile(String hash) {
+		String directory = RedDeerProperties.CONFIG_CACHE_DIRECTORY.getValue();
+		return directory == null ? null : new File(directory, hash + ".json");
+	}
+
+	private void writeCache(File cacheFile, JsonNode root) {
+		Path tmpFile = null;
+		try {
+			File directory = cacheFile.getParentFile();
+			directory.mkdirs();
+			// unique temporary file, concurrent runs can cache the same configuration
+			tmpFile = Files.createTempFile(directory.toPath(), cacheFile.getName(), ".tmp");
+			mapper.writeValue(tmpFile.toFile(), root);
+			try {
+				Files.move(tmpFile, cacheFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmpFile, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			log.warn("Parsed configuration could not be cached in " + cacheFile + ": " + e.getMessage());
+			if (tmpFile != null) {
+				tmpFile.toFile().delete();
+			}
+		}
+	}
+
+	private String getHash(byte[] content) {
+		try {
+			StringBuilder hash = new StringBuilder();
+			for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+				hash.append(String.format("%02x", b));
+			}
+			return hash.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RedDeerConfigurationException("Could not compute hash of configuration file", e);
+		}
 	}
 	
 	private List<RequirementConfiguration> getConfigurationsFromRootNode(JsonNode root)
@@ -105,7 +181,7 @@ public class JSONConfigurationReader implements ConfigurationReader {
 				ConfigurableRequirement<?, ?> configurableRequirement = (ConfigurableRequirement<?, ?>) requirement;
 				CollectionType typeReference = TypeFactory.defaultInstance().constructCollectionType(List.class,
 						configurableRequirement.getConfigurationClass());
-				List<RequirementConfiguration> resultList = mapper.readValue(node.getValue().toString(), typeReference);
+				List<RequirementConfiguration> resultList = mapper.readerFor(typeReference).readValue(node.getValue());
 				configs.addAll(resultList);
 			} else {
 				throw new RequirementException("Annotation class for requirement " + requirement + " located in "
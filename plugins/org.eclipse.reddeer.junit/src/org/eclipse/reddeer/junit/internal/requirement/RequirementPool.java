@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.internal.requirement;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.junit.requirement.ConfigurableRequirement;
+import org.eclipse.reddeer.junit.requirement.Requirement;
+import org.eclipse.reddeer.junit.requirement.RequirementScope;
+import org.eclipse.reddeer.junit.requirement.configuration.RequirementConfiguration;
+
+/**
+ * Requirement pool keeps fulfilled requirements with scope other than {@link RequirementScope#CLASS}
+ * alive, so test classes declaring the same requirement with the same configuration reuse it instead
+ * of fulfilling it again. Requirements are identified by their class, declaration and configuration,
+ * requirements with {@link RequirementScope#CONFIGURATION_SET} scope also by ID of configuration set.
+ * <br>
+ * Test classes reserve pooled requirements when they are built. Pooled requirement is cleaned up when
+ * the last test class which reserved it is finished or when its scope ends, whatever comes first.
+ * 
+ * @since 3.5
+ */
+public class RequirementPool {
+
+	private static final Logger log = Logger.getLogger(RequirementPool.class);
+
+	private static RequirementPool instance;
+
+	private final Map<Key, Requirement<?>> requirements = new HashMap<Key, Requirement<?>>();
+
+	private final Map<Key, Integer> reservations = new HashMap<Key, Integer>();
+
+	private RequirementPool() {
+	}
+
+	/**
+	 * Gets instance of RequirementPool.
+	 *
+	 * @return RequirementPool instance
+	 */
+	public static synchronized RequirementPool getInstance() {
+		if (instance == null) {
+			instance = new RequirementPool();
+		}
+		return instance;
+	}
+
+	/**
+	 * Finds out whether specified requirement is kept alive after a test class is finished.
+	 *
+	 * @param requirement requirement
+	 * @return true if requirement has scope other than {@link RequirementScope#CLASS}, false otherwise
+	 */
+	public static boolean isPooled(Requirement<?> requirement) {
+		return requirement.getScope() != null && requirement.getScope() != RequirementScope.CLASS;
+	}
+
+	/**
+	 * Reserves pooled requirement for a test class.
+	 *
+	 * @param requirement pooled requirement of a test class
+	 * @param configId ID of configuration set of the test class
+	 */
+	public synchronized void reserve(Requirement<?> requirement, String configId) {
+		Key key = new Key(requirement, configId);
+		Integer count = reservations.get(key);
+		reservations.put(key, count == null ? 1 : count + 1);
+	}
+
+	/**
+	 * Gets pooled requirement equal to specified requirement. If pooled requirement is not
+	 * healthy, it is cleaned up and removed from the pool.
+	 *
+	 * @param requirement pooled requirement of a test class
+	 * @param configId ID of configuration set of the test class
+	 * @return fulfilled healthy requirement or specified requirement if there is no such requirement in pool
+	 */
+	public synchronized Requirement<?> acquire(Requirement<?> requirement, String configId) {
+		Key key = new Key(requirement, configId);
+		Requirement<?> pooled = requirements.get(key);
+		if (pooled == null || pooled == requirement) {
+			return requirement;
+		}
+		if (isHealthy(pooled)) {
+			log.debug("Reusing requirement " + pooled.getClass().getName());
+			return pooled;
+		}
+		log.info("Requirement " + pooled.getClass().getName() + " is not healthy, it will be fulfilled again");
+		requirements.remove(key);
+		cleanUp(pooled);
+		return requirement;
+	}
+
+	/**
+	 * Finds out whether specified requirement was already fulfilled and is kept in pool.
+	 *
+	 * @param requirement requirement
+	 * @param configId ID of configuration set of the test class
+	 * @return true if requirement is fulfilled and pooled, false otherwise
+	 */
+	public synchronized boolean isFulfilled(Requirement<?> requirement, String configId) {
+		return requirements.get(new Key(requirement, configId)) == requirement;
+	}
+
+	/**
+	 * Puts fulfilled requirement to pool.
+	 *
+	 * @param requirement fulfilled pooled requirement
+	 * @param configId ID of configuration set of the test class
+	 */
+	public synchronized void put(Requirement<?> requirement, String configId) {
+		requirements.put(new Key(requirement, configId), requirement);
+	}
+
+	/**
+	 * Releases reservation of pooled requirement made by a finished test class. Requirement is cleaned up
+	 * if no other test class reserved it.
+	 *
+	 * @param requirement pooled requirement of a test class
+	 * @param configId ID of configuration set of the test class
+	 */
+	public synchronized void release(Requirement<?> requirement, String configId) {
+		Key key = new Key(requirement, configId);
+		Integer count = reservations.get(key);
+		if (count != null && count > 1) {
+			reservations.put(key, count - 1);
+			return;
+		}
+		reservations.remove(key);
+		Requirement<?> pooled = requirements.remove(key);
+		if (pooled != null) {
+			cleanUp(pooled);
+		}
+	}
+
+	/**
+	 * Cleans up all pooled requirements with specified scope and drops their reservations.
+	 *
+	 * @param scope scope which ended
+	 */
+	public synchronized void cleanUp(RequirementScope scope) {
+		reservations.keySet().removeIf(key -> key.scope == scope);
+		List<Requirement<?>> ended = new ArrayList<Requirement<?>>();
+		Iterator<Map.Entry<Key, Requirement<?>>> iterator = requirements.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Key, Requirement<?>> entry = iterator.next();
+			if (entry.getKey().scope == scope) {
+				ended.add(entry.getValue());
+				iterator.remove();
+			}
+		}
+		ended.forEach(this::cleanUp);
+	}
+
+	/**
+	 * Cleans up all pooled requirements and drops all reservations.
+	 */
+	public synchronized void cleanUp() {
+		for (RequirementScope scope : RequirementScope.values()) {
+			cleanUp(scope);
+		}
+	}
+
+	/**
+	 * Gets number of fulfilled requirements kept in pool.
+	 *
+	 * @return number of pooled requirements
+	 */
+	public synchronized int size() {
+		return requirements.size();
+	}
+
+	private boolean isHealthy(Requirement<?> requirement) {
+		try {
+			return requirement.isHealthy();
+		} catch (RuntimeException e) {
+			log.warn("Health check of requirement " + requirement.getClass().getName() + " failed: " + e.getMessage());
+			return false;
+		}
+	}
+
+	private void cleanUp(Requirement<?> requirement) {
+		log.debug("Cleaning up pooled requirement " + requirement.getClass().getName());
+		try {
+			requirement.cleanUp();
+		} catch (RuntimeException e) {
+			log.error("Clean up of pooled requirement " + requirement.getClass().getName() + " failed", e);
+		}
+	}
+
+	private static class Key {
+
+		private final Class<?> requirementClass;
+
+		private final Annotation declaration;
+
+		private final String configurationId;
+
+		private final String configurationSetId;
+
+		private final RequirementScope scope;
+
+		private Key(Requirement<?> requirement, String configId) {
+			requirementClass = requirement.getClass();
+			declaration = requirement.getDeclaration();
+			scope = requirement.getScope();
+			configurationId = getConfigurationId(requirement);
+			configurationSetId = scope == RequirementScope.CONFIGURATION_SET ? configId : null;
+		}
+
+		private static String getConfigurationId(Requirement<?> requirement) {
+			if (requirement instanceof ConfigurableRequirement) {
+				RequirementConfiguration configuration = ((ConfigurableRequirement<?, ?>) requirement)
+						.getConfiguration();
+				return configuration == null ? null : configuration.getId();
+			}
+			return null;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(requirementClass, declaration, configurationId, configurationSetId, scope);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return requirementClass == other.requirementClass && Objects.equals(declaration, other.declaration)
+					&& Objects.equals(configurationId, other.configurationId)
+					&& Objects.equals(configurationSetId, other.configurationSetId) && scope == other.scope;
+		}
+	}
+}
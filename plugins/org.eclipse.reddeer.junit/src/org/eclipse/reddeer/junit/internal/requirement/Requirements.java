@@ -71,14 +71,56 @@ public class Requirements implements Requirement<Annotation>, Iterable<Requireme
 		return requirements.size();
 	}
 
+	/**
+	 * Replaces requirements kept alive by {@link RequirementPool} with their fulfilled instances
+	 * if they are healthy. Has to be called before requirements are injected into a test class.
+	 */
+	public void reusePooled() {
+		RequirementPool pool = RequirementPool.getInstance();
+		for (int i = 0; i < requirements.size(); i++) {
+			Requirement<?> requirement = requirements.get(i);
+			if (RequirementPool.isPooled(requirement)) {
+				requirements.set(i, pool.acquire(requirement, configID));
+			}
+		}
+	}
+
+	/**
+	 * Reserves requirements kept alive by {@link RequirementPool} for the test class, so they
+	 * are not cleaned up before the test class is finished.
+	 */
+	public void reservePooled() {
+		RequirementPool pool = RequirementPool.getInstance();
+		for (Requirement<?> requirement : requirements) {
+			if (RequirementPool.isPooled(requirement)) {
+				pool.reserve(requirement, configID);
+			}
+		}
+	}
+
 	@Override
 	public void fulfill() {
-		runSafely(Requirement::fulfill);
+		RequirementPool pool = RequirementPool.getInstance();
+		runSafely(requirement -> {
+			if (!RequirementPool.isPooled(requirement)) {
+				requirement.fulfill();
+			} else if (!pool.isFulfilled(requirement, configID)) {
+				requirement.fulfill();
+				pool.put(requirement, configID);
+			}
+		});
 	}
 
 	@Override
 	public void cleanUp() {
-		runSafely(Requirement::cleanUp);
+		RequirementPool pool = RequirementPool.getInstance();
+		runSafely(requirement -> {
+			if (RequirementPool.isPooled(requirement)) {
+				pool.release(requirement, configID);
+			} else {
+				requirement.cleanUp();
+			}
+		});
 	}
 
 	@Override
@@ -41,7 +41,8 @@ public class RequirementsBuilder {
 	 *            class to build its requirements
 	 * @return requirements set for a specified class, if configuration set
 	 *         contains only MissingRequirementConfiguration, then empty
-	 *         requirements is created
+	 *         requirements is created. Pooled requirements of the class are
+	 *         reserved in {@link RequirementPool}
 	 */
 	@SuppressWarnings("unchecked")
 	public Requirements build(RequirementConfigurationSet configurationSet, Class<?> clazz) {
@@ -67,6 +68,8 @@ public class RequirementsBuilder {
 				requirements.add(requirement);
 			}
 		}
-		return new Requirements(requirements, clazz, configurationSet.getId());
+		Requirements classRequirements = new Requirements(requirements, clazz, configurationSet.getId());
+		classRequirements.reservePooled();
+		return classRequirements;
 	}
 }
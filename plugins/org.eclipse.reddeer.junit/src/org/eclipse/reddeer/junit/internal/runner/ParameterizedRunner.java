@@ -22,6 +22,7 @@ import org.eclipse.reddeer.junit.internal.requirement.Requirements;
 import org.eclipse.reddeer.junit.internal.requirement.inject.RequirementsInjector;
 import org.junit.runner.Runner;
 import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.Parameterized;
 import org.junit.runners.model.Statement;
 
@@ -131,4 +132,19 @@ public class ParameterizedRunner extends Parameterized {
 		assertNotNull(firstChildRunner);
 		return firstChildRunner.withAfterClasses(statement);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.junit.runners.ParentRunner#classBlock(org.junit.runner.notification.
+	 * RunNotifier)
+	 */
+	@Override
+	protected Statement classBlock(RunNotifier notifier) {
+		// static fields were injected on construction, pooled requirements may replace them
+		requirements.reusePooled();
+		injectRequirements(getTestClass().getJavaClass(), requirements);
+		return super.classBlock(notifier);
+	}
 }
@@ -232,6 +232,7 @@ public class RequirementsRunner extends BlockJUnit4ClassRunner {
 	
 	@Override
 	protected Statement classBlock(final RunNotifier notifier) {
+		requirements.reusePooled();
 		log.debug("Injecting fulfilled requirements into static fields of test class: " + requirements.getClass().getName());
 		requirementsInjector.inject(getTestClass().getJavaClass(), requirements);
 		
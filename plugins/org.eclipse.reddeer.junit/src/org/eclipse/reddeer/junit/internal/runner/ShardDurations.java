@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.internal.runner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
+
+/**
+ * Durations of units of work recorded in previous runs. Shards of one run read durations
+ * from the same file defined by {@link RedDeerProperties#SHARD_DURATIONS}, which is never written
+ * by shards, so all shards compute the same partitions. Each shard stores durations of its units
+ * to its own output file defined by {@link RedDeerProperties#SHARD_DURATIONS_OUTPUT} when JVM exits.
+ * Output files are merged into the durations file after all shards end, see {@link #merge(File, Collection)}.
+ * 
+ */
+public class ShardDurations {
+
+	private static final Logger log = Logger.getLogger(ShardDurations.class);
+
+	// durations recorded by all suites executed in JVM
+	private static final Map<File, ShardDurations> recordingDurations = new HashMap<File, ShardDurations>();
+
+	private final File file;
+	private final Properties recordedDurations = new Properties();
+
+	/**
+	 * Creates durations recorded to given output file.
+	 * 
+	 * @param file output file
+	 */
+	public ShardDurations(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Creates durations recorded to file defined by {@link RedDeerProperties#SHARD_DURATIONS_OUTPUT}.
+	 * Recorded durations are stored when JVM exits.
+	 * 
+	 * @return durations or null if output file is not defined
+	 */
+	public static ShardDurations fromProperties() {
+		String fileName = RedDeerProperties.SHARD_DURATIONS_OUTPUT.getValue();
+		if (fileName == null || fileName.trim().isEmpty()) {
+			return null;
+		}
+		ShardDurations durations = new ShardDurations(new File(fileName.trim()).getAbsoluteFile());
+		synchronized (recordingDurations) {
+			if (recordingDurations.containsKey(durations.file)) {
+				return recordingDurations.get(durations.file);
+			}
+			recordingDurations.put(durations.file, durations);
+		}
+		Runtime.getRuntime().addShutdownHook(new Thread(durations::store, "RedDeer Shard Durations"));
+		return durations;
+	}
+
+	/**
+	 * Loads durations from file defined by {@link RedDeerProperties#SHARD_DURATIONS}.
+	 * 
+	 * @return durations of units of work in milliseconds or null if durations file is not defined
+	 */
+	public static Map<String, Long> loadFromProperties() {
+		String fileName = RedDeerProperties.SHARD_DURATIONS.getValue();
+		if (fileName == null || fileName.trim().isEmpty()) {
+			return null;
+		}
+		return load(new File(fileName.trim()));
+	}
+
+	/**
+	 * Loads durations from given file.
+	 * 
+	 * @param file durations file
+	 * @return durations of units of work in milliseconds, empty if the file does not exist
+	 */
+	public static Map<String, Long> load(File file) {
+		Map<String, Long> durations = new HashMap<String, Long>();
+		if (!file.isFile()) {
+			log.info("Test durations file " + file + " does not exist, shards are balanced by number of test classes");
+			return durations;
+		}
+		Properties properties = new Properties();
+		try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+			properties.load(inputStream);
+		} catch (IOException ioe) {
+			log.warn("Unable to read test durations from " + file + ": " + ioe.getMessage());
+			return durations;
+		}
+		for (String unit : properties.stringPropertyNames()) {
+			try {
+				durations.put(unit, Long.parseLong(properties.getProperty(unit)));
+			} catch (NumberFormatException nfe) {
+				log.warn("Invalid duration of " + unit + " in " + file);
+			}
+		}
+		return durations;
+	}
+
+	/**
+	 * Merges durations stored by shards into durations file. Durations of sources override durations
+	 * in durations file, later sources override earlier ones. Missing sources are skipped. Must not be
+	 * called while shards are running.
+	 * 
+	 * @param file durations file
+	 * @param sources durations stored by shards
+	 */
+	public static void merge(File file, Collection<File> sources) {
+		Map<String, Long> merged = load(file);
+		for (File source : sources) {
+			if (source.isFile()) {
+				merged.putAll(load(source));
+			}
+		}
+		Properties properties = new Properties();
+		for (Map.Entry<String, Long> duration : merged.entrySet()) {
+			properties.setProperty(duration.getKey(), Long.toString(duration.getValue()));
+		}
+		write(file, properties);
+	}
+
+	/**
+	 * Records duration of unit of work.
+	 * 
+	 * @param unit unit of work
+	 * @param duration duration in milliseconds
+	 */
+	public synchronized void record(String unit, long duration) {
+		recordedDurations.setProperty(unit, Long.toString(duration));
+	}
+
+	/**
+	 * Stores recorded durations to output file.
+	 */
+	public synchronized void store() {
+		if (!recordedDurations.isEmpty()) {
+			write(file, recordedDurations);
+		}
+	}
+
+	/**
+	 * Writes durations to temporary file which then replaces given file, so readers never see
+	 * partially written durations.
+	 */
+	private static void write(File file, Properties properties) {
+		File directory = file.getAbsoluteFile().getParentFile();
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			log.warn("Unable to create test durations directory " + directory);
+			return;
+		}
+		Path temporaryFile = null;
+		try {
+			temporaryFile = Files.createTempFile(directory.toPath(), file.getName(), ".tmp");
+			try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+				properties.store(outputStream, "RedDeer test durations in milliseconds");
+			}
+			try {
+				Files.move(temporaryFile, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException amnse) {
+				Files.move(temporaryFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException ioe) {
+			log.warn("Unable to store test durations to " + file + ": " + ioe.getMessage());
+			if (temporaryFile != null) {
+				temporaryFile.toFile().delete();
+			}
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.internal.runner;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
+import org.eclipse.reddeer.junit.internal.configuration.RequirementConfigurationSet;
+import org.eclipse.reddeer.junit.requirement.configuration.RequirementConfiguration;
+
+/**
+ * Splits units of work (test classes executed with a configuration set) between
+ * shards, so each shard can be executed by a separate process. Units are assigned
+ * to the shards by their recorded durations, the longest units first, each to the
+ * shard with the lowest total duration. Partitioning is deterministic, so all
+ * processes with the same tests and recorded durations compute the same shards.
+ * 
+ */
+public class ShardPartitioner {
+
+	private static final long DEFAULT_DURATION = 1;
+
+	private final int shardIndex;
+	private final int shardCount;
+	private final Map<String, Long> durations;
+
+	/**
+	 * Creates a new shard partitioner.
+	 * 
+	 * @param shardIndex index of current shard starting with 0
+	 * @param shardCount number of shards
+	 * @param durations recorded durations of units in milliseconds
+	 */
+	public ShardPartitioner(int shardIndex, int shardCount, Map<String, Long> durations) {
+		if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+			throw new RedDeerException("Shard " + (shardIndex + 1) + " of " + shardCount + " does not exist");
+		}
+		this.shardIndex = shardIndex;
+		this.shardCount = shardCount;
+		this.durations = durations == null ? Collections.<String, Long>emptyMap() : durations;
+	}
+
+	/**
+	 * Creates shard partitioner for shard defined by {@link RedDeerProperties#SHARD} system
+	 * property with durations recorded in {@link RedDeerProperties#SHARD_DURATIONS}.
+	 * 
+	 * @return shard partitioner or null if tests are not sharded
+	 */
+	public static ShardPartitioner fromProperties() {
+		String shard = RedDeerProperties.SHARD.getValue();
+		if (shard == null || shard.trim().isEmpty()) {
+			return null;
+		}
+		String[] indexAndCount = shard.trim().split("/");
+		try {
+			if (indexAndCount.length != 2) {
+				throw new NumberFormatException();
+			}
+			int shardIndex = Integer.parseInt(indexAndCount[0].trim()) - 1;
+			int shardCount = Integer.parseInt(indexAndCount[1].trim());
+			return new ShardPartitioner(shardIndex, shardCount, ShardDurations.loadFromProperties());
+		} catch (NumberFormatException nfe) {
+			throw new RedDeerException("System property '" + RedDeerProperties.SHARD.getName()
+					+ "' has unsupported value '" + shard + "'. Value has to be in form index/count, e.g. 1/4");
+		}
+	}
+
+	/**
+	 * Gets key of configuration set which is the same in all processes.
+	 * 
+	 * @param configurationSet configuration set
+	 * @return sorted IDs of configurations in configuration set
+	 */
+	public static String getConfigurationKey(RequirementConfigurationSet configurationSet) {
+		List<String> ids = new ArrayList<String>();
+		for (RequirementConfiguration configuration : configurationSet.getConfigurationSet()) {
+			ids.add(configuration.getId());
+		}
+		if (ids.isEmpty()) {
+			return RequirementConfigurationSet.EMPTY_SET_ID;
+		}
+		Collections.sort(ids);
+		return String.join(",", ids);
+	}
+
+	/**
+	 * Gets unit of work representing test class executed with configuration set.
+	 * 
+	 * @param configurationKey key of configuration set
+	 * @param testClass test class
+	 * @return unit of work
+	 */
+	public static String getUnit(String configurationKey, Class<?> testClass) {
+		return testClass.getName() + "@" + configurationKey;
+	}
+
+	/**
+	 * Gets index of current shard.
+	 * 
+	 * @return index of current shard starting with 0
+	 */
+	public int getShardIndex() {
+		return shardIndex;
+	}
+
+	/**
+	 * Gets number of shards.
+	 * 
+	 * @return number of shards
+	 */
+	public int getShardCount() {
+		return shardCount;
+	}
+
+	/**
+	 * Gets units of work assigned to current shard.
+	 * 
+	 * @param units all units of work
+	 * @return units of work of current shard
+	 */
+	public Set<String> getShardUnits(Collection<String> units) {
+		return partition(units).get(shardIndex);
+	}
+
+	/**
+	 * Splits units of work between all shards.
+	 * 
+	 * @param units all units of work
+	 * @return units of work of each shard
+	 */
+	public List<Set<String>> partition(Collection<String> units) {
+		List<String> sortedUnits = new ArrayList<String>(new HashSet<String>(units));
+		final Map<String, Long> unitDurations = new HashMap<String, Long>();
+		long defaultDuration = getDefaultDuration();
+		for (String unit : sortedUnits) {
+			Long duration = durations.get(unit);
+			unitDurations.put(unit, duration == null ? defaultDuration : duration);
+		}
+		Collections.sort(sortedUnits, new Comparator<String>() {
+			@Override
+			public int compare(String unit0, String unit1) {
+				int result = unitDurations.get(unit1).compareTo(unitDurations.get(unit0));
+				return result != 0 ? result : unit0.compareTo(unit1);
+			}
+		});
+		List<Set<String>> shards = new ArrayList<Set<String>>();
+		long[] shardDurations = new long[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			shards.add(new HashSet<String>());
+		}
+		for (String unit : sortedUnits) {
+			int shortestShard = 0;
+			for (int i = 1; i < shardCount; i++) {
+				if (shardDurations[i] < shardDurations[shortestShard]) {
+					shortestShard = i;
+				}
+			}
+			shards.get(shortestShard).add(unit);
+			shardDurations[shortestShard] += unitDurations.get(unit);
+		}
+		return shards;
+	}
+
+	/**
+	 * Units without recorded duration are expected to last as long as an average unit.
+	 */
+	private long getDefaultDuration() {
+		if (durations.isEmpty()) {
+			return DEFAULT_DURATION;
+		}
+		long total = 0;
+		for (Long duration : durations.values()) {
+			total += duration;
+		}
+		return Math.max(total / durations.size(), DEFAULT_DURATION);
+	}
+}
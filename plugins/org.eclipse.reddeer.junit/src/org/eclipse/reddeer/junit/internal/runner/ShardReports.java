@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.internal.runner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Aggregates JUnit XML reports of shards into one reports directory and sums up their results.
+ * Reports are files named <i>TEST-*.xml</i> located anywhere in a shard directory. A report is
+ * renamed if another shard already provided report with the same name, e.g. when a test class is
+ * executed by more shards with different configurations.
+ * 
+ */
+public class ShardReports {
+
+	private static final String REPORT_PREFIX = "TEST-";
+	private static final String REPORT_SUFFIX = ".xml";
+
+	private final File reportsDirectory;
+	private int reports;
+	private int tests;
+	private int failures;
+	private int errors;
+	private int skipped;
+
+	/**
+	 * Creates reports aggregated into given directory.
+	 * 
+	 * @param reportsDirectory directory of aggregated reports
+	 */
+	public ShardReports(File reportsDirectory) {
+		this.reportsDirectory = reportsDirectory;
+	}
+
+	/**
+	 * Copies reports of shard into reports directory and adds their results.
+	 * 
+	 * @param shardDirectory directory of shard
+	 * @param shardIndex index of shard starting with 0
+	 * @throws IOException if a report cannot be read or copied
+	 */
+	public void collect(File shardDirectory, int shardIndex) throws IOException {
+		Files.createDirectories(reportsDirectory.toPath());
+		for (Path report : findReports(shardDirectory.toPath())) {
+			String name = report.getFileName().toString();
+			Path target = reportsDirectory.toPath().resolve(name);
+			if (Files.exists(target)) {
+				target = reportsDirectory.toPath().resolve(name.substring(0, name.length() - REPORT_SUFFIX.length())
+						+ "-shard" + (shardIndex + 1) + REPORT_SUFFIX);
+			}
+			addResults(report);
+			Files.copy(report, target, StandardCopyOption.REPLACE_EXISTING);
+			reports++;
+		}
+	}
+
+	/**
+	 * Gets number of aggregated reports.
+	 * 
+	 * @return number of reports
+	 */
+	public int getReportCount() {
+		return reports;
+	}
+
+	/**
+	 * Gets number of tests in aggregated reports.
+	 * 
+	 * @return number of tests
+	 */
+	public int getTestCount() {
+		return tests;
+	}
+
+	/**
+	 * Gets number of failed tests in aggregated reports.
+	 * 
+	 * @return number of failures
+	 */
+	public int getFailureCount() {
+		return failures;
+	}
+
+	/**
+	 * Gets number of tests with error in aggregated reports.
+	 * 
+	 * @return number of errors
+	 */
+	public int getErrorCount() {
+		return errors;
+	}
+
+	/**
+	 * Gets number of skipped tests in aggregated reports.
+	 * 
+	 * @return number of skipped tests
+	 */
+	public int getSkippedCount() {
+		return skipped;
+	}
+
+	private List<Path> findReports(Path shardDirectory) throws IOException {
+		if (!Files.isDirectory(shardDirectory)) {
+			return Collections.emptyList();
+		}
+		try (Stream<Path> paths = Files.walk(shardDirectory)) {
+			List<Path> found = paths.filter(path -> {
+				String name = path.getFileName().toString();
+				return name.startsWith(REPORT_PREFIX) && name.endsWith(REPORT_SUFFIX) && Files.isRegularFile(path);
+			}).collect(Collectors.toCollection(ArrayList::new));
+			Collections.sort(found);
+			return found;
+		}
+	}
+
+	private void addResults(Path report) throws IOException {
+		Element root;
+		try {
+			root = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(report.toFile()).getDocumentElement();
+		} catch (ParserConfigurationException | SAXException e) {
+			throw new IOException("Unable to parse test report " + report, e);
+		}
+		if ("testsuite".equals(root.getTagName())) {
+			addSuiteResults(root);
+		} else {
+			NodeList suites = root.getElementsByTagName("testsuite");
+			for (int i = 0; i < suites.getLength(); i++) {
+				addSuiteResults((Element) suites.item(i));
+			}
+		}
+	}
+
+	private void addSuiteResults(Element suite) {
+		tests += getCount(suite, "tests");
+		failures += getCount(suite, "failures");
+		errors += getCount(suite, "errors");
+		skipped += getCount(suite, "skipped");
+	}
+
+	private static int getCount(Element suite, String attribute) {
+		String value = suite.getAttribute(attribute);
+		try {
+			return value.isEmpty() ? 0 : Integer.parseInt(value.trim());
+		} catch (NumberFormatException nfe) {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.internal.runner;
+
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+
+/**
+ * Named suite recording durations of its test classes.
+ * 
+ */
+public class ShardSuite extends NamedSuite {
+
+	private final ShardDurations durations;
+	private final String configurationKey;
+
+	/**
+	 * Constructor used for separate independent classes.
+	 *
+	 * @param classes the classes
+	 * @param builder the builder
+	 * @param name the name
+	 * @param durations durations to record durations of test classes to
+	 * @param configurationKey key of configuration set, see {@link ShardPartitioner#getConfigurationKey}
+	 * @throws InitializationError the initialization error
+	 */
+	public ShardSuite(Class<?>[] classes, RunnerBuilder builder, String name, ShardDurations durations,
+			String configurationKey) throws InitializationError {
+		super(classes, builder, name);
+		this.durations = durations;
+		this.configurationKey = configurationKey;
+	}
+
+	@Override
+	protected void runChild(Runner runner, RunNotifier notifier) {
+		long start = System.currentTimeMillis();
+		try {
+			super.runChild(runner, notifier);
+		} finally {
+			if (runner instanceof ParentRunner && ((ParentRunner<?>) runner).getTestClass().getJavaClass() != null) {
+				durations.record(
+						ShardPartitioner.getUnit(configurationKey,
+								((ParentRunner<?>) runner).getTestClass().getJavaClass()),
+						System.currentTimeMillis() - start);
+			}
+		}
+	}
+}
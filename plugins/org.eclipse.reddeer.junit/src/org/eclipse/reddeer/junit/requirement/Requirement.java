@@ -80,6 +80,30 @@ public interface Requirement<T extends Annotation> extends IExecutionPriority {
 
 	}
 
+	/**
+	 * Gets scope of the requirement. Requirements with scope other than
+	 * {@link RequirementScope#CLASS} are fulfilled once and reused by other
+	 * test classes until the scope ends.
+	 *
+	 * @return scope of the requirement
+	 * @since 3.5
+	 */
+	default RequirementScope getScope() {
+		return RequirementScope.CLASS;
+	}
+
+	/**
+	 * Checks whether a fulfilled requirement can be reused by another test
+	 * class. Called before each reuse of a requirement kept alive by its
+	 * scope. Unhealthy requirement is cleaned up and fulfilled again.
+	 *
+	 * @return true if requirement can be reused, false otherwise
+	 * @since 3.5
+	 */
+	default boolean isHealthy() {
+		return true;
+	}
+
 	@Override
 	default long getPriority() {
 		return 0;
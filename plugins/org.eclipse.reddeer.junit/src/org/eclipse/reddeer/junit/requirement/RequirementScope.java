@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.requirement;
+
+/**
+ * Scope of a requirement determines how long a fulfilled requirement is kept alive.
+ * Requirements with scope other than {@link #CLASS} are kept in a pool and reused by all test
+ * classes declaring the same requirement with the same configuration. Reused requirement is not
+ * fulfilled again, it is only checked by {@link Requirement#isHealthy()}.
+ * 
+ * @since 3.5
+ */
+public enum RequirementScope {
+
+	/**
+	 * Requirement is fulfilled before each test class and cleaned up after it.
+	 */
+	CLASS,
+
+	/**
+	 * Requirement is kept alive while test classes of the same configuration set are executed.
+	 */
+	CONFIGURATION_SET,
+
+	/**
+	 * Requirement is kept alive while test classes of the whole suite are executed.
+	 */
+	SUITE;
+}
@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.junit.extensionpoint.IAfterTest;
@@ -25,14 +26,21 @@ import org.eclipse.reddeer.junit.internal.configuration.SuiteConfiguration;
 import org.eclipse.reddeer.junit.internal.extensionpoint.AfterTestInitialization;
 import org.eclipse.reddeer.junit.internal.extensionpoint.BeforeTestInitialization;
 import org.eclipse.reddeer.junit.internal.extensionpoint.IssueTrackerInitialization;
+import org.eclipse.reddeer.junit.internal.requirement.RequirementPool;
 import org.eclipse.reddeer.junit.internal.runner.EmptySuite;
 import org.eclipse.reddeer.junit.internal.runner.NamedSuite;
 import org.eclipse.reddeer.junit.internal.runner.RequirementsRunnerBuilder;
+import org.eclipse.reddeer.junit.internal.runner.ShardDurations;
+import org.eclipse.reddeer.junit.internal.runner.ShardPartitioner;
+import org.eclipse.reddeer.junit.internal.runner.ShardSuite;
 import org.eclipse.reddeer.junit.internal.runner.TestsExecutionManager;
 import org.eclipse.reddeer.junit.internal.runner.TestsWithoutExecutionSuite;
+import org.eclipse.reddeer.junit.requirement.RequirementScope;
 import org.eclipse.reddeer.junit.requirement.configuration.MissingRequirementConfiguration;
+import org.eclipse.reddeer.junit.screenshot.ScreenshotCapturer;
 import org.junit.runner.Runner;
 import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.Suite;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.RunnerBuilder;
@@ -98,6 +106,8 @@ public class RedDeerSuite extends Suite {
 
 	/**
 	 * Creates a new suite for each configuration set obtained from suite configuration.
+	 * If {@link org.eclipse.reddeer.common.properties.RedDeerProperties#SHARD} is set, only
+	 * test classes of the current shard are included, see {@link ShardPartitioner}.
 	 *
 	 * @param clazz
 	 *            class to build tests without execution suite (if class should not be executed)
@@ -114,12 +124,43 @@ public class RedDeerSuite extends Suite {
 
 		// Revamp creation of suites
 		Map<RequirementConfigurationSet, List<Class<?>>> configurationSetsMap = config.getConfigurationSetsSuites();
+		ShardPartitioner shardPartitioner = ShardPartitioner.fromProperties();
+		ShardDurations shardDurations = ShardDurations.fromProperties();
+		Set<String> shardUnits = null;
+		if (shardPartitioner != null) {
+			shardUnits = shardPartitioner.getShardUnits(getUnits(configurationSetsMap));
+			log.info("Executing shard " + (shardPartitioner.getShardIndex() + 1) + " of "
+					+ shardPartitioner.getShardCount() + " with " + shardUnits.size() + " test classes");
+		}
 		for (RequirementConfigurationSet configurationSet : configurationSetsMap.keySet()) {
 			List<Class<?>> testClasses = configurationSetsMap.get(configurationSet);
+			boolean missingConfiguration = isMissingConfiguration(configurationSet);
+			String configurationKey = ShardPartitioner.getConfigurationKey(configurationSet);
+			if (shardPartitioner != null) {
+				List<Class<?>> shardTestClasses = new ArrayList<Class<?>>();
+				for (Class<?> testClass : testClasses) {
+					// tests without configuration are reported only by the first shard
+					boolean inShard = missingConfiguration ? shardPartitioner.getShardIndex() == 0
+							: shardUnits.contains(ShardPartitioner.getUnit(configurationKey, testClass));
+					if (inShard) {
+						shardTestClasses.add(testClass);
+					} else {
+						// test is executed or reported by other shard
+						testsManager.addExecutedTest(testClass);
+					}
+				}
+				if (shardTestClasses.isEmpty()) {
+					continue;
+				}
+				testClasses = shardTestClasses;
+			}
 			RequirementsRunnerBuilder requirementsRunnerBuilder = new RequirementsRunnerBuilder(configurationSet,
 					runListeners, beforeTestExtensions, afterTestExtensions, testsManager);
-			if (configurationSet.getConfigurationSet().contains(new MissingRequirementConfiguration())) {
+			if (missingConfiguration) {
 				configuredSuites.add(new TestsWithoutExecutionSuite(testClasses.toArray(new Class<?>[] {}), testsManager));
+			} else if (shardDurations != null) {
+				configuredSuites.add(new ShardSuite(testClasses.toArray(new Class<?>[] {}), requirementsRunnerBuilder,
+						configurationSet.getId(), shardDurations, configurationKey));
 			} else {
 				configuredSuites.add(new NamedSuite(testClasses.toArray(new Class<?>[] {}), requirementsRunnerBuilder,
 						configurationSet.getId()));
@@ -137,6 +178,26 @@ public class RedDeerSuite extends Suite {
 		return configuredSuites;
 	}
 
+	private static boolean isMissingConfiguration(RequirementConfigurationSet configurationSet) {
+		return configurationSet.getConfigurationSet().contains(new MissingRequirementConfiguration());
+	}
+
+	/**
+	 * Gets units of work which can be split between shards.
+	 */
+	private static List<String> getUnits(Map<RequirementConfigurationSet, List<Class<?>>> configurationSetsMap) {
+		List<String> units = new ArrayList<String>();
+		for (Map.Entry<RequirementConfigurationSet, List<Class<?>>> entry : configurationSetsMap.entrySet()) {
+			if (!isMissingConfiguration(entry.getKey())) {
+				String configurationKey = ShardPartitioner.getConfigurationKey(entry.getKey());
+				for (Class<?> testClass : entry.getValue()) {
+					units.add(ShardPartitioner.getUnit(configurationKey, testClass));
+				}
+			}
+		}
+		return units;
+	}
+
 	private static boolean isSuite(Class<?> clazz) {
 		SuiteClasses annotation = clazz.getAnnotation(SuiteClasses.class);
 		return annotation != null;
@@ -147,6 +208,33 @@ public class RedDeerSuite extends Suite {
 		return suiteName;
 	}
 
+	/**
+	 * Runs the suite, cleans up requirements kept alive by
+	 * {@link RequirementScope#SUITE} scope and waits for pending screenshots.
+	 */
+	@Override
+	public void run(RunNotifier notifier) {
+		try {
+			super.run(notifier);
+		} finally {
+			RequirementPool.getInstance().cleanUp();
+			ScreenshotCapturer.getInstance().flush();
+		}
+	}
+
+	/**
+	 * Runs suite of one configuration set and cleans up requirements kept
+	 * alive by {@link RequirementScope#CONFIGURATION_SET} scope.
+	 */
+	@Override
+	protected void runChild(Runner runner, RunNotifier notifier) {
+		try {
+			super.runChild(runner, notifier);
+		} finally {
+			RequirementPool.getInstance().cleanUp(RequirementScope.CONFIGURATION_SET);
+		}
+	}
+
 	/**
 	 * Initializes all Before Test extensions
 	 */
@@ -0,0 +1,322 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.runner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
+import org.eclipse.reddeer.junit.internal.runner.ShardDurations;
+import org.eclipse.reddeer.junit.internal.runner.ShardReports;
+
+/**
+ * Launches shards of RedDeer suite in parallel processes and aggregates their results.
+ * Each shard is executed by given command in its own directory, which contains workspace,
+ * screenshots, test durations and output of the shard. Command can contain following placeholders:
+ * <ul>
+ * <li>{@value #SHARD} is replaced by shard in form index/count,</li>
+ * <li>{@value #SHARD_DIRECTORY} is replaced by absolute path of shard directory,</li>
+ * <li>argument {@value #SHARD_PROPERTIES} is replaced by system properties selecting the shard,
+ * its workspace, screenshot directory and test durations files.</li>
+ * </ul>
+ * Shards should write JUnit XML reports into their directories. After all shards end, reports and screenshots are copied into <i>reports</i>
+ * and <i>screenshots</i> subdirectories of output directory and durations recorded by shards are merged
+ * into durations file, which is used to balance shards of the next run. Shards only read durations file,
+ * so all of them compute the same partitions.
+ * <br>
+ * Example: <pre>
+ * java -cp org.eclipse.reddeer.junit.jar:org.eclipse.reddeer.common.jar org.eclipse.reddeer.junit.runner.ShardLauncher
+ *     --shards 8 --output target/shards --durations durations.properties --xvfb 100
+ *     -- eclipse/eclipse -nosplash -application org.eclipse.pde.junit.runtime.uitestapplication
+ *     -testpluginname my.tests -classname my.tests.AllTests
+ *     -formatter org.apache.tools.ant.taskdefs.optional.junit.XMLJUnitResultFormatter,{shardDirectory}/TEST-my.tests.AllTests.xml
+ *     -vmargs {shardProperties}
+ * </pre>
+ * 
+ */
+public class ShardLauncher {
+
+	/**
+	 * Placeholder of shard in form index/count.
+	 */
+	public static final String SHARD = "{shard}";
+
+	/**
+	 * Placeholder of shard directory.
+	 */
+	public static final String SHARD_DIRECTORY = "{shardDirectory}";
+
+	/**
+	 * Placeholder of system properties of shard.
+	 */
+	public static final String SHARD_PROPERTIES = "{shardProperties}";
+
+	private static final Logger log = Logger.getLogger(ShardLauncher.class);
+
+	private static final String USAGE = "Usage: ShardLauncher --shards <count> [--output <directory>] "
+			+ "[--durations <file>] [--xvfb <first display number>] -- <command>";
+
+	private final int shardCount;
+	private final File outputDirectory;
+	private final File durationsFile;
+	private final List<String> command;
+	private int firstDisplay = -1;
+	private ShardReports reports;
+
+	/**
+	 * Creates a new shard launcher.
+	 * 
+	 * @param shardCount number of shards
+	 * @param outputDirectory directory with shard directories and aggregated results
+	 * @param durationsFile file with test durations or null if durations are not used
+	 * @param command command executing shard with placeholders
+	 */
+	public ShardLauncher(int shardCount, File outputDirectory, File durationsFile, List<String> command) {
+		if (shardCount < 1) {
+			throw new RedDeerException("Number of shards has to be positive, but was " + shardCount);
+		}
+		if (command.isEmpty()) {
+			throw new RedDeerException("Command executing shards is not defined");
+		}
+		this.shardCount = shardCount;
+		this.outputDirectory = outputDirectory.getAbsoluteFile();
+		this.durationsFile = durationsFile == null ? null : durationsFile.getAbsoluteFile();
+		this.command = new ArrayList<String>(command);
+	}
+
+	/**
+	 * Executes each shard on its own Xvfb display. Displays are numbered from given number.
+	 * 
+	 * @param firstDisplay number of display of the first shard
+	 */
+	public void setXvfbDisplay(int firstDisplay) {
+		this.firstDisplay = firstDisplay;
+	}
+
+	/**
+	 * Gets directory of shard.
+	 * 
+	 * @param shardIndex index of shard starting with 0
+	 * @return shard directory
+	 */
+	public File getShardDirectory(int shardIndex) {
+		return new File(outputDirectory, "shard-" + (shardIndex + 1));
+	}
+
+	/**
+	 * Gets command executing shard with replaced placeholders.
+	 * 
+	 * @param shardIndex index of shard starting with 0
+	 * @return command of shard
+	 */
+	public List<String> getCommand(int shardIndex) {
+		String shard = (shardIndex + 1) + "/" + shardCount;
+		String shardDirectory = getShardDirectory(shardIndex).getPath();
+		List<String> shardCommand = new ArrayList<String>();
+		for (String argument : command) {
+			if (SHARD_PROPERTIES.equals(argument)) {
+				shardCommand.addAll(getShardProperties(shardIndex));
+			} else {
+				shardCommand.add(argument.replace(SHARD_PROPERTIES, String.join(" ", getShardProperties(shardIndex)))
+						.replace(SHARD_DIRECTORY, shardDirectory).replace(SHARD, shard));
+			}
+		}
+		return shardCommand;
+	}
+
+	/**
+	 * Gets aggregated reports of the last launch.
+	 * 
+	 * @return aggregated reports or null if shards were not launched yet
+	 */
+	public ShardReports getReports() {
+		return reports;
+	}
+
+	/**
+	 * Launches all shards, waits until they end and aggregates their results.
+	 * 
+	 * @return 0 if all shards ended successfully and no test failed, 1 otherwise
+	 * @throws IOException if a shard cannot be started or results cannot be aggregated
+	 * @throws InterruptedException if waiting for shards is interrupted, shards are destroyed
+	 */
+	public int launch() throws IOException, InterruptedException {
+		long start = System.currentTimeMillis();
+		List<Process> displays = new ArrayList<Process>();
+		List<Process> shards = new ArrayList<Process>();
+		int[] exitCodes = new int[shardCount];
+		try {
+			for (int i = 0; i < shardCount; i++) {
+				File shardDirectory = getShardDirectory(i);
+				Files.createDirectories(shardDirectory.toPath());
+				ProcessBuilder processBuilder = new ProcessBuilder(getCommand(i)).redirectErrorStream(true)
+						.redirectOutput(new File(shardDirectory, "output.log"));
+				if (firstDisplay >= 0) {
+					displays.add(startXvfb(firstDisplay + i));
+					processBuilder.environment().put("DISPLAY", ":" + (firstDisplay + i));
+				}
+				shards.add(processBuilder.start());
+				log.info("Shard " + (i + 1) + " of " + shardCount + " started in " + shardDirectory);
+			}
+			for (int i = 0; i < shardCount; i++) {
+				exitCodes[i] = shards.get(i).waitFor();
+				log.info("Shard " + (i + 1) + " of " + shardCount + " ended with exit code " + exitCodes[i]);
+			}
+		} finally {
+			for (Process process : shards) {
+				process.destroy();
+			}
+			for (Process process : displays) {
+				process.destroy();
+			}
+		}
+		boolean success = aggregate();
+		for (int exitCode : exitCodes) {
+			success &= exitCode == 0;
+		}
+		log.info(shardCount + " shards ended in " + (System.currentTimeMillis() - start) + " ms, tests: "
+				+ reports.getTestCount() + ", failures: " + reports.getFailureCount() + ", errors: "
+				+ reports.getErrorCount() + ", skipped: " + reports.getSkippedCount());
+		return success ? 0 : 1;
+	}
+
+	/**
+	 * Launches shards defined by command line arguments.
+	 * 
+	 * @param args command line arguments
+	 * @throws Exception if shards cannot be launched
+	 */
+	public static void main(String[] args) throws Exception {
+		int separator = Arrays.asList(args).indexOf("--");
+		if (separator < 0) {
+			System.err.println(USAGE);
+			System.exit(2);
+		}
+		Integer shardCount = null;
+		File outputDirectory = new File("target", "shards");
+		File durationsFile = null;
+		int firstDisplay = -1;
+		try {
+			for (int i = 0; i < separator; i += 2) {
+				if (i + 1 >= separator) {
+					throw new RedDeerException("Missing value of option " + args[i]);
+				}
+				switch (args[i]) {
+				case "--shards":
+					shardCount = Integer.valueOf(args[i + 1]);
+					break;
+				case "--output":
+					outputDirectory = new File(args[i + 1]);
+					break;
+				case "--durations":
+					durationsFile = new File(args[i + 1]);
+					break;
+				case "--xvfb":
+					firstDisplay = Integer.parseInt(args[i + 1]);
+					break;
+				default:
+					throw new RedDeerException("Unknown option " + args[i]);
+				}
+			}
+			if (shardCount == null) {
+				throw new RedDeerException("Number of shards is not defined");
+			}
+		} catch (RedDeerException | NumberFormatException e) {
+			System.err.println(e.getMessage());
+			System.err.println(USAGE);
+			System.exit(2);
+			return;
+		}
+		ShardLauncher launcher = new ShardLauncher(shardCount, outputDirectory, durationsFile,
+				Arrays.asList(args).subList(separator + 1, args.length));
+		launcher.setXvfbDisplay(firstDisplay);
+		System.exit(launcher.launch());
+	}
+
+	private List<String> getShardProperties(int shardIndex) {
+		File shardDirectory = getShardDirectory(shardIndex);
+		List<String> properties = new ArrayList<String>();
+		properties.add("-D" + RedDeerProperties.SHARD.getName() + "=" + (shardIndex + 1) + "/" + shardCount);
+		if (durationsFile != null) {
+			properties.add("-D" + RedDeerProperties.SHARD_DURATIONS.getName() + "=" + durationsFile.getPath());
+		}
+		properties.add("-D" + RedDeerProperties.SHARD_DURATIONS_OUTPUT.getName() + "="
+				+ getShardDurationsFile(shardIndex).getPath());
+		properties.add("-D" + RedDeerProperties.RELATIVE_SCREENSHOT_DIRECTORY.getName() + "="
+				+ new File(shardDirectory, "screenshots").getPath());
+		properties.add("-Dosgi.instance.area=" + new File(shardDirectory, "workspace").getPath());
+		return properties;
+	}
+
+	private File getShardDurationsFile(int shardIndex) {
+		return new File(getShardDirectory(shardIndex), "durations.properties");
+	}
+
+	/**
+	 * Aggregates reports and screenshots of shards and merges their durations.
+	 * 
+	 * @return true if no test failed, false otherwise
+	 */
+	private boolean aggregate() throws IOException {
+		reports = new ShardReports(new File(outputDirectory, "reports"));
+		List<File> shardDurations = new ArrayList<File>();
+		for (int i = 0; i < shardCount; i++) {
+			reports.collect(getShardDirectory(i), i);
+			copyDirectory(new File(getShardDirectory(i), "screenshots").toPath(),
+					new File(outputDirectory, "screenshots").toPath());
+			shardDurations.add(getShardDurationsFile(i));
+		}
+		if (durationsFile != null) {
+			// shards ended, nobody reads durations file now
+			ShardDurations.merge(durationsFile, shardDurations);
+		}
+		return reports.getFailureCount() == 0 && reports.getErrorCount() == 0;
+	}
+
+	private static void copyDirectory(Path source, Path target) throws IOException {
+		if (!Files.isDirectory(source)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(source)) {
+			for (Path path : (Iterable<Path>) paths::iterator) {
+				Path targetPath = target.resolve(source.relativize(path).toString());
+				if (Files.isDirectory(path)) {
+					Files.createDirectories(targetPath);
+				} else {
+					Files.copy(path, targetPath, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+	}
+
+	private static Process startXvfb(int display) throws IOException, InterruptedException {
+		Process xvfb = new ProcessBuilder("Xvfb", ":" + display, "-screen", "0", "1920x1080x24")
+				.redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+		File socket = new File("/tmp/.X11-unix/X" + display);
+		for (int i = 0; i < 100 && !socket.exists() && xvfb.isAlive(); i++) {
+			Thread.sleep(100);
+		}
+		if (!xvfb.isAlive()) {
+			throw new IOException("Xvfb could not be started on display :" + display);
+		}
+		return xvfb;
+	}
+}
@@ -17,7 +17,6 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
-import org.eclipse.swt.graphics.ImageLoader;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.common.properties.RedDeerProperties;
@@ -25,6 +24,8 @@ import org.junit.AssumptionViolatedException;
 
 /**
  * This class provides capabilities to capture screenshot of display. 
+ * Display is always captured in UI thread. If {@link RedDeerProperties#SCREENSHOT_ASYNC} is enabled,
+ * captured screenshot is encoded and saved in background thread, see {@link #flush()}.
  * 
  * @author mlabuda@redhat.com
  * @since 0.5
@@ -38,6 +39,8 @@ public class ScreenshotCapturer {
 	private static ScreenshotCapturer instance;
 	private static boolean noScreenshotCaptured = true;
 	
+	private final ScreenshotWriter writer = new ScreenshotWriter();
+	
 	private ScreenshotCapturer() {}
 	
 	/**
@@ -90,7 +93,7 @@ public class ScreenshotCapturer {
 			
 			createDirectories(path);
 			
-			captureScreenshot(path + name + ".png");
+			captureScreenshot(path + name + getFileExtension());
 		} else {
 			logger.warn("Screenshot has not been captured on failure, because RedDeer property whether screenshot "
 					+ "should be captured or not is set to false.");
@@ -121,7 +124,13 @@ public class ScreenshotCapturer {
 	}
 	
 	/**
-	 * Capture screenshot with specified file name. PNG format is supported.
+	 * Capture screenshot with specified file name. Image format is given by
+	 * {@link RedDeerProperties#SCREENSHOT_FORMAT}, PNG is used by default.
+	 * If {@link RedDeerProperties#SCREENSHOT_CHANGED_REGION} is enabled, only the region
+	 * changed since the previous screenshot of the same test is saved and its position
+	 * is recorded in file with suffix <i>.region</i> next to the screenshot. Screenshots
+	 * belong to the same test if their file names differ only in detail after <i>@</i>,
+	 * see {@link #getScreenshotFileName(Class, String, String)}.
 	 *
 	 * @param screenshotFileName the screenshot file name
 	 * @return absolute path to create screenshot filename
@@ -131,6 +140,11 @@ public class ScreenshotCapturer {
 		String alteredFileName = getAlteredScreenshotFileName(screenshotFileName);
 		final String fileName = createMissingDirectories(alteredFileName);
 		final Display display = Display.getDefault();
+		final boolean async = RedDeerProperties.SCREENSHOT_ASYNC.getBooleanValue();
+		final boolean changedRegion = RedDeerProperties.SCREENSHOT_CHANGED_REGION.getBooleanValue();
+		final int format = getImageFormat();
+		final String testName = getTestName(fileName);
+		final ImageData[] capturedImageData = new ImageData[1];
 		display.syncExec(new Runnable() {
 			@Override
 			public void run() {
@@ -151,11 +165,11 @@ public class ScreenshotCapturer {
 						noScreenshotCaptured = false;
 					}
 					
-					ImageLoader imageLoader = new ImageLoader();
-					imageLoader.data = new ImageData[] { image.getImageData() };
-					imageLoader.save(fileName, SWT.IMAGE_PNG);
-
-					logger.debug("Screenshot successfully captured. Saved in " + new File(fileName).getAbsolutePath());
+					if (async) {
+						capturedImageData[0] = image.getImageData();
+					} else {
+						writer.save(fileName, testName, image.getImageData(), format, changedRegion);
+					}
 				} catch (Exception ex) {
 					logger.error("Capturing screenshot failed", ex);
 					handleCorruptedScreenshot(fileName);
@@ -167,15 +181,27 @@ public class ScreenshotCapturer {
 				}
 			}
 		});
+		if (capturedImageData[0] != null) {
+			// encoding and writing do not need UI thread
+			writer.saveAsync(fileName, testName, capturedImageData[0], format, changedRegion);
+		}
 		return fileName;
 	}
 
+	/**
+	 * Waits until all screenshots captured so far are saved. Screenshots are saved
+	 * asynchronously if {@link RedDeerProperties#SCREENSHOT_ASYNC} is enabled.
+	 */
+	public void flush() {
+		writer.flush();
+	}
+
 	/**
 	 * Removes corrupted screenshot.
 	 * 
 	 * @param fileName file name of corrupted screenshot
 	 */
-	private void handleCorruptedScreenshot(final String fileName) {
+	static void handleCorruptedScreenshot(final String fileName) {
 		logger.debug("Screenshot capturing failed.");
 		if (new File(fileName).exists()) {
 			try {
@@ -273,9 +299,31 @@ public class ScreenshotCapturer {
 		return !(throwable instanceof AssumptionViolatedException);
 	}
 	
+	private static String getTestName(String fileName) {
+		String name = new File(fileName).getName();
+		name = name.substring(0, name.lastIndexOf("."));
+		int detailIndex = name.indexOf("@");
+		return detailIndex < 0 ? name.replaceFirst("\\(\\d+\\)$", "") : name.substring(0, detailIndex);
+	}
+
+	private int getImageFormat() {
+		switch (RedDeerProperties.SCREENSHOT_FORMAT.getValue()) {
+		case "bmp":
+			return SWT.IMAGE_BMP;
+		case "jpg":
+			return SWT.IMAGE_JPEG;
+		default:
+			return SWT.IMAGE_PNG;
+		}
+	}
+
+	private String getFileExtension() {
+		return "." + RedDeerProperties.SCREENSHOT_FORMAT.getValue();
+	}
+
 	private String getAlteredScreenshotFileName(String screenshotFileName) {
 		String fileName = screenshotFileName;
-		String fileExtension = ".png";
+		String fileExtension = getFileExtension();
 		if (!screenshotFileName.contains(fileExtension)) {
 			fileName += fileExtension;
 		}
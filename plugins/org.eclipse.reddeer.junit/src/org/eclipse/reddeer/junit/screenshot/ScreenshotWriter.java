@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.screenshot;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+
+/**
+ * Screenshot writer encodes captured image data and saves them to files. Image data do not depend
+ * on display, so they can be saved either in calling thread or asynchronously in one background
+ * thread. At most {@link #MAX_PENDING} screenshots wait for asynchronous saving, further screenshots
+ * block until one of the pending screenshots is saved.
+ * <br>
+ * Writer can save only the region which changed since the previous screenshot of the same test. The first
+ * screenshot of each test is always saved whole. Position of the saved region is recorded in sidecar file
+ * {@value #REGION_SUFFIX} next to the screenshot. If nothing changed, only the sidecar file is written.
+ */
+class ScreenshotWriter {
+
+	/**
+	 * Maximal number of screenshots waiting for asynchronous saving.
+	 */
+	static final int MAX_PENDING = 4;
+
+	/**
+	 * Suffix of the file recording the region of screenshot saved in changed region mode.
+	 */
+	static final String REGION_SUFFIX = ".region";
+
+	private static final Logger logger = new Logger(ScreenshotWriter.class);
+
+	private final Semaphore pending = new Semaphore(MAX_PENDING);
+
+	private ExecutorService executor;
+
+	private ImageData previousImageData;
+
+	private String previousTestName;
+
+	private String previousFileName;
+
+	/**
+	 * Saves image data in background thread.
+	 * 
+	 * @param fileName file name of screenshot
+	 * @param testName name of test the screenshot belongs to
+	 * @param imageData captured image data
+	 * @param format SWT image format, e.g. {@link SWT#IMAGE_PNG}
+	 * @param changedRegion whether only the region changed since previous screenshot should be saved
+	 */
+	void saveAsync(final String fileName, final String testName, final ImageData imageData, final int format, final boolean changedRegion) {
+		pending.acquireUninterruptibly();
+		try {
+			getExecutor().execute(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						save(fileName, testName, imageData, format, changedRegion);
+					} finally {
+						pending.release();
+					}
+				}
+			});
+		} catch (RuntimeException e) {
+			pending.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Saves image data in calling thread.
+	 * 
+	 * @param fileName file name of screenshot
+	 * @param testName name of test the screenshot belongs to
+	 * @param imageData captured image data
+	 * @param format SWT image format, e.g. {@link SWT#IMAGE_PNG}
+	 * @param changedRegion whether only the region changed since previous screenshot should be saved
+	 */
+	synchronized void save(String fileName, String testName, ImageData imageData, int format, boolean changedRegion) {
+		try {
+			ImageData savedImageData = imageData;
+			if (changedRegion) {
+				Region region = getChangedRegion(testName, imageData);
+				saveRegion(fileName, region);
+				if (region.imageData == null) {
+					logger.debug("Screenshot " + fileName + " was not saved, display did not change since "
+							+ region.baseFileName);
+					return;
+				}
+				savedImageData = region.imageData;
+			}
+			ImageLoader imageLoader = new ImageLoader();
+			imageLoader.data = new ImageData[] { savedImageData };
+			imageLoader.save(fileName, format);
+
+			logger.debug("Screenshot successfully captured. Saved in " + new File(fileName).getAbsolutePath());
+		} catch (Exception ex) {
+			logger.error("Saving screenshot failed", ex);
+			ScreenshotCapturer.handleCorruptedScreenshot(fileName);
+		}
+	}
+
+	/**
+	 * Waits until all pending screenshots are saved.
+	 */
+	void flush() {
+		pending.acquireUninterruptibly(MAX_PENDING);
+		pending.release(MAX_PENDING);
+	}
+
+	private synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			executor = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "RedDeer screenshot writer");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return executor;
+	}
+
+	/**
+	 * Gets the smallest region of image data containing all pixels changed since the previous
+	 * screenshot of the same test. Whole image data are returned for the first screenshot of a test
+	 * and if there is no comparable previous screenshot.
+	 *
+	 * @return changed region, image data of region are null if no pixel changed
+	 */
+	private Region getChangedRegion(String testName, ImageData imageData) {
+		ImageData previous = previousImageData;
+		String baseFileName = previousFileName;
+		boolean sameTest = testName.equals(previousTestName);
+		previousImageData = imageData;
+		previousTestName = testName;
+		if (!sameTest || previous == null || previous.width != imageData.width || previous.height != imageData.height
+				|| previous.depth != imageData.depth || previous.bytesPerLine != imageData.bytesPerLine) {
+			previousFileName = null;
+			return new Region(0, 0, imageData, null);
+		}
+		int width = imageData.width;
+		int[] pixels = new int[width];
+		int[] previousPixels = new int[width];
+		int top = -1;
+		int bottom = -1;
+		int left = width;
+		int right = -1;
+		for (int y = 0; y < imageData.height; y++) {
+			int rowStart = y * imageData.bytesPerLine;
+			int rowEnd = rowStart + imageData.bytesPerLine;
+			if (Arrays.equals(imageData.data, rowStart, rowEnd, previous.data, rowStart, rowEnd)) {
+				continue;
+			}
+			imageData.getPixels(0, y, width, pixels, 0);
+			previous.getPixels(0, y, width, previousPixels, 0);
+			boolean rowChanged = false;
+			for (int x = 0; x < width; x++) {
+				if (pixels[x] != previousPixels[x]) {
+					left = Math.min(left, x);
+					right = Math.max(right, x);
+					rowChanged = true;
+				}
+			}
+			if (rowChanged) {
+				if (top < 0) {
+					top = y;
+				}
+				bottom = y;
+			}
+		}
+		if (top < 0) {
+			return new Region(0, 0, null, baseFileName);
+		}
+		int regionWidth = right - left + 1;
+		int regionHeight = bottom - top + 1;
+		logger.debug("Changed region of screenshot: " + left + "," + top + " " + regionWidth + "x" + regionHeight);
+		ImageData region = new ImageData(regionWidth, regionHeight, imageData.depth, imageData.palette);
+		for (int y = 0; y < regionHeight; y++) {
+			imageData.getPixels(left, top + y, regionWidth, pixels, 0);
+			region.setPixels(0, y, regionWidth, pixels, 0);
+		}
+		return new Region(left, top, region, baseFileName);
+	}
+
+	/**
+	 * Records position of saved region in sidecar file. Remembers file name of the first screenshot
+	 * of a test, so that sidecar files of further screenshots can refer to it.
+	 */
+	private void saveRegion(String fileName, Region region) throws IOException {
+		if (previousFileName == null) {
+			previousFileName = new File(fileName).getName();
+		}
+		Properties properties = new Properties();
+		properties.setProperty("x", String.valueOf(region.x));
+		properties.setProperty("y", String.valueOf(region.y));
+		properties.setProperty("width", String.valueOf(region.imageData == null ? 0 : region.imageData.width));
+		properties.setProperty("height", String.valueOf(region.imageData == null ? 0 : region.imageData.height));
+		if (region.baseFileName != null) {
+			properties.setProperty("base", region.baseFileName);
+		}
+		try (OutputStream out = new FileOutputStream(fileName + REGION_SUFFIX)) {
+			properties.store(out, "Region of screenshot changed since base screenshot");
+		}
+	}
+
+	/**
+	 * Region of screenshot and the screenshot it is relative to.
+	 */
+	private static class Region {
+
+		private final int x;
+
+		private final int y;
+
+		private final ImageData imageData;
+
+		private final String baseFileName;
+
+		private Region(int x, int y, ImageData imageData, String baseFileName) {
+			this.x = x;
+			this.y = y;
+			this.imageData = imageData;
+			this.baseFileName = baseFileName;
+		}
+	}
+}
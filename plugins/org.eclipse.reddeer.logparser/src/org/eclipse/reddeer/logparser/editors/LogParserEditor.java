@@ -11,15 +11,9 @@
  *******************************************************************************/
 package org.eclipse.reddeer.logparser.editors;
 
-import java.io.IOException;
-import java.io.LineNumberReader;
-import java.io.StringReader;
-import java.util.Arrays;
-import java.util.Iterator;
-import java.util.TreeMap;
-
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.action.IMenuListener;
 import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.MenuManager;
@@ -36,6 +30,7 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.Text;
@@ -49,6 +44,9 @@ import org.eclipse.reddeer.logparser.LogParserActivator;
 import org.eclipse.reddeer.logparser.LogParserLog;
 import org.eclipse.reddeer.logparser.model.LogData;
 import org.eclipse.reddeer.logparser.model.ParseRule;
+import org.eclipse.reddeer.logparser.parser.DocumentLogLines;
+import org.eclipse.reddeer.logparser.parser.LogParser;
+import org.eclipse.reddeer.logparser.parser.ParsedLog;
 
 public class LogParserEditor extends MultiPageEditorPart {
 	/**
@@ -61,7 +59,8 @@ public class LogParserEditor extends MultiPageEditorPart {
 	
 	private ReadOnlyTextEditor sourceTextEditor;
 	private StyledText parsedLogStyledText;
-	private TreeMap<Integer, Integer> parsedLineNumToOrigLineNum;
+	private ParsedLog parsedLog;
+	private ParseLogJob parseLogJob;
 	private Text findText;
 	private Label findStatusLabel;	
 	private Composite findComposite;
@@ -107,6 +106,8 @@ public class LogParserEditor extends MultiPageEditorPart {
 	}
 	
 	public void refreshLog(){
+		// parsing job must not read the document while it is reset
+		cancelParsing();
 		try {
 			sourceTextEditor.getDocumentProvider().resetDocument(sourceTextEditor.getEditorInput());
 		} catch (CoreException ce) {
@@ -205,92 +206,86 @@ public class LogParserEditor extends MultiPageEditorPart {
 	}
 
 	public void parseLog(LogData logData) {
+		cancelParsing();
 		parsedLogStyledText.setText("");
-		if (parsedLineNumToOrigLineNum == null) {
-			parsedLineNumToOrigLineNum = new TreeMap<Integer, Integer>();
-		} else {
-			parsedLineNumToOrigLineNum.clear();
+		parsedLog = new ParsedLog();
+		parseLogJob = new ParseLogJob(this, new LogParser(logData.getParseRules(), getDefaultParseRule()),
+				new DocumentLogLines(sourceTextEditor.getDocumentProvider().getDocument(sourceTextEditor.getEditorInput())));
+		parseLogJob.schedule();
+	}
+
+	/**
+	 * Cancels parsing job and waits until it ends. Job may wait for UI thread to display
+	 * parsed chunk, so events are processed while waiting in UI thread.
+	 */
+	private void cancelParsing() {
+		ParseLogJob job = parseLogJob;
+		if (job == null) {
+			return;
 		}
-		LineNumberReader lineNumberReader = new LineNumberReader(new StringReader(
-				sourceTextEditor.getDocumentProvider().getDocument(sourceTextEditor.getEditorInput()).get()));
-		String line;
+		// chunks of the job are not displayed anymore
+		parseLogJob = null;
+		job.cancel();
+		Display display = Display.getCurrent();
 		try {
-			TreeMap<Integer, String> originalLogLines = new TreeMap<Integer, String>();
-			TreeMap<Integer, ParseRule> parsedLogIncludeLines = new TreeMap<Integer, ParseRule>();
-			while ((line = lineNumberReader.readLine()) != null) {
-				int lineNumber = lineNumberReader.getLineNumber();
-				originalLogLines.put(lineNumber, line);
-				boolean notIncludeLine = true;
-				ParseRule parseRule = getDefaultParseRule();
-				if (logData.getParseRules() != null && !logData.getParseRules().isEmpty() && line != null
-						&& line.length() > 0) {
-					boolean excludeRegexNotApplied = true;
-					Iterator<ParseRule> itParseRule = logData.getParseRules().iterator();
-					while (notIncludeLine && excludeRegexNotApplied && itParseRule.hasNext()) {
-						parseRule = itParseRule.next();
-						boolean includeRegexMatches = true;
-						if (parseRule.getIncludeRegex() != null && parseRule.getIncludeRegex().length() > 0) {
-							includeRegexMatches = line.matches(parseRule.getIncludeRegex());
-						}
-						if (includeRegexMatches) {
-							if (parseRule.getExcludeRegex() != null && parseRule.getExcludeRegex().length() > 0) {
-								notIncludeLine = line.matches(parseRule.getExcludeRegex());
-								if (notIncludeLine) {
-									excludeRegexNotApplied = false;
-								}
-							} else {
-								notIncludeLine = false;
-							}
-						}
-					}
-				} else {
-					notIncludeLine = line == null || line.length() == 0;
-				}
-				if (!notIncludeLine) {
-					int addLinesFrom = lineNumber;
-					int addLinesTo = lineNumber;
-					addLinesFrom -= parseRule.getDisplayLinesBefore();
-					if (addLinesFrom < 0) {
-						addLinesFrom = 0;
-					}
-					addLinesTo += parseRule.getDisplaylinesAfter();
-
-					for (int addLineNumber = addLinesFrom; addLineNumber <= addLinesTo; addLineNumber++) {
-						if (!parsedLogIncludeLines.containsKey(addLineNumber)) {
-							parsedLogIncludeLines.put(addLineNumber, parseRule);
-						}
-					}
-				}
+			if (display == null) {
+				job.join();
+				return;
 			}
-			Iterator<Integer> itIncludeLine = parsedLogIncludeLines.keySet().iterator();
-			int addLineNumber = 0;
-			while (itIncludeLine.hasNext()) {
-				int originalLineNumber = itIncludeLine.next();
-				parsedLogIncludeLines.get(originalLineNumber);
-				String originalLine = originalLogLines.get(originalLineNumber);
-				if (originalLine != null) {
-					ParseRule appliedParseRule = parsedLogIncludeLines.get(originalLineNumber);
-					String insertLine = originalLine;
-					insertLine = fillString(appliedParseRule.getIndent(), ' ') + appliedParseRule.getPrefix()
-							+ originalLine;
-					parsedLogStyledText.append(insertLine + "\n");
-					parsedLineNumToOrigLineNum.put(addLineNumber, originalLineNumber);
-					addLineNumber++;
+			while (job.getState() != Job.NONE) {
+				if (!display.readAndDispatch()) {
+					Thread.sleep(10);
 				}
 			}
-		} catch (IOException ioe) {
-			LogParserLog.logError("Error while parsing log", ioe);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Appends chunk of parsed log, waits until chunk is displayed
+	 *
+	 * @param job job which parsed the chunk
+	 * @param text parsed log text
+	 * @param parsedLogChunk mapping of chunk lines to original log lines
+	 * @return false if chunk was not displayed because editor was disposed or log is parsed by other job
+	 */
+	boolean appendParsedLog(final ParseLogJob job, final String text, final ParsedLog parsedLogChunk) {
+		final boolean[] appended = new boolean[1];
+		Display display = parsedLogStyledText.isDisposed() ? null : parsedLogStyledText.getDisplay();
+		if (display == null || display.isDisposed()) {
+			return false;
 		}
+		display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				if (job == parseLogJob && !parsedLogStyledText.isDisposed()) {
+					parsedLogStyledText.append(text);
+					parsedLog.addLines(parsedLogChunk);
+					appended[0] = true;
+				}
+			}
+		});
+		return appended[0];
+	}
 
+	@Override
+	public void dispose() {
+		if (parseLogJob != null) {
+			parseLogJob.cancel();
+			parseLogJob = null;
+		}
+		super.dispose();
 	}
 
 	public void showSelectedParsedLineInOriginalLog(){
 		int selectedParsedLine = parsedLogStyledText.getLineAtOffset(parsedLogStyledText.getSelection().x);
 		setActivePage(1);
 		int selectedOriginalLine = 0;
-		Integer integerLineNum = selectedOriginalLine = parsedLineNumToOrigLineNum.get(selectedParsedLine);
-		if (integerLineNum != null){
-			selectedOriginalLine = integerLineNum - 1;
+		int originalLineNumber = parsedLog != null ? parsedLog.getOriginalLineNumber(selectedParsedLine) : -1;
+		if (originalLineNumber > 0){
+			// log file could grow since Original Log page was loaded
+			selectedOriginalLine = Math.min(originalLineNumber, getSourceEditorStyledText().getLineCount()) - 1;
 		}
 		getSourceEditorStyledText().setSelection(getSourceEditorStyledText().getOffsetAtLine(selectedOriginalLine));
 	}
@@ -406,16 +401,6 @@ public class LogParserEditor extends MultiPageEditorPart {
 		return defautlParseRule;
 	}
 
-	private String fillString(int length, char charToFill) {
-		String result = "";
-		if (length > 0) {
-			char[] array = new char[length];
-			Arrays.fill(array, charToFill);
-			result = new String(array);
-		}
-		return result;
-	}
-
 	private void setParsedLogFont() {
 		parsedLogStyledText.setFont(getSourceEditorStyledText().getFont());
 	}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.editors;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.reddeer.logparser.LogParserLog;
+import org.eclipse.reddeer.logparser.parser.LogLines;
+import org.eclipse.reddeer.logparser.parser.LogParser;
+import org.eclipse.reddeer.logparser.parser.ParsedLog;
+
+/**
+ * Parses log in background. Log is split to chunks of lines which are parsed in parallel
+ * and passed to editor in order of lines.
+ */
+class ParseLogJob extends Job {
+
+	static final int LINES_PER_CHUNK = 50000;
+
+	private final LogParserEditor editor;
+	private final LogParser logParser;
+	private final LogLines logLines;
+
+	/**
+	 * Creates job parsing given log lines. Lines are read from the same source as they are
+	 * displayed in Original Log page, so parsed log always matches it.
+	 */
+	ParseLogJob(LogParserEditor editor, LogParser logParser, LogLines logLines) {
+		super("Parsing log " + editor.getPartName());
+		this.editor = editor;
+		this.logParser = logParser;
+		this.logLines = logLines;
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		try {
+			return parse(logLines, monitor);
+		} finally {
+			monitor.done();
+		}
+	}
+
+	private IStatus parse(LogLines logLines, IProgressMonitor monitor) {
+		int lineCount = logLines.getLineCount();
+		int chunks = (lineCount + LINES_PER_CHUNK - 1) / LINES_PER_CHUNK;
+		monitor.beginTask(getName(), chunks);
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		// limits number of parsed chunks waiting for editor
+		int maxPendingChunks = pool.getParallelism() * 2;
+		ArrayDeque<ForkJoinTask<ParsedChunk>> pendingChunks = new ArrayDeque<ForkJoinTask<ParsedChunk>>();
+		int nextChunk = 0;
+		try {
+			while (nextChunk < chunks || !pendingChunks.isEmpty()) {
+				while (nextChunk < chunks && pendingChunks.size() < maxPendingChunks) {
+					int fromLineNumber = nextChunk * LINES_PER_CHUNK + 1;
+					int toLineNumber = Math.min(fromLineNumber + LINES_PER_CHUNK - 1, lineCount);
+					pendingChunks.add(pool.submit(() -> parseChunk(logLines, fromLineNumber, toLineNumber, monitor)));
+					nextChunk++;
+				}
+				ParsedChunk parsedChunk = pendingChunks.removeFirst().join();
+				if (monitor.isCanceled() || !editor.appendParsedLog(this, parsedChunk.text, parsedChunk.parsedLog)) {
+					return Status.CANCEL_STATUS;
+				}
+				monitor.worked(1);
+			}
+		} catch (OperationCanceledException oce) {
+			return Status.CANCEL_STATUS;
+		} catch (RuntimeException re) {
+			return LogParserLog.createStatus(IStatus.ERROR, IStatus.OK, "Unable to parse log", re);
+		} finally {
+			// lines are not read after the job ends
+			for (ForkJoinTask<ParsedChunk> pendingChunk : pendingChunks) {
+				pendingChunk.quietlyJoin();
+			}
+		}
+		return Status.OK_STATUS;
+	}
+
+	private ParsedChunk parseChunk(LogLines logLines, int fromLineNumber, int toLineNumber, IProgressMonitor monitor) {
+		StringBuilder text = new StringBuilder();
+		ParsedLog parsedLog = logParser.parse(logLines, fromLineNumber, toLineNumber, text::append, monitor);
+		return new ParsedChunk(parsedLog, text.toString());
+	}
+
+	private static class ParsedChunk {
+
+		private final ParsedLog parsedLog;
+		private final String text;
+
+		private ParsedChunk(ParsedLog parsedLog, String text) {
+			this.parsedLog = parsedLog;
+			this.text = text;
+		}
+	}
+}
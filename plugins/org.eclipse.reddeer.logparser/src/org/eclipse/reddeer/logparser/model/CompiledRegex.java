@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.model;
+
+import java.util.regex.Pattern;
+
+/**
+ * Regular expression matched against whole log line. Expressions which are plain
+ * literals optionally surrounded by ".*" are matched by string comparison, other
+ * expressions are compiled only once.
+ */
+public class CompiledRegex {
+
+	public enum Kind {
+		EQUALS, PREFIX, SUFFIX, CONTAINS, REGEX
+	}
+
+	private static final String ANY = ".*";
+
+	private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+	private final String regex;
+	private final Kind kind;
+	private final String literal;
+	private final Pattern pattern;
+
+	private CompiledRegex(String regex, Kind kind, String literal, Pattern pattern) {
+		this.regex = regex;
+		this.kind = kind;
+		this.literal = literal;
+		this.pattern = pattern;
+	}
+
+	public static CompiledRegex compile(String regex) {
+		String body = regex;
+		boolean anyBefore = false;
+		boolean anyAfter = false;
+		if (body.startsWith(ANY)) {
+			anyBefore = true;
+			body = body.substring(ANY.length());
+		}
+		if (body.endsWith(ANY) && !body.endsWith("\\" + ANY)) {
+			anyAfter = true;
+			body = body.substring(0, body.length() - ANY.length());
+		}
+		String literal = toLiteral(body);
+		if (literal == null) {
+			return new CompiledRegex(regex, Kind.REGEX, null, Pattern.compile(regex));
+		}
+		Kind kind;
+		if (anyBefore && anyAfter) {
+			kind = Kind.CONTAINS;
+		} else if (anyBefore) {
+			kind = Kind.SUFFIX;
+		} else if (anyAfter) {
+			kind = Kind.PREFIX;
+		} else {
+			kind = Kind.EQUALS;
+		}
+		return new CompiledRegex(regex, kind, literal, null);
+	}
+
+	public boolean matches(String line) {
+		switch (kind) {
+		case EQUALS:
+			return line.equals(literal);
+		case PREFIX:
+			return line.startsWith(literal);
+		case SUFFIX:
+			return line.endsWith(literal);
+		case CONTAINS:
+			return line.contains(literal);
+		default:
+			return pattern.matcher(line).matches();
+		}
+	}
+
+	public String getRegex() {
+		return regex;
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Returns literal matched by expression or null if expression is not literal
+	 *
+	 * @return literal or null
+	 */
+	public String getLiteral() {
+		return literal;
+	}
+
+	/**
+	 * Converts regular expression to literal it matches. Escaped non alphanumeric
+	 * characters are treated as literals.
+	 *
+	 * @param body regular expression
+	 * @return literal or null if expression contains unescaped meta characters
+	 */
+	private static String toLiteral(String body) {
+		StringBuilder sb = new StringBuilder(body.length());
+		for (int i = 0; i < body.length(); i++) {
+			char c = body.charAt(i);
+			if (c == '\\') {
+				if (i + 1 >= body.length() || Character.isLetterOrDigit(body.charAt(i + 1))) {
+					return null;
+				}
+				sb.append(body.charAt(++i));
+			} else if (META_CHARACTERS.indexOf(c) >= 0) {
+				return null;
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+}
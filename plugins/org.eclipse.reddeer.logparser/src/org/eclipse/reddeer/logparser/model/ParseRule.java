@@ -20,6 +20,8 @@ public class ParseRule {
 	private String prefix = "";
 	private int displayLinesBefore = 0;
 	private int displaylinesAfter = 0;
+	private CompiledRegex compiledIncludeRegex;
+	private CompiledRegex compiledExcludeRegex;
 	
 	public ParseRule () {
 		
@@ -39,6 +41,7 @@ public class ParseRule {
 
 	public void setIncludeRegex(String includeRegex) {
 		this.includeRegex = includeRegex;
+		this.compiledIncludeRegex = null;
 	}
 
 	public String getExcludeRegex() {
@@ -47,6 +50,43 @@ public class ParseRule {
 
 	public void setExcludeRegex(String excludeRegex) {
 		this.excludeRegex = excludeRegex;
+		this.compiledExcludeRegex = null;
+	}
+
+	public boolean hasIncludeRegex() {
+		return includeRegex != null && includeRegex.length() > 0;
+	}
+
+	public boolean hasExcludeRegex() {
+		return excludeRegex != null && excludeRegex.length() > 0;
+	}
+
+	/**
+	 * Returns include regex compiled when it's used for the first time after it was set
+	 * 
+	 * @return compiled include regex or null if include regex is empty
+	 */
+	public CompiledRegex getCompiledIncludeRegex() {
+		CompiledRegex compiled = compiledIncludeRegex;
+		if (compiled == null && hasIncludeRegex()) {
+			compiled = CompiledRegex.compile(includeRegex);
+			compiledIncludeRegex = compiled;
+		}
+		return compiled;
+	}
+
+	/**
+	 * Returns exclude regex compiled when it's used for the first time after it was set
+	 * 
+	 * @return compiled exclude regex or null if exclude regex is empty
+	 */
+	public CompiledRegex getCompiledExcludeRegex() {
+		CompiledRegex compiled = compiledExcludeRegex;
+		if (compiled == null && hasExcludeRegex()) {
+			compiled = CompiledRegex.compile(excludeRegex);
+			compiledExcludeRegex = compiled;
+		}
+		return compiled;
 	}
 
 	public int getIndent() {
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds parse rule applied to log line. Rules are evaluated in given order, first rule
+ * whose include regex matches the line is applied unless its exclude regex matches the line too.
+ * Include regexes which are literals surrounded by ".*" are evaluated for all rules at once
+ * by single pass of Aho-Corasick automaton over the line, other regexes are evaluated
+ * only when their rule is reached.
+ */
+public class ParseRuleMatcher {
+
+	private final ParseRule defaultParseRule;
+	private final ParseRule[] parseRules;
+	private final CompiledRegex[] includeRegexes;
+	private final CompiledRegex[] excludeRegexes;
+	// index of keyword in automaton for each rule or -1 when include regex is not keyword
+	private final int[] includeKeywords;
+	private final Automaton automaton;
+
+	public ParseRuleMatcher(List<ParseRule> parseRules, ParseRule defaultParseRule) {
+		this.defaultParseRule = defaultParseRule;
+		int size = parseRules == null ? 0 : parseRules.size();
+		this.parseRules = new ParseRule[size];
+		this.includeRegexes = new CompiledRegex[size];
+		this.excludeRegexes = new CompiledRegex[size];
+		this.includeKeywords = new int[size];
+		List<String> keywords = new ArrayList<String>();
+		for (int i = 0; i < size; i++) {
+			ParseRule parseRule = parseRules.get(i);
+			this.parseRules[i] = parseRule;
+			includeRegexes[i] = parseRule.getCompiledIncludeRegex();
+			excludeRegexes[i] = parseRule.getCompiledExcludeRegex();
+			includeKeywords[i] = -1;
+			if (includeRegexes[i] != null && includeRegexes[i].getKind() == CompiledRegex.Kind.CONTAINS
+					&& includeRegexes[i].getLiteral().length() > 0) {
+				includeKeywords[i] = keywords.size();
+				keywords.add(includeRegexes[i].getLiteral());
+			}
+		}
+		this.automaton = keywords.size() > 1 ? new Automaton(keywords) : null;
+	}
+
+	/**
+	 * Returns parse rule applied to the line
+	 *
+	 * @param line log line
+	 * @return applied parse rule or null if line is not included in parsed log
+	 */
+	public ParseRule match(String line) {
+		if (line == null || line.length() == 0) {
+			return null;
+		}
+		if (parseRules.length == 0) {
+			return defaultParseRule;
+		}
+		boolean[] foundKeywords = automaton != null ? automaton.find(line) : null;
+		for (int i = 0; i < parseRules.length; i++) {
+			boolean includeMatches;
+			if (includeRegexes[i] == null) {
+				includeMatches = true;
+			} else if (foundKeywords != null && includeKeywords[i] >= 0) {
+				includeMatches = foundKeywords[includeKeywords[i]];
+			} else {
+				includeMatches = includeRegexes[i].matches(line);
+			}
+			if (includeMatches) {
+				if (excludeRegexes[i] != null && excludeRegexes[i].matches(line)) {
+					return null;
+				}
+				return parseRules[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Aho-Corasick automaton finding all keywords occurring in a text
+	 */
+	private static class Automaton {
+
+		private final List<Map<Character, Integer>> transitions = new ArrayList<Map<Character, Integer>>();
+		private final List<Integer> failures = new ArrayList<Integer>();
+		private final List<int[]> outputs = new ArrayList<int[]>();
+		private final int keywordsCount;
+
+		private Automaton(List<String> keywords) {
+			keywordsCount = keywords.size();
+			addState();
+			for (int keyword = 0; keyword < keywords.size(); keyword++) {
+				int state = 0;
+				for (char c : keywords.get(keyword).toCharArray()) {
+					Integer next = transitions.get(state).get(c);
+					if (next == null) {
+						next = addState();
+						transitions.get(state).put(c, next);
+					}
+					state = next;
+				}
+				outputs.set(state, append(outputs.get(state), keyword));
+			}
+			ArrayDeque<Integer> queue = new ArrayDeque<Integer>();
+			for (int child : transitions.get(0).values()) {
+				failures.set(child, 0);
+				queue.add(child);
+			}
+			while (!queue.isEmpty()) {
+				int state = queue.poll();
+				for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+					int child = transition.getValue();
+					int failure = failures.get(state);
+					while (failure != 0 && !transitions.get(failure).containsKey(transition.getKey())) {
+						failure = failures.get(failure);
+					}
+					Integer failureTarget = transitions.get(failure).get(transition.getKey());
+					failure = failureTarget != null && failureTarget != child ? failureTarget : 0;
+					failures.set(child, failure);
+					for (int keyword : outputs.get(failure)) {
+						outputs.set(child, append(outputs.get(child), keyword));
+					}
+					queue.add(child);
+				}
+			}
+		}
+
+		private boolean[] find(String text) {
+			boolean[] found = new boolean[keywordsCount];
+			int state = 0;
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				Integer next = transitions.get(state).get(c);
+				while (next == null && state != 0) {
+					state = failures.get(state);
+					next = transitions.get(state).get(c);
+				}
+				state = next == null ? 0 : next;
+				for (int keyword : outputs.get(state)) {
+					found[keyword] = true;
+				}
+			}
+			return found;
+		}
+
+		private int addState() {
+			transitions.add(new HashMap<Character, Integer>());
+			failures.add(0);
+			outputs.add(new int[0]);
+			return transitions.size() - 1;
+		}
+
+		private static int[] append(int[] array, int value) {
+			int[] result = new int[array.length + 1];
+			System.arraycopy(array, 0, result, 0, array.length);
+			result[array.length] = value;
+			return result;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.parser;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+
+/**
+ * Lines of log read from document using its line information, so whole document
+ * content is not copied.
+ */
+public class DocumentLogLines implements LogLines {
+
+	private final IDocument document;
+	private final int lineCount;
+
+	public DocumentLogLines(IDocument document) {
+		this.document = document;
+		int numberOfLines = document.getNumberOfLines();
+		// document has an empty line after trailing line delimiter, log reader doesn't
+		try {
+			if (document.getLineLength(numberOfLines - 1) == 0) {
+				numberOfLines--;
+			}
+		} catch (BadLocationException ble) {
+			throw new IllegalStateException("Unable to read last line of document", ble);
+		}
+		this.lineCount = numberOfLines;
+	}
+
+	@Override
+	public int getLineCount() {
+		return lineCount;
+	}
+
+	@Override
+	public String getLine(int lineNumber) {
+		try {
+			IRegion lineInformation = document.getLineInformation(lineNumber - 1);
+			return document.get(lineInformation.getOffset(), lineInformation.getLength());
+		} catch (BadLocationException ble) {
+			throw new IllegalArgumentException("Line " + lineNumber + " doesn't exist", ble);
+		}
+	}
+
+	@Override
+	public void close() {
+		// document is owned by editor
+	}
+}
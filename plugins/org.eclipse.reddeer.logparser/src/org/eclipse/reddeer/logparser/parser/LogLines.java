@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.parser;
+
+import java.io.Closeable;
+
+/**
+ * Lines of parsed log accessible by line number. Lines are numbered from 1 and do not
+ * contain line delimiters.
+ */
+public interface LogLines extends Closeable {
+
+	/**
+	 * Returns number of lines
+	 *
+	 * @return number of lines
+	 */
+	int getLineCount();
+
+	/**
+	 * Returns line without line delimiter
+	 *
+	 * @param lineNumber number of line starting with 1
+	 * @return line
+	 */
+	String getLine(int lineNumber);
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.parser;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.reddeer.logparser.model.ParseRule;
+import org.eclipse.reddeer.logparser.model.ParseRuleMatcher;
+
+/**
+ * Parses log line by line. Lines matched by parse rules are written together with their
+ * context lines to parsed log. Each line is written only once with first parse rule which
+ * included it. Only last lines which can still be included as context of following lines
+ * are kept in ring buffer, so memory used by parsing doesn't depend on size of log.
+ */
+public class LogParser {
+
+	/**
+	 * Number of characters of parsed log passed to consumer at once
+	 */
+	public static final int CHUNK_SIZE = 64 * 1024;
+
+	private static final int CANCEL_CHECK_LINES = 4096;
+
+	private final ParseRuleMatcher parseRuleMatcher;
+	private final int maxLinesBefore;
+	private final int maxLinesAfter;
+
+	public LogParser(List<ParseRule> parseRules, ParseRule defaultParseRule) {
+		this.parseRuleMatcher = new ParseRuleMatcher(parseRules, defaultParseRule);
+		int linesBefore = defaultParseRule.getDisplayLinesBefore();
+		int linesAfter = defaultParseRule.getDisplaylinesAfter();
+		if (parseRules != null) {
+			for (ParseRule parseRule : parseRules) {
+				linesBefore = Math.max(linesBefore, parseRule.getDisplayLinesBefore());
+				linesAfter = Math.max(linesAfter, parseRule.getDisplaylinesAfter());
+			}
+		}
+		this.maxLinesBefore = Math.max(linesBefore, 0);
+		this.maxLinesAfter = Math.max(linesAfter, 0);
+	}
+
+	/**
+	 * Parses log lines
+	 *
+	 * @param logLines lines of log
+	 * @param chunkConsumer consumer of parsed log text, text is passed in chunks of
+	 *                      whole lines
+	 * @return mapping of parsed log lines to original log lines
+	 */
+	public ParsedLog parse(LogLines logLines, Consumer<String> chunkConsumer) {
+		return parse(logLines, 1, logLines.getLineCount(), chunkConsumer, new NullProgressMonitor());
+	}
+
+	/**
+	 * Parses range of log lines. Lines around the range are read too, so lines of the range
+	 * are included as context of lines outside the range the same way as when whole log is
+	 * parsed. Different ranges of the same log can be parsed concurrently.
+	 *
+	 * @param logLines lines of log
+	 * @param fromLineNumber number of first line of the range
+	 * @param toLineNumber number of last line of the range
+	 * @param chunkConsumer consumer of parsed log text, text is passed in chunks of
+	 *                      whole lines
+	 * @param monitor monitor checked for cancellation
+	 * @return mapping of parsed log lines to original log lines
+	 * @throws OperationCanceledException when monitor is canceled
+	 */
+	public ParsedLog parse(LogLines logLines, int fromLineNumber, int toLineNumber, Consumer<String> chunkConsumer,
+			IProgressMonitor monitor) {
+		ParsedLog parsedLog = new ParsedLog();
+		StringBuilder chunk = new StringBuilder();
+		// ring buffer of lines which can be still included as lines before following lines
+		int capacity = maxLinesBefore + 1;
+		String[] bufferedLines = new String[capacity];
+		ParseRule[] bufferedRules = new ParseRule[capacity];
+		ArrayDeque<LinesAfter> linesAfter = new ArrayDeque<LinesAfter>();
+		// lines before the range can include lines of the range as lines after them
+		int firstLineNumber = Math.max(fromLineNumber - maxLinesAfter, 1);
+		// lines after the range can include lines of the range as lines before them
+		int lastLineNumber = (int) Math.min((long) toLineNumber + maxLinesBefore, logLines.getLineCount());
+		for (int lineNumber = firstLineNumber; lineNumber <= lastLineNumber; lineNumber++) {
+			if ((lineNumber - firstLineNumber) % CANCEL_CHECK_LINES == 0 && monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			int slot = lineNumber % capacity;
+			int writtenLineNumber = lineNumber - capacity;
+			if (writtenLineNumber >= fromLineNumber && writtenLineNumber <= toLineNumber) {
+				writeLine(writtenLineNumber, bufferedLines[slot], bufferedRules[slot], parsedLog, chunk,
+						chunkConsumer);
+			}
+			String line = logLines.getLine(lineNumber);
+			bufferedLines[slot] = line;
+			bufferedRules[slot] = getIncludingRule(linesAfter, lineNumber);
+			ParseRule parseRule = parseRuleMatcher.match(line);
+			if (parseRule != null) {
+				int includeFromLineNumber = Math.max(lineNumber - parseRule.getDisplayLinesBefore(), firstLineNumber);
+				for (int includeLineNumber = includeFromLineNumber; includeLineNumber <= lineNumber; includeLineNumber++) {
+					int includeSlot = includeLineNumber % capacity;
+					if (bufferedRules[includeSlot] == null) {
+						bufferedRules[includeSlot] = parseRule;
+					}
+				}
+				if (parseRule.getDisplaylinesAfter() > 0) {
+					linesAfter.add(new LinesAfter(parseRule, lineNumber + parseRule.getDisplaylinesAfter()));
+				}
+			}
+		}
+		int fromBufferedLineNumber = Math.max(Math.max(lastLineNumber - capacity + 1, firstLineNumber), fromLineNumber);
+		for (int lineNumber = fromBufferedLineNumber; lineNumber <= Math.min(lastLineNumber, toLineNumber); lineNumber++) {
+			int slot = lineNumber % capacity;
+			writeLine(lineNumber, bufferedLines[slot], bufferedRules[slot], parsedLog, chunk, chunkConsumer);
+		}
+		if (chunk.length() > 0) {
+			chunkConsumer.accept(chunk.toString());
+		}
+		return parsedLog;
+	}
+
+	/**
+	 * Returns parse rule of first previous line whose lines after include line with given number
+	 */
+	private static ParseRule getIncludingRule(ArrayDeque<LinesAfter> linesAfter, int lineNumber) {
+		while (!linesAfter.isEmpty() && linesAfter.peekFirst().lastLineNumber < lineNumber) {
+			linesAfter.removeFirst();
+		}
+		Iterator<LinesAfter> itLinesAfter = linesAfter.iterator();
+		while (itLinesAfter.hasNext()) {
+			LinesAfter includedLines = itLinesAfter.next();
+			if (includedLines.lastLineNumber >= lineNumber) {
+				return includedLines.parseRule;
+			}
+		}
+		return null;
+	}
+
+	private static void writeLine(int lineNumber, String line, ParseRule parseRule, ParsedLog parsedLog,
+			StringBuilder chunk, Consumer<String> chunkConsumer) {
+		if (parseRule == null) {
+			return;
+		}
+		if (parseRule.getIndent() > 0) {
+			char[] indent = new char[parseRule.getIndent()];
+			Arrays.fill(indent, ' ');
+			chunk.append(indent);
+		}
+		chunk.append(parseRule.getPrefix()).append(line).append('\n');
+		parsedLog.addLine(lineNumber);
+		if (chunk.length() >= CHUNK_SIZE) {
+			chunkConsumer.accept(chunk.toString());
+			chunk.setLength(0);
+		}
+	}
+
+	private static class LinesAfter {
+
+		private final ParseRule parseRule;
+		private final int lastLineNumber;
+
+		private LinesAfter(ParseRule parseRule, int lastLineNumber) {
+			this.parseRule = parseRule;
+			this.lastLineNumber = lastLineNumber;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.parser;
+
+import java.util.Arrays;
+
+/**
+ * Mapping of parsed log lines to original log lines.
+ */
+public class ParsedLog {
+
+	private int[] originalLineNumbers = new int[1024];
+	private int lineCount = 0;
+
+	void addLine(int originalLineNumber) {
+		if (lineCount == originalLineNumbers.length) {
+			originalLineNumbers = Arrays.copyOf(originalLineNumbers, lineCount * 2);
+		}
+		originalLineNumbers[lineCount++] = originalLineNumber;
+	}
+
+	/**
+	 * Appends lines of parsed log following this parsed log
+	 *
+	 * @param parsedLog parsed log to append
+	 */
+	public void addLines(ParsedLog parsedLog) {
+		if (lineCount + parsedLog.lineCount > originalLineNumbers.length) {
+			originalLineNumbers = Arrays.copyOf(originalLineNumbers,
+					Math.max(originalLineNumbers.length * 2, lineCount + parsedLog.lineCount));
+		}
+		System.arraycopy(parsedLog.originalLineNumbers, 0, originalLineNumbers, lineCount, parsedLog.lineCount);
+		lineCount += parsedLog.lineCount;
+	}
+
+	/**
+	 * Returns number of lines in parsed log
+	 *
+	 * @return number of lines
+	 */
+	public int getLineCount() {
+		return lineCount;
+	}
+
+	/**
+	 * Returns number of original log line displayed as parsed log line
+	 *
+	 * @param parsedLineIndex index of parsed log line starting with 0
+	 * @return number of original log line starting with 1 or -1 if parsed line doesn't exist
+	 */
+	public int getOriginalLineNumber(int parsedLineIndex) {
+		if (parsedLineIndex < 0 || parsedLineIndex >= lineCount) {
+			return -1;
+		}
+		return originalLineNumbers[parsedLineIndex];
+	}
+}
@@ -19,6 +19,7 @@ import java.lang.annotation.Target;
 
 import org.eclipse.reddeer.common.exception.RedDeerException;
 import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.direct.workspace.Workspace;
 import org.eclipse.reddeer.eclipse.core.resources.DefaultProject;
 import org.eclipse.reddeer.eclipse.ui.navigator.resources.ProjectExplorer;
 import org.eclipse.reddeer.junit.requirement.AbstractRequirement;
@@ -32,6 +33,10 @@ import org.eclipse.reddeer.workbench.handler.EditorHandler;
  * This {@link Requirement} ensures, that all projects are deleted from workspace
  * (aka. workspace is clean).<br><br>
  * 
+ * By default projects are deleted via Eclipse API in one workspace operation. Tests of deleting
+ * projects via UI can set {@link CleanWorkspace#fast()} to false to delete them via Project Explorer.
+ * Workspace can be also reset to a template, see {@link CleanWorkspace#template()}.<br><br>
+ * 
  * Annotate test class with {@link CleanWorkspace} annotation to have clean
  * workspace before the test cases are executed.<br><br>
  * 
@@ -59,6 +64,21 @@ public class CleanWorkspaceRequirement extends AbstractRequirement<CleanWorkspac
 	@Documented
 	public @interface CleanWorkspace {
 		
+		/**
+		 * Fast. The default value is true.
+		 *
+		 * @return true if projects are deleted via Eclipse API, false if they are deleted via Project Explorer
+		 */
+		boolean fast() default true;
+		
+		/**
+		 * Template. The default value is empty, no projects are imported.
+		 *
+		 * @return path to a directory with projects imported into the workspace after it is cleaned,
+		 *         if the workspace cannot be reset via Eclipse API, projects are deleted via Project
+		 *         Explorer and the template is not imported
+		 */
+		String template() default "";
 	}
 	
 	/**
@@ -66,9 +86,32 @@ public class CleanWorkspaceRequirement extends AbstractRequirement<CleanWorkspac
 	 */
 	@Override
 	public void fulfill() {	
+		long start = System.currentTimeMillis();
 		EditorHandler.getInstance().closeAll(true);
+		String template = annotation == null || annotation.template().isEmpty() ? null : annotation.template();
 		ProjectExplorer pe = new ProjectExplorer();
 		pe.open();
+		if (annotation == null || annotation.fast()) {
+			try {
+				Workspace.reset(template);
+			} catch (RedDeerException ex) {
+				log.debug("Workspace could not be reset via Eclipse API: " + ex.getMessage());
+				deleteAllProjects(pe);
+				if (template != null) {
+					throw new RedDeerException("Workspace template " + template + " could not be imported", ex);
+				}
+			}
+		} else {
+			deleteAllProjects(pe);
+			if (template != null) {
+				Workspace.reset(template);
+			}
+		}
+		pe.activate();
+		log.info("Workspace was cleaned in " + (System.currentTimeMillis() - start) + " ms");
+	}
+
+	private void deleteAllProjects(ProjectExplorer pe) {
 		try{
 			pe.deleteAllProjects();
 		} catch (RedDeerException ex){
@@ -79,7 +122,6 @@ public class CleanWorkspaceRequirement extends AbstractRequirement<CleanWorkspac
 				org.eclipse.reddeer.direct.project.Project.delete(project.getName(), true, true);
 			}
 		}
-		pe.activate();
 	}
 
 	/* (non-Javadoc)
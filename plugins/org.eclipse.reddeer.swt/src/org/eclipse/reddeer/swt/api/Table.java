@@ -15,6 +15,8 @@ import java.util.List;
 
 import org.hamcrest.Matcher;
 import org.eclipse.reddeer.core.reference.ReferencedComposite;
+import org.eclipse.reddeer.core.handler.TableHandler;
+import org.eclipse.reddeer.core.util.ItemsSnapshot;
 
 /**
  * API for table manipulation.
@@ -95,6 +97,16 @@ public interface Table extends Control<org.eclipse.swt.widgets.Table>, Reference
 	 */
 	List<TableItem> getItems();
 
+	/**
+	 * Returns snapshot of texts, checked state and images of all table items captured at once.
+	 * 
+	 * @return snapshot of all table items
+	 * @since 3.5
+	 */
+	default ItemsSnapshot getSnapshot() {
+		return TableHandler.getInstance().getSnapshot(getSWTWidget());
+	}
+
 	/**
 	 * Returns item with specified text and column.
 	 * 
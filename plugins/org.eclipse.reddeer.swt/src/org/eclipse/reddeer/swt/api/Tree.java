@@ -13,6 +13,8 @@ package org.eclipse.reddeer.swt.api;
 
 import java.util.List;
 
+import org.eclipse.reddeer.core.handler.TreeHandler;
+import org.eclipse.reddeer.core.util.ItemsSnapshot;
 import org.hamcrest.Matcher;
 
 /**
@@ -36,6 +38,17 @@ public interface Tree extends Control<org.eclipse.swt.widgets.Tree> {
 	 * @return all tree items
 	 */
 	List<TreeItem> getAllItems();
+
+	/**
+	 * Gets snapshot of texts, checked state, images and paths of tree items captured at once.
+	 * Only children of expanded tree items are included.
+	 * 
+	 * @return snapshot of tree items
+	 * @since 3.5
+	 */
+	default ItemsSnapshot getSnapshot() {
+		return TreeHandler.getInstance().getSnapshot(getSWTWidget());
+	}
 	
 	/**
 	 * Returns tree item with given path
@@ -25,6 +25,7 @@ import org.eclipse.reddeer.swt.condition.TableHasRows;
 import org.eclipse.reddeer.swt.exception.SWTLayerException;
 import org.eclipse.reddeer.core.handler.TableHandler;
 import org.eclipse.reddeer.core.reference.ReferencedComposite;
+import org.eclipse.reddeer.core.util.ItemsSnapshot;
 import org.eclipse.reddeer.common.wait.TimePeriod;
 import org.eclipse.reddeer.common.wait.WaitUntil;
 import org.eclipse.reddeer.swt.widgets.AbstractControl;
@@ -52,12 +53,7 @@ public abstract class AbstractTable extends AbstractControl<org.eclipse.swt.widg
 	 */
 	@Override
 	public boolean containsItem(String item){
-		for(TableItem it: getItems()){
-			if(it.getText().equals(item)){
-				return true;
-			}
-		}
-		return false;
+		return containsItem(item, 0);
 	}
 	
 	/* (non-Javadoc)
@@ -65,12 +61,7 @@ public abstract class AbstractTable extends AbstractControl<org.eclipse.swt.widg
 	 */
 	@Override
 	public boolean containsItem(String item, int cellIndex){
-		for(TableItem it: getItems()){
-			if(it.getText(cellIndex).equals(item)){
-				return true;
-			}
-		}
-		return false;
+		return getSnapshot().indexOf(cellIndex, item) != -1;
 	}
 	
 	/* (non-Javadoc)
@@ -87,6 +78,15 @@ public abstract class AbstractTable extends AbstractControl<org.eclipse.swt.widg
 		return tableItems;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.eclipse.reddeer.swt.api.Table#getSnapshot()
+	 */
+	@Override
+	public ItemsSnapshot getSnapshot() {
+		waitUntilTableHasRows();
+		return TableHandler.getInstance().getSnapshot(swtWidget);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.reddeer.swt.api.Table#getItems(org.hamcrest.Matcher)
 	 */
@@ -143,15 +143,15 @@ public abstract class AbstractTable extends AbstractControl<org.eclipse.swt.widg
 	 * @see org.eclipse.reddeer.swt.api.Table#getItems(java.lang.String...)
 	 */
 	public List<TableItem> getItems(String... itemTexts) {
-		waitUntilTableHasRows();		
+		ItemsSnapshot snapshot = getSnapshot();
 		List<TableItem> matchedItems = new ArrayList<TableItem>();		
-		for (TableItem item : getItems()){
+		for (int row = 0; row < snapshot.getRowCount(); row++){
 			int index = 0;		
-			while (index < itemTexts.length && item.getText(index).equals((itemTexts[index]))){
+			while (index < itemTexts.length && snapshot.getText(row, index).equals((itemTexts[index]))){
 				index++;
 			}
 			if (index == itemTexts.length){
-				matchedItems.add(item);
+				matchedItems.add(new DefaultTableItem((org.eclipse.swt.widgets.TableItem) snapshot.getItem(row)));
 			}
 		}
 		return matchedItems;
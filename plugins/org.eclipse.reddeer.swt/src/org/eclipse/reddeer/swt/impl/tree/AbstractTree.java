@@ -23,6 +23,7 @@ import org.eclipse.reddeer.swt.api.TreeItem;
 import org.eclipse.reddeer.core.handler.TreeHandler;
 import org.eclipse.reddeer.core.handler.TreeItemHandler;
 import org.eclipse.reddeer.core.reference.ReferencedComposite;
+import org.eclipse.reddeer.core.util.ItemsSnapshot;
 import org.eclipse.reddeer.swt.widgets.AbstractControl;
 
 public abstract class AbstractTree extends AbstractControl<org.eclipse.swt.widgets.Tree> implements Tree {
@@ -47,6 +48,14 @@ public abstract class AbstractTree extends AbstractControl<org.eclipse.swt.widge
 		return list;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eclipse.reddeer.swt.api.Tree#getSnapshot()
+	 */
+	@Override
+	public ItemsSnapshot getSnapshot() {
+		return TreeHandler.getInstance().getSnapshot(swtWidget);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.reddeer.swt.api.Tree#getItems()
 	 */
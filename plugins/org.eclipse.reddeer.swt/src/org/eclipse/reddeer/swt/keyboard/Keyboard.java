@@ -11,10 +11,16 @@
  *******************************************************************************/
 package org.eclipse.reddeer.swt.keyboard;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.common.util.Display;
 import org.eclipse.reddeer.core.lookup.WidgetLookup;
 
@@ -31,6 +37,14 @@ abstract public class Keyboard {
 	
 	private static final int DELAY = 200;
 	
+	// number of characters typed without synchronization in fast typing mode
+	private static final int BURST_SIZE = 32;
+	
+	private static final long BURST_TIMEOUT = 10000;
+	
+	// characters which usually make a widget react, e.g. by opening content assist
+	private static final String PACED_CHARACTERS = ".(\t\r\n";
+	
 	/**
 	 * Invokes given key combination. Accepts chars or {@link org.eclipse.swt.SWT} constants. For example: invokeKeyCombination(SWT.CONTROL, SWT.SHIFT, 't');
 	 * 
@@ -61,11 +75,93 @@ abstract public class Keyboard {
 	
 	public void type(String text){
 		log.info("Type text \"" + text + "\"");
+		if (RedDeerProperties.KEYBOARD_FAST_TYPING.getBooleanValue()) {
+			typeInBursts(text);
+			return;
+		}
 		for (char c : text.toCharArray()) {
 			invokeKeyCombination(DefaultKeyboardLayout.getInstance().getKeyCombination(c));
 		}
 	}
 	
+	/**
+	 * Types given text in bursts of key events. Keyboard waits only at the end of each burst
+	 * until the posted keys are released in the focused widget. Characters which usually make
+	 * widget react and all characters typed while a new shell is shown or focus is moved
+	 * to another widget are typed one by one as by {@link #invokeKeyCombination(int...)}.
+	 *
+	 * @param text the text to type
+	 */
+	private void typeInBursts(String text) {
+		final Widget w = WidgetLookup.getInstance().getFocusControl();
+		final org.eclipse.swt.widgets.Display display = Display.getDisplay();
+		final TypingMonitor monitor = new TypingMonitor(w);
+		Display.syncExec(new Runnable() {
+			
+			@Override
+			public void run() {
+				monitor.install(display);
+			}
+		});
+		try {
+			int posted = 0;
+			int burst = 0;
+			// false once waiting for released keys timed out
+			boolean synced = true;
+			boolean paced = false;
+			for (char c : text.toCharArray()) {
+				int[] keys = DefaultKeyboardLayout.getInstance().getKeyCombination(c);
+				if (!synced || paced || PACED_CHARACTERS.indexOf(c) >= 0) {
+					if (burst > 0) {
+						synced = finishBurst(monitor, posted);
+						burst = 0;
+					}
+					invokeKeyCombination(keys);
+					posted++;
+					paced = monitor.isReacting();
+					continue;
+				}
+				for (int i = 0; i < keys.length; i++) {
+					display.post(keyEvent(keys[i], SWT.KeyDown, w));
+				}
+				for (int i = keys.length - 1; i >= 0; i--) {
+					display.post(keyEvent(keys[i], SWT.KeyUp, w));
+				}
+				posted++;
+				if (++burst == BURST_SIZE) {
+					synced = finishBurst(monitor, posted);
+					burst = 0;
+					paced = monitor.isReacting();
+				}
+			}
+			if (burst > 0) {
+				finishBurst(monitor, posted);
+			}
+		} finally {
+			Display.syncExec(new Runnable() {
+				
+				@Override
+				public void run() {
+					monitor.uninstall(display);
+				}
+			});
+		}
+	}
+	
+	/**
+	 * Waits until all posted characters are released.
+	 * 
+	 * @return true if all characters were released, false if waiting timed out
+	 */
+	private boolean finishBurst(TypingMonitor monitor, int posted) {
+		boolean released = monitor.awaitReleased(posted, BURST_TIMEOUT);
+		if (!released) {
+			log.debug("Typed keys were not released in time, typing key by key");
+		}
+		emptySync();
+		return released;
+	}
+	
 	/**
 	 *  Types given character.
 	 *
@@ -165,6 +261,82 @@ abstract public class Keyboard {
 		return e;
 	}
 	
+	/**
+	 * Typing monitor counts released character keys and tracks whether widgets react to typing
+	 * by showing a shell or moving focus away from the widget which is typed into.
+	 * Events are tracked by display filters in UI thread.
+	 */
+	private static class TypingMonitor implements Listener {
+		
+		private static final int[] EVENTS = { SWT.KeyUp, SWT.Show, SWT.Hide, SWT.Dispose, SWT.FocusIn };
+		
+		private final Widget widget;
+		
+		private final Set<Shell> shownShells = new HashSet<Shell>();
+		
+		private int released;
+		
+		private boolean focusMoved;
+		
+		private TypingMonitor(Widget widget) {
+			this.widget = widget;
+		}
+		
+		private void install(org.eclipse.swt.widgets.Display display) {
+			for (int event : EVENTS) {
+				display.addFilter(event, this);
+			}
+		}
+		
+		private void uninstall(org.eclipse.swt.widgets.Display display) {
+			for (int event : EVENTS) {
+				display.removeFilter(event, this);
+			}
+		}
+		
+		@Override
+		public synchronized void handleEvent(Event event) {
+			switch (event.type) {
+			case SWT.KeyUp:
+				if ((event.keyCode & SWT.MODIFIER_MASK) == 0) {
+					released++;
+					notifyAll();
+				}
+				break;
+			case SWT.Show:
+				if (event.widget instanceof Shell) {
+					shownShells.add((Shell) event.widget);
+				}
+				break;
+			case SWT.FocusIn:
+				focusMoved = event.widget != widget;
+				break;
+			default:
+				// hidden or disposed shell
+				shownShells.remove(event.widget);
+			}
+		}
+		
+		private synchronized boolean awaitReleased(int count, long timeout) {
+			long end = System.currentTimeMillis() + timeout;
+			long remaining = timeout;
+			while (released < count && remaining > 0) {
+				try {
+					wait(remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+				remaining = end - System.currentTimeMillis();
+			}
+			return released >= count;
+		}
+		
+		private synchronized boolean isReacting() {
+			return focusMoved || !shownShells.isEmpty();
+		}
+	}
+	
 	private void sync() {
 		delay(DELAY);
 		emptySync();		
@@ -117,6 +117,7 @@ public class JobIsRunning extends AbstractWaitCondition {
 		this.consideredJobs = consideredJobs;
 		this.excludeJobs = excludeJobs;
 		this.skipSystemJobs = skipSystemJobs;
+		Jobs.notifyWaitsOnJobChanges();
 	}
 
 	/* (non-Javadoc)
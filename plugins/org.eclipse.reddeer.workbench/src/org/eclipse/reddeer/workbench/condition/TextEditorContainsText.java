@@ -12,10 +12,12 @@
 package org.eclipse.reddeer.workbench.condition;
 
 import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
+import org.eclipse.reddeer.workbench.handler.TextEditorHandler;
 import org.eclipse.reddeer.workbench.impl.editor.TextEditor;
 
 /**
- * Check if editor contains specified text
+ * Check if editor contains specified text. Text is searched in editor's document
+ * without copying its content, search is repeated only if the document was modified.
  * @author rawagner
  *
  */
@@ -37,7 +39,7 @@ public class TextEditorContainsText extends AbstractWaitCondition{
 
 	@Override
 	public boolean test() {
-		if (editor.getText().contains(text)) {
+		if (TextEditorHandler.getInstance().containsText(editor.getEditorPart(), text)) {
 			this.resultText = text;
 			return true;
 		}
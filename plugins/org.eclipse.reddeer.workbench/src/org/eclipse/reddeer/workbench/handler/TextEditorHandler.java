@@ -11,10 +11,21 @@
  *******************************************************************************/
 package org.eclipse.reddeer.workbench.handler;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.PatternSyntaxException;
+
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.FindReplaceDocumentAdapter;
 import org.eclipse.jface.text.IBlockTextSelection;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextSelection;
+import org.eclipse.jface.text.Region;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.ui.texteditor.ITextEditor;
 import org.eclipse.reddeer.common.util.Display;
@@ -24,11 +35,16 @@ import org.eclipse.swt.graphics.Point;
 
 /**
  * TextEditor handler handles operations for TextEditor instances.
+ * Text is searched directly in editor's document, found occurrences are cached
+ * until the document is modified.
  * @author rhopp
  */
 public class TextEditorHandler extends EditorHandler{
 	
 	private static TextEditorHandler instance;
+
+	// occurrences found in documents, accessed only in UI thread
+	private final Map<IDocument, SearchCache> searchCaches = new WeakHashMap<IDocument, SearchCache>();
 	
 	/**
 	 * Gets instance of TextEditorHandler.
@@ -192,18 +208,61 @@ public class TextEditorHandler extends EditorHandler{
 
 			@Override
 			public Integer run() {
-				int textOffset = getPositionOfText(editor, text, textIndex);
-				int line = -1;
+				IRegion region = findText(editor, text, textIndex, false);
+				if (region == null) {
+					return -1;
+				}
 				try {
-					line = getDocument(editor).getLineOfOffset(textOffset);
+					return getDocument(editor).getLineOfOffset(region.getOffset());
 				} catch (BadLocationException e) {
-					line = -1;
+					return -1;
 				}
-				return line;
 			}
     	});
     }
 
+    /**
+     * Finds i-th occurrence of given text or regular expression in document of specified editor.
+     * Occurrences do not overlap, search is case sensitive.
+     *
+     * @param editor editor to handle
+     * @param text text or regular expression to find
+     * @param index index of occurrence in editor
+     * @param regex true if text is a regular expression, false otherwise
+     * @return region of the occurrence or null if there is no such occurrence
+     */
+    public IRegion findText(final ITextEditor editor, final String text, final int index, final boolean regex) {
+    	return Display.syncExec(new ResultRunnable<IRegion>() {
+
+			@Override
+			public IRegion run() {
+				if (index < 0) {
+					return null;
+				}
+				if (text.isEmpty()) {
+					return new Region(0, 0);
+				}
+				IDocument document = getDocument(editor);
+				Occurrences occurrences = getOccurrences(document, text, regex);
+				while (occurrences.regions.size() <= index && !occurrences.complete) {
+					occurrences.findNext(document);
+				}
+				return index < occurrences.regions.size() ? occurrences.regions.get(index) : null;
+			}
+    	});
+    }
+
+    /**
+     * Finds out whether document of specified editor contains given text.
+     *
+     * @param editor editor to handle
+     * @param text text to find
+     * @return true if editor contains the text, false otherwise
+     */
+    public boolean containsText(final ITextEditor editor, final String text) {
+    	return findText(editor, text, 0, false) != null;
+    }
+
     /**
      * Selects line with specified number in specified text editor.
      * 
@@ -242,50 +301,12 @@ public class TextEditorHandler extends EditorHandler{
 
             @Override
             public void run() {
-                boolean found = false;
-                int iStartIndex = 0;
-                int iRow = 0;
-                String editorText = getDocument(editor).get();
-
-                if (editorText != null && editorText.length() > 0
-                        && editorText.contains(text)) {
-                    int iOccurenceIndex = 0;
-                    while (!found && iRow < getNumberOfLines(editor)) {
-                        String lineText = getTextAtLine(editor, iRow);
-                        System.out.println(lineText);
-                        iStartIndex = 0;
-                        while (!found && lineText.contains(text)) {
-                            if (iOccurenceIndex == textIndex) {
-                                found = true;
-                                iStartIndex += lineText.indexOf(text);
-                            } else {
-                                iOccurenceIndex++;
-                                int iNewStartIndex = lineText.indexOf(text)
-                                        + text.length();
-                                iStartIndex += iNewStartIndex;
-                                lineText = lineText.substring(iNewStartIndex);
-                            }
-                        }
-                        if (!found) {
-                            iRow++;
-                        }
-                    }
-                }
-
-                if (found) {
-                    int offset = 0;
-                    try {
-                        offset = getDocument(editor).getLineOffset(iRow)
-                                + iStartIndex;
-                    } catch (BadLocationException e) {
-                        throw new WorkbenchLayerException("Unable to find "
-                                + text + " in editor", e);
-                    }
-                    editor.selectAndReveal(offset, text.length());
-                } else {
+                IRegion region = findText(editor, text, textIndex, false);
+                if (region == null) {
                     throw new WorkbenchLayerException("Unable to find " + text
                             + " in editor");
                 }
+                editor.selectAndReveal(region.getOffset(), region.getLength());
             }
         });
     }
@@ -310,27 +331,8 @@ public class TextEditorHandler extends EditorHandler{
 	 * @return position of first character of specified text if exists, -1 otherwise 
 	 */
 	public int getPositionOfText(final ITextEditor editor, final String text, final int index) {
-		return Display.syncExec(new ResultRunnable<Integer>() {
-
-			@Override
-			public Integer run() {
-				if(index < 0){
-					return -1;
-				}
-				String doc = getDocument(editor).get();
-				int textIndex = 0;
-				int i = 0;
-				while (i <= index){
-					i++;
-					textIndex = doc.indexOf(text,textIndex);
-					if(textIndex == -1){
-						return -1;
-					}
-					textIndex += text.length();
-				}
-				return textIndex - text.length();
-			}
-		});
+		IRegion region = findText(editor, text, index, false);
+		return region == null ? -1 : region.getOffset();
 	}
 
 	/**
@@ -451,5 +453,79 @@ public class TextEditorHandler extends EditorHandler{
         return editor.getDocumentProvider()
                 .getDocument(editor.getEditorInput());
     }
+
+    private Occurrences getOccurrences(IDocument document, String text, boolean regex) {
+    	long stamp = document instanceof IDocumentExtension4
+    			? ((IDocumentExtension4) document).getModificationStamp()
+    			: IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+    	SearchCache cache = searchCaches.get(document);
+    	if (cache == null || stamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP || cache.stamp != stamp) {
+    		cache = new SearchCache(stamp);
+    		searchCaches.put(document, cache);
+    	}
+    	Map<String, Occurrences> cachedOccurrences = regex ? cache.regexOccurrences : cache.textOccurrences;
+    	Occurrences occurrences = cachedOccurrences.get(text);
+    	if (occurrences == null) {
+    		occurrences = new Occurrences(text, regex);
+    		cachedOccurrences.put(text, occurrences);
+    	}
+    	return occurrences;
+    }
+
+    /**
+     * Occurrences found in one revision of a document.
+     */
+    private static class SearchCache {
+
+    	private final long stamp;
+
+    	private final Map<String, Occurrences> textOccurrences = new HashMap<String, Occurrences>();
+
+    	private final Map<String, Occurrences> regexOccurrences = new HashMap<String, Occurrences>();
+
+    	private SearchCache(long stamp) {
+    		this.stamp = stamp;
+    	}
+    }
+
+    /**
+     * Occurrences of a text found so far, next occurrence is searched from the end of the last one.
+     */
+    private static class Occurrences {
+
+    	private final String text;
+
+    	private final boolean regex;
+
+    	private final List<IRegion> regions = new ArrayList<IRegion>();
+
+    	private int nextOffset;
+
+    	private boolean complete;
+
+    	private Occurrences(String text, boolean regex) {
+    		this.text = text;
+    		this.regex = regex;
+    	}
+
+    	private void findNext(IDocument document) {
+    		if (nextOffset > document.getLength()) {
+    			complete = true;
+    			return;
+    		}
+    		IRegion region;
+    		try {
+    			region = new FindReplaceDocumentAdapter(document).find(nextOffset, text, true, true, false, regex);
+    		} catch (BadLocationException | PatternSyntaxException e) {
+    			throw new WorkbenchLayerException("Unable to search for " + text + " in editor", e);
+    		}
+    		if (region == null) {
+    			complete = true;
+    		} else {
+    			regions.add(region);
+    			nextOffset = region.getOffset() + Math.max(region.getLength(), 1);
+    		}
+    	}
+    }
 }
 
@@ -12,6 +12,7 @@
 package org.eclipse.reddeer.workbench.impl.editor;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextSelection;
 import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.core.matcher.WithTextMatcher;
@@ -275,6 +276,29 @@ public class TextEditor extends AbstractEditor implements Editor {
 	public int getPositionOfText(String text, int index) {
 		return TextEditorHandler.getInstance().getPositionOfText((ITextEditor)getEditorPart(), text, index);
 	}
+
+	/**
+	 * Gets position of first character of i-th match of specified regular expression in specified editor.
+	 * 
+	 * @param regex regular expression to search for
+	 * @param index index of match
+	 * @return offset of match, -1 if there is no such match
+	 */
+	public int getPositionOfRegex(String regex, int index) {
+		IRegion region = TextEditorHandler.getInstance().findText((ITextEditor)getEditorPart(), regex, index, true);
+		return region == null ? -1 : region.getOffset();
+	}
+
+	/**
+	 * Finds out whether editor contains specified text.
+	 * 
+	 * @param text text to search for
+	 * @return true if editor contains the text, false otherwise
+	 */
+	public boolean containsText(String text) {
+		return TextEditorHandler.getInstance().containsText((ITextEditor)getEditorPart(), text);
+	}
+
 	/**
 	 * Gets the current position of the cursor.
 	 *
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.common.properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.reddeer.common.context.ExecutionSetting;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.logging.MessageType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Measures throughput of disabled trace and enabled debug logging.
+ */
+public class LoggerThroughputTest {
+
+	private static final Logger log = Logger.getLogger(LoggerThroughputTest.class);
+
+	private static final int DISABLED_ITERATIONS = 1000000;
+
+	private static final int ENABLED_ITERATIONS = 1000;
+
+	private int originalFilter;
+
+	@Before
+	public void storeFilter() {
+		originalFilter = ExecutionSetting.getInstance().getLogMessageFilter();
+	}
+
+	@After
+	public void restoreFilter() {
+		ExecutionSetting.getInstance().setLogMessageFilter(originalFilter);
+		Logger.flush();
+	}
+
+	@Test
+	public void testDisabledTraceDoesNotBuildMessage() {
+		ExecutionSetting.getInstance().setLogMessageFilter(MessageType.ALL & ~MessageType.TRACE);
+		AtomicInteger built = new AtomicInteger();
+
+		assertFalse(log.isTraceEnabled());
+		long start = System.nanoTime();
+		for (int i = 0; i < DISABLED_ITERATIONS; i++) {
+			log.trace(() -> "Trace message " + built.incrementAndGet());
+			log.trace("Trace message %d", i);
+		}
+		long elapsed = System.nanoTime() - start;
+
+		assertEquals(0, built.get());
+		log.info("Disabled TRACE: " + throughput(2 * DISABLED_ITERATIONS, elapsed) + " calls/s");
+	}
+
+	@Test
+	public void testEnabledDebug() {
+		ExecutionSetting.getInstance().setLogMessageFilter(MessageType.ALL);
+		AtomicInteger built = new AtomicInteger();
+
+		assertTrue(log.isDebugEnabled());
+		long start = System.nanoTime();
+		for (int i = 0; i < ENABLED_ITERATIONS; i++) {
+			log.debug(() -> "Debug message " + built.incrementAndGet());
+		}
+		Logger.flush();
+		long elapsed = System.nanoTime() - start;
+
+		assertEquals(ENABLED_ITERATIONS, built.get());
+		log.info("Enabled DEBUG: " + throughput(ENABLED_ITERATIONS, elapsed) + " calls/s");
+	}
+
+	private static long throughput(int calls, long nanos) {
+		return nanos == 0 ? calls : calls * 1000000000L / nanos;
+	}
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.common.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.util.ObjectUtil;
+import org.junit.Test;
+
+public class ObjectUtilTest {
+
+	@Test
+	public void testInvokeMethod() {
+		assertEquals("text", ObjectUtil.invokeMethod(new Labeled("text"), "getText"));
+		assertEquals("text:5", ObjectUtil.invokeMethod(new Labeled("text"), "getText",
+				new Class<?>[] { String.class, int.class }, new Object[] { ":", 5 }));
+	}
+
+	@Test
+	public void testHasMethod() {
+		assertTrue(ObjectUtil.hasMethod(new Labeled("text"), "getText"));
+		assertFalse(ObjectUtil.hasMethod(new Object(), "getText"));
+		assertFalse(ObjectUtil.hasMethod(null, "getText"));
+	}
+
+	@Test
+	public void testAbsentMethodIsReportedRepeatedly() {
+		for (int i = 0; i < 2; i++) {
+			try {
+				ObjectUtil.invokeMethod(new Object(), "getText");
+				fail("Method getText should not be found");
+			} catch (RedDeerException ex) {
+				assertTrue(ex.getCause() instanceof NoSuchMethodException);
+			}
+		}
+	}
+
+	@Test
+	public void testExceptionOfInvokedMethodIsWrapped() {
+		try {
+			ObjectUtil.invokeMethod(new Labeled(null), "getLength");
+			fail("Exception of invoked method should be thrown");
+		} catch (RedDeerException ex) {
+			assertTrue(ex.getCause() instanceof NullPointerException);
+		}
+	}
+
+	@Test
+	public void testInvokeStaticMethod() {
+		assertEquals("static", ObjectUtil.invokeMethod(new Labeled("text"), "getDefaultText"));
+	}
+
+	@Test
+	public void testErrorOfInvokedMethodIsNotWrapped() {
+		try {
+			ObjectUtil.invokeMethod(new Labeled("text"), "fail");
+			fail("Error of invoked method should be thrown");
+		} catch (AssertionError error) {
+			assertEquals("failed", error.getMessage());
+		}
+	}
+
+	public static class Labeled {
+
+		private final String text;
+
+		public Labeled(String text) {
+			this.text = text;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public String getText(String separator, int number) {
+			return text + separator + number;
+		}
+
+		public int getLength() {
+			return text.length();
+		}
+
+		public void fail() {
+			throw new AssertionError("failed");
+		}
+
+		public static String getDefaultText() {
+			return "static";
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.common.test.wait;
+
+import static org.eclipse.reddeer.common.test.wait.CustomWaitCondition.sleep;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
+import org.eclipse.reddeer.common.exception.WaitTimeoutExpiredException;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
+import org.eclipse.reddeer.common.wait.TimePeriod;
+import org.eclipse.reddeer.common.wait.WaitNotifier;
+import org.eclipse.reddeer.common.wait.WaitUntil;
+import org.eclipse.reddeer.common.wait.WaitWhile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventDrivenWaitTest {
+
+	private static final long LONG_TEST_PERIOD = 60000;
+
+	private String originalValue;
+
+	@Before
+	public void enableEventDrivenWait() {
+		originalValue = System.getProperty(RedDeerProperties.EVENT_DRIVEN_WAIT.getName());
+		System.setProperty(RedDeerProperties.EVENT_DRIVEN_WAIT.getName(), "true");
+	}
+
+	@After
+	public void restoreEventDrivenWait() {
+		if (originalValue == null) {
+			System.clearProperty(RedDeerProperties.EVENT_DRIVEN_WAIT.getName());
+		} else {
+			System.setProperty(RedDeerProperties.EVENT_DRIVEN_WAIT.getName(), originalValue);
+		}
+	}
+
+	@Test
+	public void test_SignalWakesUpWait() {
+		FlagCondition condition = new FlagCondition();
+		new Thread(() -> {
+			sleep(500);
+			condition.flag = true;
+			WaitNotifier.getInstance().signal();
+		}).start();
+
+		long start = System.currentTimeMillis();
+		new WaitUntil(condition, TimePeriod.DEFAULT, true, LONG_TEST_PERIOD);
+		long elapsed = System.currentTimeMillis() - start;
+		assertTrue("Wait was not woken up by signal, it took " + elapsed + " ms", elapsed < 5000);
+	}
+
+	@Test
+	public void test_BackoffWithoutSignal() {
+		FlagCondition condition = new FlagCondition();
+		condition.flag = true;
+		new Thread(() -> {
+			sleep(500);
+			condition.flag = false;
+		}).start();
+
+		long start = System.currentTimeMillis();
+		new WaitWhile(condition, TimePeriod.DEFAULT);
+		long elapsed = System.currentTimeMillis() - start;
+		assertTrue("Wait without signal took " + elapsed + " ms", elapsed < 2000);
+	}
+
+	@Test
+	public void test_TimeoutIsHonored() {
+		long start = System.currentTimeMillis();
+		try {
+			new WaitUntil(new FlagCondition(), TimePeriod.SHORT, true, LONG_TEST_PERIOD);
+		} catch (WaitTimeoutExpiredException ex) {
+			long elapsed = System.currentTimeMillis() - start;
+			assertTrue("Wait timed out too early after " + elapsed + " ms", elapsed >= 1000);
+			assertTrue("Wait timed out too late after " + elapsed + " ms", elapsed < 3000);
+			return;
+		}
+		throw new AssertionError("WaitTimeoutExpiredException should be thrown");
+	}
+
+	private static class FlagCondition extends AbstractWaitCondition {
+
+		private volatile boolean flag = false;
+
+		@Override
+		public boolean test() {
+			return flag;
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.test.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.DisplayBatch;
+import org.eclipse.reddeer.core.handler.ButtonHandler;
+import org.eclipse.reddeer.core.exception.CoreLayerException;
+import org.eclipse.reddeer.core.handler.ControlHandler;
+import org.eclipse.reddeer.swt.test.utils.ShellTestUtils;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTError;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.layout.RowLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link DisplayBatch} and compares batched handler reads with one UI thread visit per read.
+ */
+public class DisplayBatchTest {
+
+	private static final Logger log = Logger.getLogger(DisplayBatchTest.class);
+
+	private static final String SHELL_TITLE = "Display Batch";
+
+	private static final int BUTTONS = 200;
+
+	private Shell shell;
+
+	private List<Button> buttons;
+
+	@Before
+	public void setUp() {
+		buttons = new ArrayList<Button>();
+		shell = Display.syncExec(() -> {
+			Shell generatedShell = ShellTestUtils.createShell(SHELL_TITLE);
+			generatedShell.setLayout(new RowLayout());
+			for (int i = 0; i < BUTTONS; i++) {
+				Button button = new Button(generatedShell, SWT.PUSH);
+				button.setText("button" + i);
+				button.setToolTipText("tooltip" + i);
+				button.setEnabled(i % 2 == 0);
+				buttons.add(button);
+			}
+			generatedShell.layout();
+			return generatedShell;
+		});
+	}
+
+	@After
+	public void tearDown() {
+		Display.syncExec(() -> {
+			if (!shell.isDisposed()) {
+				shell.dispose();
+			}
+		});
+	}
+
+	@Test
+	public void testBatchedReads() {
+		DisplayBatch batch = new DisplayBatch();
+		List<DisplayBatch.Result<String>> texts = new ArrayList<DisplayBatch.Result<String>>();
+		List<DisplayBatch.Result<Boolean>> enabled = new ArrayList<DisplayBatch.Result<Boolean>>();
+		for (Button button : buttons) {
+			texts.add(batch.add(() -> ButtonHandler.getInstance().getText(button)));
+			enabled.add(batch.add(() -> ControlHandler.getInstance().isEnabled(button)));
+		}
+		batch.execute();
+
+		for (int i = 0; i < BUTTONS; i++) {
+			assertEquals("button" + i, texts.get(i).get());
+			assertEquals(i % 2 == 0, enabled.get(i).get());
+		}
+	}
+
+	@Test
+	public void testFailureIsCapturedPerItem() {
+		DisplayBatch batch = new DisplayBatch();
+		DisplayBatch.Result<String> failing = batch.add(() -> {
+			throw new IllegalStateException("failure");
+		});
+		DisplayBatch.Result<String> text = batch.add(() -> ButtonHandler.getInstance().getText(buttons.get(0)));
+		batch.execute();
+
+		assertTrue(failing.isFailed());
+		assertTrue(failing.getException() instanceof IllegalStateException);
+		assertFalse(text.isFailed());
+		assertEquals("button0", text.get());
+		try {
+			failing.get();
+			fail("Failure of the runnable should be thrown");
+		} catch (RedDeerException ex) {
+			assertTrue(ex.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	@Test
+	public void testErrorIsNotCaptured() {
+		DisplayBatch batch = new DisplayBatch();
+		DisplayBatch.Result<String> failing = batch.add(() -> {
+			throw new SWTError("error");
+		});
+		DisplayBatch.Result<String> text = batch.add(() -> ButtonHandler.getInstance().getText(buttons.get(0)));
+		try {
+			batch.execute();
+			fail("Error of the runnable should be thrown");
+		} catch (SWTError error) {
+			// batch executed in UI thread
+		} catch (SWTException ex) {
+			assertTrue(ex.throwable instanceof SWTError);
+		}
+
+		assertFalse(failing.isDone());
+		assertFalse(text.isDone());
+	}
+
+	@Test
+	public void testReadAllThrowsExceptionOfReader() {
+		try {
+			DisplayBatch.readAll(buttons, button -> {
+				throw new CoreLayerException("failure");
+			});
+			fail("Exception of the reader should be thrown");
+		} catch (CoreLayerException ex) {
+			assertEquals("failure", ex.getMessage());
+		}
+	}
+
+	@Test
+	public void testBulkHandlerReads() {
+		List<Boolean> enabled = ControlHandler.getInstance().isEnabled(buttons);
+		List<String> tooltips = ControlHandler.getInstance().getToolTipText(buttons.subList(0, 2));
+
+		assertEquals(BUTTONS, enabled.size());
+		assertEquals(Arrays.asList(true, false), enabled.subList(0, 2));
+		assertEquals(Arrays.asList("tooltip0", "tooltip1"), tooltips);
+	}
+
+	@Test
+	public void testRoundTrips() {
+		long start = System.nanoTime();
+		List<String> singleTexts = new ArrayList<String>();
+		List<Boolean> singleEnabled = new ArrayList<Boolean>();
+		List<Boolean> singleVisible = new ArrayList<Boolean>();
+		for (Button button : buttons) {
+			singleTexts.add(ButtonHandler.getInstance().getText(button));
+			singleEnabled.add(ControlHandler.getInstance().isEnabled(button));
+			singleVisible.add(ControlHandler.getInstance().isVisible(button));
+		}
+		long single = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		List<String> batchTexts = DisplayBatch.readAll(buttons, button -> ButtonHandler.getInstance().getText(button));
+		List<Boolean> batchEnabled = ControlHandler.getInstance().isEnabled(buttons);
+		List<Boolean> batchVisible = ControlHandler.getInstance().isVisible(buttons);
+		long batched = System.nanoTime() - start;
+
+		assertEquals(singleTexts, batchTexts);
+		assertEquals(singleEnabled, batchEnabled);
+		assertEquals(singleVisible, batchVisible);
+		log.info(3 * BUTTONS + " reads: " + single / 1000 + " us in " + 3 * BUTTONS + " UI thread visits, "
+				+ batched / 1000 + " us in 3 UI thread visits");
+	}
+}
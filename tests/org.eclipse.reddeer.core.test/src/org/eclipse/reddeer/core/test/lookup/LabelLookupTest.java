@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.test.lookup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.matcher.AndMatcher;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.core.lookup.WidgetLookup;
+import org.eclipse.reddeer.core.matcher.ClassMatcher;
+import org.eclipse.reddeer.core.matcher.WithLabelMatcher;
+import org.eclipse.reddeer.swt.test.utils.ShellTestUtils;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FormAttachment;
+import org.eclipse.swt.layout.FormData;
+import org.eclipse.swt.layout.FormLayout;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests label resolution of {@link WidgetLookup#getLabel(org.eclipse.swt.widgets.Control)}
+ * and {@link WithLabelMatcher} on generated form with 1000 labeled fields.
+ */
+public class LabelLookupTest {
+
+	private static final Logger log = Logger.getLogger(LabelLookupTest.class);
+
+	private static final String SHELL_TITLE = "Label Lookup";
+
+	private static final int FIELDS = 1000;
+
+	private static final int LOOKUPS = 20;
+
+	private Shell shell;
+
+	private Text[] fields;
+
+	private Text formField;
+
+	@Before
+	public void setUp() {
+		fields = new Text[FIELDS];
+		shell = Display.syncExec(() -> {
+			Shell generatedShell = ShellTestUtils.createShell(SHELL_TITLE);
+			Composite form = new Composite(generatedShell, SWT.NONE);
+			form.setLayout(new GridLayout(2, false));
+			for (int i = 0; i < FIELDS; i++) {
+				new Label(form, SWT.NONE).setText("Field " + i + ":");
+				fields[i] = new Text(form, SWT.BORDER);
+			}
+			Composite formDataComposite = new Composite(generatedShell, SWT.NONE);
+			formDataComposite.setLayout(new FormLayout());
+			formField = new Text(formDataComposite, SWT.BORDER);
+			Label formLabel = new Label(formDataComposite, SWT.NONE);
+			formLabel.setText("Attached:");
+			FormData formData = new FormData();
+			formData.right = new FormAttachment(formField);
+			formLabel.setLayoutData(formData);
+			generatedShell.layout();
+			return generatedShell;
+		});
+	}
+
+	@After
+	public void tearDown() {
+		Display.syncExec(() -> {
+			if (!shell.isDisposed()) {
+				shell.dispose();
+			}
+		});
+	}
+
+	@Test
+	public void testPrecedingLabel() {
+		assertEquals("Field 0:", WidgetLookup.getInstance().getLabel(fields[0]));
+		assertEquals("Field 999:", WidgetLookup.getInstance().getLabel(fields[FIELDS - 1]));
+	}
+
+	@Test
+	public void testFormDataLabel() {
+		assertEquals("Attached:", WidgetLookup.getInstance().getLabel(formField));
+	}
+
+	@Test
+	public void testLookupByLabel() {
+		long start = System.nanoTime();
+		for (int i = 0; i < LOOKUPS; i++) {
+			int field = FIELDS - 1 - i;
+			Text text = WidgetLookup.getInstance().activeWidget(shell,
+					new AndMatcher(new ClassMatcher(Text.class), new WithLabelMatcher("Field " + field + ":")), 0);
+			assertSame(fields[field], text);
+		}
+		long elapsed = System.nanoTime() - start;
+
+		log.info("Lookup by label in form with " + FIELDS + " fields: " + elapsed / LOOKUPS / 1000 + " us");
+	}
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.test.lookup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.wait.TimePeriod;
+import org.eclipse.reddeer.core.lookup.ShellLookup;
+import org.eclipse.reddeer.core.lookup.ShellRegistry;
+import org.eclipse.reddeer.swt.test.utils.ShellTestUtils;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ShellRegistry} used by {@link ShellLookup#getActiveShell()}.
+ */
+public class ShellRegistryTest {
+
+	private Shell firstShell;
+
+	private Shell secondShell;
+
+	private boolean originalEnabled;
+
+	@Before
+	public void setUp() {
+		originalEnabled = ShellRegistry.getInstance().isEnabled();
+		ShellRegistry.getInstance().setEnabled(true);
+		// let the registry track shells opened by the test
+		ShellLookup.getInstance().getActiveShell();
+		firstShell = Display.syncExec(() -> ShellTestUtils.createShell("First Registry Shell"));
+		secondShell = Display.syncExec(() -> ShellTestUtils.createShell("Second Registry Shell"));
+	}
+
+	@After
+	public void tearDown() {
+		ShellRegistry.getInstance().setEnabled(originalEnabled);
+		Display.syncExec(() -> {
+			for (Shell shell : new Shell[] { firstShell, secondShell }) {
+				if (shell != null && !shell.isDisposed()) {
+					shell.dispose();
+				}
+			}
+		});
+	}
+
+	@Test
+	public void testLastOpenedShellIsActive() {
+		long start = System.currentTimeMillis();
+		Shell activeShell = ShellLookup.getInstance().getActiveShell();
+		long elapsed = System.currentTimeMillis() - start;
+
+		assertEquals(secondShell, activeShell);
+		assertTrue("Active shell lookup waited " + elapsed + " ms", elapsed < TimePeriod.SHORT.getSeconds() * 1000);
+	}
+
+	@Test
+	public void testDisposedShellIsForgotten() {
+		Display.syncExec(() -> secondShell.dispose());
+
+		assertEquals(firstShell, ShellLookup.getInstance().getActiveShell());
+	}
+
+	@Test
+	public void testHiddenShellIsForgotten() {
+		Display.syncExec(() -> secondShell.setVisible(false));
+
+		assertEquals(firstShell, ShellLookup.getInstance().getActiveShell());
+	}
+}
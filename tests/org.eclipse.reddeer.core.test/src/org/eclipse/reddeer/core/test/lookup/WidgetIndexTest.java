@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.test.lookup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.reddeer.common.matcher.AndMatcher;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.core.lookup.WidgetIndex;
+import org.eclipse.reddeer.core.lookup.WidgetLookup;
+import org.eclipse.reddeer.core.matcher.ClassMatcher;
+import org.eclipse.reddeer.core.matcher.WithIdMatcher;
+import org.eclipse.reddeer.core.matcher.WithTextMatcher;
+import org.eclipse.reddeer.core.reference.DefaultReferencedComposite;
+import org.eclipse.reddeer.swt.test.utils.ShellTestUtils;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Widget;
+import org.hamcrest.Matcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link WidgetIndex} used by {@link WidgetLookup}.
+ */
+public class WidgetIndexTest {
+
+	private static final String SHELL_TITLE = "Widget Index";
+
+	private static final int FIELDS = 30;
+
+	private Shell shell;
+
+	private Shell otherShell;
+
+	private boolean originalEnabled;
+
+	@Before
+	public void setUp() {
+		originalEnabled = WidgetIndex.getInstance().isEnabled();
+		shell = Display.syncExec(() -> {
+			Shell generatedShell = ShellTestUtils.createShell(SHELL_TITLE);
+			for (int i = 0; i < FIELDS; i++) {
+				Text text = new Text(generatedShell, SWT.BORDER);
+				text.setText("text" + i);
+				text.setData(RedDeerProperties.DEFAULT_KEY.getValue(), "id" + i);
+			}
+			new Button(generatedShell, SWT.PUSH).setText("button");
+			generatedShell.layout();
+			return generatedShell;
+		});
+		WidgetIndex.getInstance().setEnabled(true);
+		WidgetIndex.getInstance().invalidate();
+		WidgetIndex.getInstance().resetCounters();
+	}
+
+	@After
+	public void tearDown() {
+		WidgetIndex.getInstance().setEnabled(originalEnabled);
+		Display.syncExec(() -> {
+			if (!shell.isDisposed()) {
+				shell.dispose();
+			}
+			if (otherShell != null && !otherShell.isDisposed()) {
+				otherShell.dispose();
+			}
+		});
+	}
+
+	@Test
+	public void testIndexedLookupMatchesTreeWalk() {
+		Matcher<Widget> matcher = new ClassMatcher(Text.class);
+		List<Widget> indexed = WidgetLookup.getInstance().activeWidgets(shell, matcher);
+
+		WidgetIndex.getInstance().setEnabled(false);
+		List<Widget> walked = WidgetLookup.getInstance().activeWidgets(shell, matcher);
+
+		assertEquals(FIELDS, walked.size());
+		assertEquals(walked, indexed);
+	}
+
+	@Test
+	public void testRepeatedLookupsHitCache() {
+		Matcher<Widget> matcher = new ClassMatcher(Text.class);
+		for (int i = 0; i < FIELDS; i++) {
+			WidgetLookup.getInstance().activeWidget(shell, matcher, i);
+		}
+		// unrelated UI changes may invalidate the index, but most lookups have to hit it
+		assertTrue(WidgetIndex.getInstance().getHitCount() > WidgetIndex.getInstance().getMissCount());
+	}
+
+	@Test
+	public void testLookupByKey() {
+		List<Text> byId = WidgetLookup.getInstance().indexedWidgets(new DefaultReferencedComposite(shell), Text.class,
+				WidgetIndex.Key.ID, "id5");
+		List<Text> byText = WidgetLookup.getInstance().indexedWidgets(new DefaultReferencedComposite(shell), Text.class,
+				WidgetIndex.Key.TEXT, "text5");
+
+		assertEquals(1, byId.size());
+		assertEquals(byId, byText);
+	}
+
+	@Test
+	public void testLookupAfterIdAndTextChange() {
+		Matcher<Widget> idMatcher = new AndMatcher(new ClassMatcher(Text.class), new WithIdMatcher("id3"));
+		Widget first = WidgetLookup.getInstance().activeWidget(shell, idMatcher, 0);
+		Button button = (Button) WidgetLookup.getInstance().activeWidget(shell, new ClassMatcher(Button.class), 0);
+
+		// neither change fires an event invalidating the index
+		Display.syncExec(() -> {
+			first.setData(RedDeerProperties.DEFAULT_KEY.getValue(), "changed");
+			button.setText("renamed");
+		});
+
+		assertTrue(WidgetLookup.getInstance().activeWidgets(shell, idMatcher).isEmpty());
+		assertSame(first, WidgetLookup.getInstance().activeWidget(shell,
+				new AndMatcher(new ClassMatcher(Text.class), new WithIdMatcher("changed")), 0));
+		assertSame(button, WidgetLookup.getInstance().activeWidget(shell,
+				new AndMatcher(new ClassMatcher(Button.class), new WithTextMatcher("renamed")), 0));
+		assertEquals(1, WidgetLookup.getInstance().indexedWidgets(new DefaultReferencedComposite(shell), Text.class,
+				WidgetIndex.Key.ID, "changed").size());
+	}
+
+	@Test
+	public void testDisposeInvalidatesIndex() {
+		Matcher<Widget> matcher = new ClassMatcher(Text.class);
+		List<Widget> before = WidgetLookup.getInstance().activeWidgets(shell, matcher);
+		Display.syncExec(() -> before.get(0).dispose());
+
+		List<Widget> after = WidgetLookup.getInstance().activeWidgets(shell, matcher);
+
+		assertTrue(WidgetIndex.getInstance().getInvalidationCount() > 0);
+		assertEquals(FIELDS - 1, after.size());
+	}
+
+	@Test
+	public void testCreatedWidgetIsFound() {
+		Matcher<Widget> matcher = new ClassMatcher(Text.class);
+		assertEquals(FIELDS, WidgetLookup.getInstance().activeWidgets(shell, matcher).size());
+
+		Display.syncExec(() -> {
+			new Text(shell, SWT.BORDER).setText("created");
+			shell.layout();
+		});
+		// new widget is noticed by skin or paint event in the next run of event loop
+		processEvents();
+
+		assertEquals(FIELDS + 1, WidgetLookup.getInstance().activeWidgets(shell, matcher).size());
+		assertTrue(WidgetIndex.getInstance().getInvalidationCount() > 0);
+	}
+
+	@Test
+	public void testChangesOutsideOfIndexedCompositeKeepIndex() {
+		Matcher<Widget> matcher = new ClassMatcher(Text.class);
+		otherShell = Display.syncExec(() -> {
+			Shell generatedShell = ShellTestUtils.createShell(SHELL_TITLE + " Other");
+			new Text(generatedShell, SWT.BORDER);
+			generatedShell.layout();
+			return generatedShell;
+		});
+		processEvents();
+		WidgetLookup.getInstance().activeWidgets(shell, matcher);
+		WidgetIndex.getInstance().resetCounters();
+
+		Display.syncExec(() -> {
+			Text text = (Text) otherShell.getChildren()[0];
+			for (int i = 0; i < FIELDS; i++) {
+				text.setText("typed" + i);
+			}
+			otherShell.setSize(otherShell.getSize().x + 10, otherShell.getSize().y + 10);
+			new Text(otherShell, SWT.BORDER);
+			otherShell.layout();
+		});
+		processEvents();
+
+		assertEquals(FIELDS, WidgetLookup.getInstance().activeWidgets(shell, matcher).size());
+		assertEquals(0, WidgetIndex.getInstance().getInvalidationCount());
+		assertEquals(1, WidgetIndex.getInstance().getHitCount());
+	}
+
+	private void processEvents() {
+		Display.syncExec(() -> {
+			while (shell.getDisplay().readAndDispatch()) {
+				// process pending events
+			}
+		});
+	}
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.test.lookup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.core.lookup.WidgetLookup;
+import org.eclipse.reddeer.core.matcher.ClassMatcher;
+import org.eclipse.reddeer.swt.test.utils.ShellTestUtils;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.RowLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Widget;
+import org.hamcrest.Matcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares per widget traversal of {@link WidgetLookup} with traversal performed
+ * within one UI thread visit on generated deep and wide shell.
+ */
+public class WidgetLookupTraversalTest {
+
+	private static final Logger log = Logger.getLogger(WidgetLookupTraversalTest.class);
+
+	private static final String SHELL_TITLE = "Widget Lookup Traversal";
+
+	private static final int DEPTH = 4;
+
+	private static final int WIDTH = 4;
+
+	private static final int ROUNDS = 3;
+
+	private Shell shell;
+
+	private boolean originalMode;
+
+	@Before
+	public void setUp() {
+		originalMode = WidgetLookup.getInstance().isSingleUIVisit();
+		shell = Display.syncExec(() -> {
+			Shell generatedShell = ShellTestUtils.createShell(SHELL_TITLE);
+			generate(generatedShell, DEPTH);
+			generatedShell.layout(true, true);
+			return generatedShell;
+		});
+	}
+
+	@After
+	public void tearDown() {
+		WidgetLookup.getInstance().setSingleUIVisit(originalMode);
+		Display.syncExec(() -> {
+			if (!shell.isDisposed()) {
+				shell.dispose();
+			}
+		});
+	}
+
+	@Test
+	public void testActiveWidgetsReturnSameWidgets() {
+		Matcher<Widget> matcher = new ClassMatcher(Text.class);
+		List<Widget> perWidget = activeWidgets(false, matcher);
+		List<Widget> singleVisit = activeWidgets(true, matcher);
+
+		assertEquals(expectedTextCount(), perWidget.size());
+		assertEquals(perWidget, singleVisit);
+	}
+
+	@Test
+	public void testActiveWidgetReturnsSameWidgetForIndex() {
+		Matcher<Widget> matcher = new ClassMatcher(Label.class);
+		for (int index : new int[] { 0, 1, expectedTextCount() / 2, expectedTextCount() - 1 }) {
+			Widget perWidget = activeWidget(false, matcher, index);
+			Widget singleVisit = activeWidget(true, matcher, index);
+			assertNotNull(perWidget);
+			assertEquals(perWidget, singleVisit);
+		}
+		assertNull(activeWidget(true, matcher, expectedTextCount()));
+	}
+
+	@Test
+	public void benchmarkTraversal() {
+		Matcher<Widget> matcher = new ClassMatcher(Text.class);
+		long perWidget = measure(false, matcher);
+		long singleVisit = measure(true, matcher);
+		log.info("Traversal of " + countWidgets() + " widgets took " + perWidget
+				+ " ms per widget visit and " + singleVisit + " ms in single UI thread visit (" + ROUNDS + " rounds)");
+	}
+
+	private long measure(boolean singleUIVisit, Matcher<Widget> matcher) {
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < ROUNDS; i++) {
+			activeWidgets(singleUIVisit, matcher);
+			activeWidget(singleUIVisit, matcher, expectedTextCount() - 1);
+		}
+		return System.currentTimeMillis() - start;
+	}
+
+	private List<Widget> activeWidgets(boolean singleUIVisit, Matcher<Widget> matcher) {
+		WidgetLookup.getInstance().setSingleUIVisit(singleUIVisit);
+		return WidgetLookup.getInstance().activeWidgets(shell, matcher);
+	}
+
+	private Widget activeWidget(boolean singleUIVisit, Matcher<Widget> matcher, int index) {
+		WidgetLookup.getInstance().setSingleUIVisit(singleUIVisit);
+		return WidgetLookup.getInstance().activeWidget(shell, matcher, index);
+	}
+
+	private int expectedTextCount() {
+		return (int) Math.pow(WIDTH, DEPTH);
+	}
+
+	private int countWidgets() {
+		int count = 1;
+		int level = 1;
+		for (int i = 0; i < DEPTH; i++) {
+			level *= WIDTH;
+			count += level;
+		}
+		// each leaf composite contains label and text
+		return count + 2 * expectedTextCount();
+	}
+
+	private static void generate(Composite parent, int depth) {
+		if (depth == 0) {
+			new Label(parent, SWT.NONE).setText("Label " + parent.hashCode());
+			new Text(parent, SWT.BORDER);
+			return;
+		}
+		for (int i = 0; i < WIDTH; i++) {
+			Composite composite = new Composite(parent, SWT.NONE);
+			composite.setLayout(new RowLayout(depth % 2 == 0 ? SWT.VERTICAL : SWT.HORIZONTAL));
+			generate(composite, depth - 1);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.test.util;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.reddeer.core.util.ItemsSnapshot;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ItemsSnapshotTest {
+
+	private Image image;
+
+	private ItemsSnapshot snapshot;
+
+	@Before
+	public void setUp() {
+		image = new Image(Display.getDefault(), 1, 1);
+		snapshot = new ItemsSnapshot.Builder(2)
+				.addRow(null, new String[] { "a", "a1" }, new Image[] { image, null }, false, new String[] { "a" })
+				.addRow(null, new String[] { "b", "b1" }, new Image[] { null, null }, true, new String[] { "b" })
+				.build();
+	}
+
+	@After
+	public void tearDown() {
+		image.dispose();
+	}
+
+	@Test
+	public void testCellsOfExistingColumns() {
+		assertEquals(2, snapshot.getColumnCount());
+		assertEquals("a1", snapshot.getText(0, 1));
+		assertEquals(Arrays.asList("a1", "b1"), snapshot.getColumn(1));
+		assertSame(image, snapshot.getImage(0, 0));
+		assertEquals(Arrays.asList(1), snapshot.getRows(0, equalTo("b")));
+		assertEquals(1, snapshot.indexOf(1, "b1"));
+	}
+
+	@Test
+	public void testCellsOfNonexistingColumnsAreEmpty() {
+		for (int column : new int[] { -1, 2 }) {
+			assertEquals("", snapshot.getText(0, column));
+			assertEquals(Arrays.asList("", ""), snapshot.getColumn(column));
+			assertNull(snapshot.getImage(0, column));
+			assertEquals(Arrays.asList(0, 1), snapshot.getRows(column, equalTo("")));
+			assertEquals(Collections.emptyList(), snapshot.getRows(column, equalTo("a")));
+			assertEquals(-1, snapshot.indexOf(column, "a"));
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.direct.test.workspace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.eclipse.reddeer.direct.project.Project;
+import org.eclipse.reddeer.direct.workspace.Workspace;
+import org.eclipse.reddeer.junit.runner.RedDeerSuite;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for resetting workspace without UI.
+ */
+@RunWith(RedDeerSuite.class)
+public class WorkspaceTest {
+
+	private static final String PROJECT_NAME = "test-template";
+
+	private Path templateDirectory;
+
+	@Before
+	public void createTemplate() throws IOException {
+		templateDirectory = Files.createTempDirectory("workspace-template");
+		Path projectDirectory = Files.createDirectories(templateDirectory.resolve(PROJECT_NAME));
+		Files.write(projectDirectory.resolve(".project"), ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<projectDescription>\n"
+				+ "	<name>" + PROJECT_NAME + "</name>\n"
+				+ "	<comment></comment>\n"
+				+ "	<projects></projects>\n"
+				+ "	<buildSpec></buildSpec>\n"
+				+ "	<natures></natures>\n"
+				+ "</projectDescription>\n").getBytes(StandardCharsets.UTF_8));
+		Files.createDirectories(projectDirectory.resolve("src"));
+		Files.write(projectDirectory.resolve("src/file.txt"), "content".getBytes(StandardCharsets.UTF_8));
+		// directories without .project file are not imported
+		Files.createDirectories(templateDirectory.resolve("not-a-project"));
+	}
+
+	@After
+	public void deleteTemplate() throws IOException {
+		Workspace.deleteAllProjects();
+		try (Stream<Path> paths = Files.walk(templateDirectory)) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Test
+	public void testResettingToTemplate() {
+		Project.create("test-existing");
+
+		Workspace.reset(templateDirectory.toString());
+
+		assertFalse(Project.isProject("test-existing"));
+		assertFalse(Project.isProject("not-a-project"));
+		assertTrue(Project.isProject(PROJECT_NAME));
+		assertTrue(Project.isOpen(PROJECT_NAME));
+		File projectLocation = new File(Workspace.getLocation(), PROJECT_NAME);
+		assertEquals(projectLocation.getAbsolutePath(), Project.getLocation(PROJECT_NAME));
+		assertTrue("Template content was not copied", new File(projectLocation, "src/file.txt").isFile());
+		assertTrue("Template was not kept", templateDirectory.resolve(PROJECT_NAME + "/src/file.txt").toFile().isFile());
+	}
+
+	@Test
+	public void testResettingWithoutTemplate() {
+		Project.create("test-existing");
+
+		Workspace.reset(null);
+
+		assertFalse(Project.isProject("test-existing"));
+	}
+}
@@ -38,6 +38,7 @@ import org.eclipse.reddeer.eclipse.jdt.ui.wizards.JavaProjectWizard;
 import org.eclipse.reddeer.eclipse.jdt.ui.wizards.NewClassCreationWizard;
 import org.eclipse.reddeer.eclipse.jdt.ui.wizards.NewClassWizardPage;
 import org.eclipse.reddeer.eclipse.jdt.ui.wizards.NewJavaProjectWizardPageOne;
+import org.eclipse.reddeer.eclipse.ui.console.ConsoleObserver;
 import org.eclipse.reddeer.eclipse.ui.console.ConsoleView;
 import org.eclipse.reddeer.eclipse.ui.perspectives.JavaPerspective;
 import org.eclipse.reddeer.eclipse.ui.problems.Problem;
@@ -198,6 +199,23 @@ public class ConsoleViewTest {
 		assertEquals("StartHelloApplication", consoleView.getConsoleText().replaceAll("\\s", ""));
 	}
 	
+	@Test
+	public void consoleObserverTest() {
+		ConsoleObserver.getInstance().setEnabled(true);
+		try {
+			runTestClass(TEST_CLASS_LOOP2_NAME);
+			new GroupWait(TimePeriod.LONG, waitUntil(new ConsoleHasText("Start")),
+					waitUntil(new ConsoleHasNoChange(TimePeriod.getCustom(11))));
+			consoleView.open();
+			consoleView.terminateConsole();
+			assertEquals("StartHelloApplication", consoleView.getConsoleText().replaceAll("\\s", ""));
+			consoleView.clearConsole();
+			assertEquals("", consoleView.getConsoleText());
+		} finally {
+			ConsoleObserver.getInstance().setEnabled(false);
+		}
+	}
+
 	@Test(expected = RedDeerException.class)
 	public void consoleHasTextTest() {
 		new WaitUntil(new ConsoleHasText(null));
@@ -12,9 +12,15 @@
 package org.eclipse.reddeer.eclipse.test.ui.navigator;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.eclipse.reddeer.common.wait.TimePeriod;
+import org.eclipse.reddeer.common.wait.WaitUntil;
+import org.eclipse.reddeer.common.wait.WaitWhile;
+import org.eclipse.reddeer.direct.project.Project;
+import org.eclipse.reddeer.eclipse.condition.ProjectExists;
 import org.eclipse.reddeer.eclipse.exception.EclipseLayerException;
 import org.eclipse.reddeer.eclipse.ui.navigator.resources.ProjectExplorer;
 import org.eclipse.reddeer.junit.runner.RedDeerSuite;
@@ -83,6 +89,33 @@ public class ProjectExplorerTest {
 		assertEquals(projectExplorer.getProjectItems().size(), 0);
 	}
 	
+	@Test
+	public void testProjectLookup() {
+		String[] projectNames = { "LookupProject1", "LookupProject2", "LookupProject3" };
+		for (String projectName : projectNames) {
+			Project.create(projectName);
+		}
+		try {
+			projectExplorer.open();
+			new WaitUntil(new ProjectExists(projectNames[2], projectExplorer));
+			assertTrue(projectExplorer.containsProject(projectNames[0]));
+			assertFalse(projectExplorer.containsProject("non-existing-project"));
+			assertEquals(projectNames[1], projectExplorer.getProject(projectNames[1]).getName());
+			projectExplorer.selectProjects(projectNames);
+
+			Project.delete(projectNames[0], true, true);
+			new WaitWhile(new ProjectExists(projectNames[0], projectExplorer));
+			assertFalse(projectExplorer.containsProject(projectNames[0]));
+			assertEquals(2, projectExplorer.getProjects().size());
+		} finally {
+			for (String projectName : projectNames) {
+				if (Project.isProject(projectName)) {
+					Project.delete(projectName, true, true);
+				}
+			}
+		}
+	}
+	
 	@Test
 	public void testDeleteAllEmpty() {
 		projectExplorer.open();
@@ -329,6 +329,39 @@ public class ProblemsViewTest {
 				+ "\", but:\n" + getProblems(), 2, errors.size());
 	}
 
+	@Test
+	public void testFilterErrorsFromMarkers() {
+		final String projectPath = "/" + PROJECT_NAME + "/" + "src";
+		final String resource = DEFAULT_ERROR_CLASS_NAME + ".java";
+
+		createError();
+		createWarning();
+
+		List<Problem> errors = problemsView.getProblemsFromMarkers(ProblemType.ERROR,
+				new MarkerDescriptionMatcher(Is.is(ERROR_DESCRIPTION)),
+				new MarkerResourceMatcher(resource),
+				new MarkerPathMatcher(StringStartsWith.startsWith(projectPath)),
+				new MarkerLocationMatcher(Is.is(ERROR_LOCATION)),
+				new MarkerTypeMatcher(Is.is(JAVA_PROBLEM)));
+
+		assertEquals(1, errors.size());
+		Problem error = errors.get(0);
+		assertEquals("Error description", ERROR_DESCRIPTION, error.getDescription());
+		assertEquals("Error resource", resource, error.getResource());
+		assertEquals("Error path", projectPath, error.getPath());
+		assertEquals("Error location", ERROR_LOCATION, error.getLocation());
+		assertEquals("Error type", JAVA_PROBLEM, error.getType());
+		assertEquals(1, problemsView.getProblemsFromMarkers(ProblemType.WARNING).size());
+	}
+
+	@Test
+	public void testProblemsConsistentWithMarkers() {
+		createError();
+		createWarning();
+		assertTrue("Problems view should show the same problems as workspace markers",
+				problemsView.isConsistentWithMarkers(ProblemType.ALL));
+	}
+
 	@Test
 	public void testFilterWarnings() {
 		final String warningDescription = "The value of the field "
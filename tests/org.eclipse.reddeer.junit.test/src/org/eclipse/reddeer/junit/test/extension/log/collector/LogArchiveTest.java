@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.test.extension.log.collector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.reddeer.junit.extension.log.collector.LogArchive;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests incremental collecting of workbench log by {@link LogArchive}.
+ */
+public class LogArchiveTest {
+
+	private File directory;
+
+	private File workbenchLog;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("log-archive").toFile();
+		workbenchLog = new File(directory, ".log");
+	}
+
+	@After
+	public void tearDown() {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	@Test
+	public void testIncrementalOffsets() throws IOException {
+		LogArchive archive = new LogArchive(new File(directory, "archive").getPath(), false);
+		append("first\n");
+		archive.collect(workbenchLog, "config", "FirstTest", "after\tfirst");
+		append("second\n");
+		archive.collect(workbenchLog, "config", "SecondTest", "after second");
+		// nothing new was logged
+		archive.collect(workbenchLog, "config", "ThirdTest", "after third");
+
+		assertEquals("first\nsecond\n", read(archive.getArchiveFile()));
+		assertEquals(Arrays.asList("0\t6\tconfig\tFirstTest\tafter first", "6\t7\tconfig\tSecondTest\tafter second"),
+				readIndex(archive));
+	}
+
+	@Test
+	public void testSkip() throws IOException {
+		LogArchive archive = new LogArchive(new File(directory, "archive").getPath(), false);
+		append("discarded\n");
+		archive.skip(workbenchLog);
+		append("collected\n");
+		archive.collect(workbenchLog, "config", "Test", "after");
+
+		assertEquals("collected\n", read(archive.getArchiveFile()));
+	}
+
+	@Test
+	public void testTruncation() throws IOException {
+		LogArchive archive = new LogArchive(new File(directory, "archive").getPath(), false);
+		append("before truncation\n");
+		archive.collect(workbenchLog, "config", "FirstTest", "after");
+		Files.write(workbenchLog.toPath(), "new\n".getBytes(StandardCharsets.UTF_8),
+				StandardOpenOption.TRUNCATE_EXISTING);
+		archive.collect(workbenchLog, "config", "SecondTest", "after");
+
+		assertEquals("before truncation\nnew\n", read(archive.getArchiveFile()));
+		assertEquals("18\t4\tconfig\tSecondTest\tafter", readIndex(archive).get(1));
+	}
+
+	@Test
+	public void testRotation() throws IOException {
+		LogArchive archive = new LogArchive(new File(directory, "archive").getPath(), false);
+		append("old\n");
+		archive.collect(workbenchLog, "config", "FirstTest", "after");
+		// rotated log is kept, so the new log is another file even if it is longer
+		Files.move(workbenchLog.toPath(), new File(directory, ".bak_0.log").toPath());
+		append("rotated log\n");
+		assumeNotNull(Files.readAttributes(workbenchLog.toPath(), BasicFileAttributes.class).fileKey());
+		archive.collect(workbenchLog, "config", "SecondTest", "after");
+
+		assertEquals("old\nrotated log\n", read(archive.getArchiveFile()));
+	}
+
+	@Test
+	public void testCompressedSegments() throws IOException {
+		LogArchive archive = new LogArchive(new File(directory, "archive").getPath(), true);
+		append("first\n");
+		archive.collect(workbenchLog, "config", "FirstTest", "after");
+		append("second\n");
+		archive.collect(workbenchLog, "config", "SecondTest", "after");
+
+		byte[] archived = Files.readAllBytes(archive.getArchiveFile().toPath());
+		List<String> index = readIndex(archive);
+		assertEquals(2, index.size());
+		assertEquals("first\n", readSegment(archived, index.get(0)));
+		assertEquals("second\n", readSegment(archived, index.get(1)));
+		// appended GZIP members form one valid GZIP file
+		assertEquals("first\nsecond\n", unzip(new ByteArrayInputStream(archived)));
+	}
+
+	private void append(String text) throws IOException {
+		Files.write(workbenchLog.toPath(), text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND);
+	}
+
+	private static String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+
+	private static List<String> readIndex(LogArchive archive) throws IOException {
+		return Files.readAllLines(archive.getIndexFile().toPath(), StandardCharsets.UTF_8);
+	}
+
+	private static String readSegment(byte[] archived, String indexLine) throws IOException {
+		String[] columns = indexLine.split("\t");
+		int offset = Integer.parseInt(columns[0]);
+		int length = Integer.parseInt(columns[1]);
+		return unzip(new ByteArrayInputStream(archived, offset, length));
+	}
+
+	private static String unzip(InputStream compressed) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPInputStream in = new GZIPInputStream(compressed)) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ((read = in.read(buffer)) > 0) {
+				out.write(buffer, 0, read);
+			}
+		}
+		return new String(out.toByteArray(), StandardCharsets.UTF_8);
+	}
+}
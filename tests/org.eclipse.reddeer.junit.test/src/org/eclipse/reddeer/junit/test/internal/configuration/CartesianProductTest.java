@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.test.internal.configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.reddeer.junit.internal.configuration.CartesianProduct;
+import org.junit.Test;
+
+public class CartesianProductTest {
+
+	@Test
+	public void testCombinations() {
+		List<List<String>> combinations = new ArrayList<>();
+		for (List<String> combination : new CartesianProduct<>(
+				Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("1", "2", "3")))) {
+			combinations.add(combination);
+		}
+
+		assertEquals(Arrays.asList(Arrays.asList("a", "1"), Arrays.asList("a", "2"), Arrays.asList("a", "3"),
+				Arrays.asList("b", "1"), Arrays.asList("b", "2"), Arrays.asList("b", "3")), combinations);
+	}
+
+	@Test
+	public void testProductOfNoLists() {
+		Iterator<List<String>> iterator = new CartesianProduct<String>(Collections.emptyList()).iterator();
+
+		assertEquals(Collections.emptyList(), iterator.next());
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void testProductWithEmptyList() {
+		CartesianProduct<String> product = new CartesianProduct<>(
+				Arrays.asList(Arrays.asList("a", "b"), Collections.<String>emptyList()));
+
+		assertEquals(0, product.size());
+		assertFalse(product.iterator().hasNext());
+	}
+}
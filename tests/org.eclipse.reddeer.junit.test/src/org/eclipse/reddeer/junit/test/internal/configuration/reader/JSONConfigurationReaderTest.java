@@ -14,13 +14,17 @@ package org.eclipse.reddeer.junit.test.internal.configuration.reader;
 import static org.junit.Assert.*;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.List;
 
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.junit.Activator;
 import org.eclipse.reddeer.junit.configuration.RedDeerConfigurationException;
 import org.eclipse.reddeer.junit.internal.configuration.reader.JSONConfigurationReader;
 import org.eclipse.reddeer.junit.requirement.RequirementException;
 import org.eclipse.reddeer.junit.requirement.configuration.RequirementConfiguration;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -40,6 +44,11 @@ public class JSONConfigurationReaderTest {
 		reader = new JSONConfigurationReader();
 	}
 	
+	@After
+	public void cleanup() {
+		System.clearProperty(RedDeerProperties.CONFIG_CACHE_DIRECTORY.getName());
+	}
+	
 	@Test(expected=RedDeerConfigurationException.class)
 	public void testLoadConfigsFromNonexistingFile() {
 		reader.loadConfigurations(new File(NONEXISTING_FILE));
@@ -68,4 +77,26 @@ public class JSONConfigurationReaderTest {
 		List<RequirementConfiguration> configs = reader.loadConfigurations(new File(CONFIG_FILE));
 		assertTrue("There should be 8 configs in configuration file", configs.size() == 8);
 	}
+	
+	@Test
+	public void testLoadConfigFromCachedYamlFile() throws IOException {
+		File cacheDirectory = Files.createTempDirectory("reddeer-config-cache").toFile();
+		System.setProperty(RedDeerProperties.CONFIG_CACHE_DIRECTORY.getName(), cacheDirectory.getAbsolutePath());
+		
+		List<RequirementConfiguration> configs = reader.loadConfigurations(new File(CONFIG_FILE_YAML));
+		List<RequirementConfiguration> cachedConfigs = new JSONConfigurationReader()
+				.loadConfigurations(new File(CONFIG_FILE_YAML));
+		
+		assertEquals(8, configs.size());
+		assertEquals(configs.size(), cachedConfigs.size());
+		for (int i = 0; i < configs.size(); i++) {
+			assertEquals(configs.get(i).getId(), cachedConfigs.get(i).getId());
+			assertNotSame(configs.get(i), cachedConfigs.get(i));
+		}
+		
+		File[] cacheFiles = cacheDirectory.listFiles();
+		assertEquals(1, cacheFiles.length);
+		cacheFiles[0].delete();
+		cacheDirectory.delete();
+	}
 }
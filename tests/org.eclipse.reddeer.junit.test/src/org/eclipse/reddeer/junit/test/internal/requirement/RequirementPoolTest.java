@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.test.internal.requirement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.eclipse.reddeer.junit.internal.requirement.RequirementPool;
+import org.eclipse.reddeer.junit.internal.requirement.Requirements;
+import org.eclipse.reddeer.junit.requirement.Requirement;
+import org.eclipse.reddeer.junit.requirement.RequirementScope;
+import org.junit.After;
+import org.junit.Test;
+
+public class RequirementPoolTest {
+
+	private static final String CONFIG_ID = "config";
+
+	@After
+	public void cleanUpPool() {
+		RequirementPool.getInstance().cleanUp();
+	}
+
+	@Test
+	public void reuseFulfilledRequirement() {
+		PooledRequirement requirement1 = new PooledRequirement(RequirementScope.SUITE);
+		PooledRequirement requirement2 = new PooledRequirement(RequirementScope.SUITE);
+		Requirements requirements1 = createRequirements(requirement1);
+		Requirements requirements2 = createRequirements(requirement2);
+
+		runClass(requirements1);
+		assertEquals(1, requirement1.fulfilled);
+		assertEquals(0, requirement1.cleanedUp);
+
+		runClass(requirements2);
+		assertSame(requirement1, requirements2.iterator().next());
+		assertEquals(1, requirement1.fulfilled);
+		assertEquals(1, requirement1.checked);
+		assertEquals(1, requirement1.cleanedUp);
+		assertEquals(0, requirement2.fulfilled);
+		assertEquals(0, RequirementPool.getInstance().size());
+	}
+
+	@Test
+	public void fulfillUnhealthyRequirementAgain() {
+		PooledRequirement requirement1 = new PooledRequirement(RequirementScope.CONFIGURATION_SET);
+		PooledRequirement requirement2 = new PooledRequirement(RequirementScope.CONFIGURATION_SET);
+		Requirements requirements1 = createRequirements(requirement1);
+		Requirements requirements2 = createRequirements(requirement2);
+
+		runClass(requirements1);
+		requirement1.healthy = false;
+		runClass(requirements2);
+
+		assertSame(requirement2, requirements2.iterator().next());
+		assertEquals(1, requirement1.cleanedUp);
+		assertEquals(1, requirement2.fulfilled);
+		assertEquals(1, requirement2.cleanedUp);
+	}
+
+	@Test
+	public void cleanUpRequirementsWhenScopeEnds() {
+		PooledRequirement requirement1 = new PooledRequirement(RequirementScope.CONFIGURATION_SET);
+		PooledRequirement requirement2 = new PooledRequirement(RequirementScope.CONFIGURATION_SET);
+		Requirements requirements1 = createRequirements(requirement1);
+		createRequirements(requirement2);
+
+		runClass(requirements1);
+		assertEquals(1, RequirementPool.getInstance().size());
+
+		RequirementPool.getInstance().cleanUp(RequirementScope.SUITE);
+		assertEquals(0, requirement1.cleanedUp);
+
+		RequirementPool.getInstance().cleanUp(RequirementScope.CONFIGURATION_SET);
+		assertEquals(1, requirement1.cleanedUp);
+		assertEquals(0, RequirementPool.getInstance().size());
+	}
+
+	@Test
+	public void classScopedRequirementIsNotPooled() {
+		PooledRequirement requirement = new PooledRequirement(RequirementScope.CLASS);
+		runClass(createRequirements(requirement));
+
+		assertEquals(1, requirement.fulfilled);
+		assertEquals(1, requirement.cleanedUp);
+		assertEquals(0, RequirementPool.getInstance().size());
+	}
+
+	private Requirements createRequirements(Requirement<?> requirement) {
+		Requirements requirements = new Requirements(new ArrayList<Requirement<?>>(Arrays.asList(requirement)),
+				String.class, CONFIG_ID);
+		requirements.reservePooled();
+		return requirements;
+	}
+
+	private void runClass(Requirements requirements) {
+		requirements.reusePooled();
+		requirements.fulfill();
+		requirements.cleanUp();
+	}
+
+	private static class PooledRequirement implements Requirement<Annotation> {
+
+		private final RequirementScope scope;
+
+		private boolean healthy = true;
+
+		private int fulfilled;
+
+		private int checked;
+
+		private int cleanedUp;
+
+		private PooledRequirement(RequirementScope scope) {
+			this.scope = scope;
+		}
+
+		@Override
+		public void fulfill() {
+			fulfilled++;
+		}
+
+		@Override
+		public void setDeclaration(Annotation declaration) {
+		}
+
+		@Override
+		public Annotation getDeclaration() {
+			return null;
+		}
+
+		@Override
+		public void cleanUp() {
+			cleanedUp++;
+		}
+
+		@Override
+		public RequirementScope getScope() {
+			return scope;
+		}
+
+		@Override
+		public boolean isHealthy() {
+			checked++;
+			return healthy;
+		}
+	}
+}
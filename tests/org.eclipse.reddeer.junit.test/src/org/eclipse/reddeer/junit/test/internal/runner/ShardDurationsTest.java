@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.test.internal.runner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.reddeer.junit.internal.runner.ShardDurations;
+import org.eclipse.reddeer.junit.internal.runner.ShardPartitioner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ShardDurationsTest {
+
+	private static final List<String> UNITS = Arrays.asList("a", "b", "c", "d", "e", "f");
+
+	private Path directory;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("durations");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Test
+	public void testDurationsAreStoredAndLoaded() {
+		File file = directory.resolve("shard-1.properties").toFile();
+		ShardDurations durations = new ShardDurations(file);
+		durations.record("a", 10);
+		durations.record("b", 20);
+		durations.store();
+
+		Map<String, Long> loaded = ShardDurations.load(file);
+
+		assertEquals(Long.valueOf(10), loaded.get("a"));
+		assertEquals(Long.valueOf(20), loaded.get("b"));
+		// no temporary file is left
+		assertEquals(1, directory.toFile().list().length);
+	}
+
+	@Test
+	public void testMissingDurationsAreEmpty() {
+		assertTrue(ShardDurations.load(directory.resolve("missing.properties").toFile()).isEmpty());
+	}
+
+	@Test
+	public void testShardsStartedAtDifferentTimesComputeSamePartitions() {
+		File input = directory.resolve("durations.properties").toFile();
+		ShardDurations previousRun = new ShardDurations(input);
+		previousRun.record("a", 100);
+		previousRun.record("b", 10);
+		previousRun.store();
+
+		Set<String> firstShard = new ShardPartitioner(0, 2, ShardDurations.load(input)).getShardUnits(UNITS);
+		// first shard records its durations before the second shard starts
+		ShardDurations firstOutput = new ShardDurations(directory.resolve("shard-1.properties").toFile());
+		for (String unit : firstShard) {
+			firstOutput.record(unit, 1000);
+		}
+		firstOutput.store();
+		Set<String> secondShard = new ShardPartitioner(1, 2, ShardDurations.load(input)).getShardUnits(UNITS);
+
+		Set<String> units = new HashSet<String>(firstShard);
+		units.addAll(secondShard);
+		assertEquals(UNITS.size(), firstShard.size() + secondShard.size());
+		assertEquals(new HashSet<String>(UNITS), units);
+	}
+
+	@Test
+	public void testShardDurationsAreMerged() {
+		File input = directory.resolve("durations.properties").toFile();
+		ShardDurations previousRun = new ShardDurations(input);
+		previousRun.record("a", 100);
+		previousRun.record("b", 10);
+		previousRun.store();
+		ShardDurations shard = new ShardDurations(directory.resolve("shard-1.properties").toFile());
+		shard.record("b", 20);
+		shard.record("c", 30);
+		shard.store();
+
+		ShardDurations.merge(input, Arrays.asList(directory.resolve("shard-1.properties").toFile(),
+				directory.resolve("shard-2.properties").toFile()));
+
+		Map<String, Long> merged = ShardDurations.load(input);
+		assertEquals(3, merged.size());
+		assertEquals(Long.valueOf(100), merged.get("a"));
+		assertEquals(Long.valueOf(20), merged.get("b"));
+		assertEquals(Long.valueOf(30), merged.get("c"));
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.test.internal.runner;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.junit.internal.runner.ShardPartitioner;
+import org.junit.Test;
+
+public class ShardPartitionerTest {
+
+	private static final List<String> UNITS = Arrays.asList("a", "b", "c", "d", "e");
+
+	@Test
+	public void testEachUnitIsInOneShard() {
+		List<Set<String>> shards = new ShardPartitioner(0, 3, null).partition(UNITS);
+
+		Set<String> units = new HashSet<String>();
+		int unitCount = 0;
+		for (Set<String> shard : shards) {
+			units.addAll(shard);
+			unitCount += shard.size();
+		}
+		assertEquals(3, shards.size());
+		assertEquals(UNITS.size(), unitCount);
+		assertEquals(new HashSet<String>(UNITS), units);
+	}
+
+	@Test
+	public void testShardsAreBalancedByDurations() {
+		Map<String, Long> durations = new HashMap<String, Long>();
+		durations.put("a", 100L);
+		durations.put("b", 60L);
+		durations.put("c", 50L);
+		durations.put("d", 40L);
+
+		List<Set<String>> shards = new ShardPartitioner(0, 2, durations).partition(UNITS);
+
+		// "e" has no recorded duration and lasts as an average unit
+		assertEquals(new HashSet<String>(Arrays.asList("a", "c")), shards.get(0));
+		assertEquals(new HashSet<String>(Arrays.asList("b", "d", "e")), shards.get(1));
+	}
+
+	@Test
+	public void testShardUnitsDoNotDependOnOrder() {
+		ShardPartitioner partitioner = new ShardPartitioner(1, 2, null);
+
+		assertEquals(partitioner.getShardUnits(UNITS),
+				partitioner.getShardUnits(Arrays.asList("e", "d", "c", "b", "a")));
+	}
+
+	@Test(expected = RedDeerException.class)
+	public void testNonexistingShard() {
+		new ShardPartitioner(2, 2, null);
+	}
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.test.internal.runner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.eclipse.reddeer.junit.internal.runner.ShardReports;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ShardReportsTest {
+
+	private Path directory;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("reports");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Test
+	public void testReportsOfShardsAreAggregated() throws IOException {
+		writeReport("shard-1/reports/TEST-a.Test.xml", "<testsuite name=\"a.Test\" tests=\"3\" failures=\"1\" errors=\"0\" skipped=\"1\"/>");
+		writeReport("shard-1/output.xml", "<testsuite tests=\"100\"/>");
+		writeReport("shard-2/TEST-a.Test.xml", "<testsuite name=\"a.Test\" tests=\"2\" failures=\"0\" errors=\"1\"/>");
+		writeReport("shard-2/TEST-b.Test.xml", "<testsuites><testsuite tests=\"4\"/><testsuite tests=\"5\" skipped=\"2\"/></testsuites>");
+		File reportsDirectory = directory.resolve("reports").toFile();
+
+		ShardReports reports = new ShardReports(reportsDirectory);
+		reports.collect(directory.resolve("shard-1").toFile(), 0);
+		reports.collect(directory.resolve("shard-2").toFile(), 1);
+		reports.collect(directory.resolve("shard-3").toFile(), 2);
+
+		assertEquals(3, reports.getReportCount());
+		assertEquals(14, reports.getTestCount());
+		assertEquals(1, reports.getFailureCount());
+		assertEquals(1, reports.getErrorCount());
+		assertEquals(3, reports.getSkippedCount());
+		assertTrue(new File(reportsDirectory, "TEST-a.Test.xml").isFile());
+		// report of the same test class from other shard is kept
+		assertTrue(new File(reportsDirectory, "TEST-a.Test-shard2.xml").isFile());
+		assertTrue(new File(reportsDirectory, "TEST-b.Test.xml").isFile());
+	}
+
+	private void writeReport(String path, String content) throws IOException {
+		Path report = directory.resolve(path);
+		Files.createDirectories(report.getParent());
+		Files.write(report, ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" + content).getBytes(StandardCharsets.UTF_8));
+	}
+}
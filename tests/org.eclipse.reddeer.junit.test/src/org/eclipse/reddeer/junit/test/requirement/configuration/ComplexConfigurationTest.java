@@ -15,17 +15,22 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
 import java.io.File;
+import java.util.List;
 
+import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.junit.internal.configuration.SuiteConfiguration;
 import org.eclipse.reddeer.junit.requirement.configuration.RequirementConfigurationPool;
 import org.eclipse.reddeer.junit.test.requirement.configuration.resources.JavaRequirement.CustomConfigJavaRequirementAAnnotation;
 import org.junit.Before;
 import org.junit.Test;
+import org.junit.runners.Suite.SuiteClasses;
 import org.junit.runners.model.InitializationError;
 
 public class ComplexConfigurationTest {
 
+	private static final Logger log = Logger.getLogger(ComplexConfigurationTest.class);
+
 	private static final String JAVA_CONFIG_FILE = "resources" + File.separator + "java-config.json";
 	
 	private SuiteConfiguration config;
@@ -47,6 +52,26 @@ public class ComplexConfigurationTest {
 		System.setProperty(RedDeerProperties.CONFIG_FILE.getName(), JAVA_CONFIG_FILE);
 		config = new SuiteConfiguration(RequirementJavaClass.class);
 		assertThat(config.getConfigurationSetsSuites().keySet().size(), is(3));
+		assertThat(config.getCombinationsCount(), is(3L));
+		System.clearProperty(RedDeerProperties.CONFIG_FILE.getName());
+	}
+	
+	@Test
+	public void suiteConfigurationBenchmark() throws InitializationError {
+		System.setProperty(RedDeerProperties.CONFIG_FILE.getName(), JAVA_CONFIG_FILE);
+		int runs = 100;
+		long start = System.nanoTime();
+		for (int i = 0; i < runs; i++) {
+			config = new SuiteConfiguration(RequirementJavaSuite.class);
+		}
+		long elapsed = System.nanoTime() - start;
+		assertThat(config.getConfigurationSetsSuites().keySet().size(), is(3));
+		assertThat(config.getCombinationsCount(), is(12L));
+		for (List<Class<?>> classes : config.getConfigurationSetsSuites().values()) {
+			assertThat(classes.size(), is(4));
+		}
+		log.info("Suite configuration of 4 classes with 3 configurations built in " + elapsed / runs / 1000
+				+ " us on average");
 		System.clearProperty(RedDeerProperties.CONFIG_FILE.getName());
 	}
 	
@@ -54,4 +79,17 @@ public class ComplexConfigurationTest {
 	
 	@CustomConfigJavaRequirementAAnnotation
 	private static class RequirementJavaClass {}
+	
+	@CustomConfigJavaRequirementAAnnotation
+	private static class RequirementJavaClassB {}
+	
+	@CustomConfigJavaRequirementAAnnotation
+	private static class RequirementJavaClassC {}
+	
+	@CustomConfigJavaRequirementAAnnotation
+	private static class RequirementJavaClassD {}
+	
+	@SuiteClasses({ RequirementJavaClass.class, RequirementJavaClassB.class, RequirementJavaClassC.class,
+			RequirementJavaClassD.class })
+	private static class RequirementJavaSuite {}
 }
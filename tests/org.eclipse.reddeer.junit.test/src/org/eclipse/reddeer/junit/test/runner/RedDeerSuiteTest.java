@@ -62,6 +62,7 @@ public class RedDeerSuiteTest {
 	@After
 	public void tearDown() {
 		System.clearProperty(RedDeerProperties.CONFIG_FILE.getName());
+		System.clearProperty(RedDeerProperties.SHARD.getName());
 	}
 	
 	
@@ -212,6 +213,21 @@ public class RedDeerSuiteTest {
 		assertEquals(4, getTestCount(RequirementSuite.class));
 	}
 	
+	@Test
+	public void testShardsContainAllTests() throws Throwable {
+		System.setProperty(RedDeerProperties.CONFIG_FILE.getName(), REDDEER_SUITE_CONFIG);
+		int testCount = getTestCount(RequirementSuite.class);
+
+		int shardedTestCount = 0;
+		for (int shard = 1; shard <= 3; shard++) {
+			RequirementConfigurationPool.destroyPool();
+			System.setProperty(RedDeerProperties.SHARD.getName(), shard + "/3");
+			shardedTestCount += getTestCount(RequirementSuite.class);
+		}
+
+		assertEquals(testCount, shardedTestCount);
+	}
+	
 	private int getTestCount(@SuppressWarnings("rawtypes") Class suiteClass) throws Throwable {
 		SuiteConfiguration config = new SuiteConfiguration(suiteClass);
 		
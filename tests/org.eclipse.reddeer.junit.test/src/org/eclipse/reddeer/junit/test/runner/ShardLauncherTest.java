@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.test.runner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.reddeer.junit.runner.ShardLauncher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ShardLauncherTest {
+
+	private static final String JAVA = new File(System.getProperty("java.home"), "bin/java").getPath();
+
+	private Path directory;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("shards");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Test
+	public void testPlaceholdersAreReplaced() {
+		File durations = directory.resolve("durations.properties").toFile();
+		ShardLauncher launcher = new ShardLauncher(4, directory.toFile(), durations,
+				Arrays.asList("run", "{shard}", "{shardDirectory}/reports", "{shardProperties}"));
+
+		List<String> command = launcher.getCommand(1);
+
+		String shardDirectory = directory.resolve("shard-2").toString();
+		assertEquals(shardDirectory, launcher.getShardDirectory(1).getPath());
+		assertEquals(Arrays.asList("run", "2/4", shardDirectory + "/reports",
+				"-Drd.shard=2/4",
+				"-Drd.shardDurations=" + durations.getPath(),
+				"-Drd.shardDurationsOutput=" + new File(shardDirectory, "durations.properties").getPath(),
+				"-Drd.relativeScreenshotDirectory=" + new File(shardDirectory, "screenshots").getPath(),
+				"-Dosgi.instance.area=" + new File(shardDirectory, "workspace").getPath()), command);
+	}
+
+	@Test
+	public void testShardsAreLaunched() throws IOException, InterruptedException {
+		ShardLauncher launcher = new ShardLauncher(2, directory.toFile(), null, Arrays.asList(JAVA, "-version"));
+
+		assertEquals(0, launcher.launch());
+
+		for (int i = 0; i < 2; i++) {
+			String output = new String(Files.readAllBytes(new File(launcher.getShardDirectory(i), "output.log").toPath()));
+			assertTrue(output, output.contains("version"));
+		}
+		assertEquals(0, launcher.getReports().getTestCount());
+	}
+
+	@Test
+	public void testFailedShardFailsLaunch() throws IOException, InterruptedException {
+		ShardLauncher launcher = new ShardLauncher(2, directory.toFile(), null,
+				Arrays.asList(JAVA, "-Dshard={shard}", "NonexistingMainClass"));
+
+		assertEquals(1, launcher.launch());
+	}
+}
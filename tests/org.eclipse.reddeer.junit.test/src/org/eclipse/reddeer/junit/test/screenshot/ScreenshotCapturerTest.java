@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.test.screenshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
+import org.eclipse.reddeer.junit.screenshot.CaptureScreenshotException;
+import org.eclipse.reddeer.junit.screenshot.ScreenshotCapturer;
+import org.junit.After;
+import org.junit.Test;
+
+public class ScreenshotCapturerTest {
+
+	private File screenshot;
+
+	private List<File> files = new ArrayList<>();
+
+	@After
+	public void tearDown() {
+		ScreenshotCapturer.getInstance().flush();
+		System.clearProperty(RedDeerProperties.SCREENSHOT_ASYNC.getName());
+		System.clearProperty(RedDeerProperties.SCREENSHOT_FORMAT.getName());
+		System.clearProperty(RedDeerProperties.SCREENSHOT_CHANGED_REGION.getName());
+		if (screenshot != null) {
+			screenshot.delete();
+		}
+		for (File file : files) {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void captureScreenshotAsynchronously() throws CaptureScreenshotException {
+		System.setProperty(RedDeerProperties.SCREENSHOT_ASYNC.getName(), "true");
+
+		screenshot = new File(ScreenshotCapturer.getInstance().captureScreenshot("asyncScreenshotTest"));
+		ScreenshotCapturer.getInstance().flush();
+
+		assertTrue(screenshot.getName().endsWith(".png"));
+		assertTrue("Screenshot was not saved", screenshot.length() > 0);
+	}
+
+	@Test
+	public void captureScreenshotInBMPFormat() throws CaptureScreenshotException {
+		System.setProperty(RedDeerProperties.SCREENSHOT_FORMAT.getName(), "bmp");
+
+		screenshot = new File(ScreenshotCapturer.getInstance().captureScreenshot("bmpScreenshotTest"));
+
+		assertTrue(screenshot.getName().endsWith(".bmp"));
+		assertTrue("Screenshot was not saved", screenshot.length() > 0);
+	}
+
+	@Test
+	public void captureMoreScreenshotsThanCanBePendingAsynchronously() throws CaptureScreenshotException {
+		System.setProperty(RedDeerProperties.SCREENSHOT_ASYNC.getName(), "true");
+
+		for (int i = 0; i < 10; i++) {
+			files.add(new File(ScreenshotCapturer.getInstance().captureScreenshot("asyncQueueTest" + i)));
+		}
+		ScreenshotCapturer.getInstance().flush();
+
+		for (File file : files) {
+			assertTrue("Screenshot " + file + " was not saved", file.length() > 0);
+		}
+	}
+
+	@Test
+	public void captureChangedRegionOfScreenshots() throws CaptureScreenshotException, IOException {
+		System.setProperty(RedDeerProperties.SCREENSHOT_CHANGED_REGION.getName(), "true");
+
+		File first = captureWithRegion("ScreenshotCapturerTest.changedRegion");
+		Properties firstRegion = loadRegion(first);
+		assertTrue("First screenshot of test was not saved", first.length() > 0);
+		assertEquals("0", firstRegion.getProperty("x"));
+		assertEquals("0", firstRegion.getProperty("y"));
+		assertFalse(firstRegion.containsKey("base"));
+
+		File second = captureWithRegion("ScreenshotCapturerTest.changedRegion@detail");
+		Properties secondRegion = loadRegion(second);
+		assertEquals(first.getName(), secondRegion.getProperty("base"));
+		assertTrue(Integer.parseInt(secondRegion.getProperty("width")) <= Integer.parseInt(firstRegion.getProperty("width")));
+		if ("0".equals(secondRegion.getProperty("width"))) {
+			assertFalse("Unchanged screenshot was saved", second.exists());
+		} else {
+			assertTrue("Changed region was not saved", second.length() > 0);
+		}
+
+		File other = captureWithRegion("ScreenshotCapturerTest.otherTest");
+		Properties otherRegion = loadRegion(other);
+		assertTrue("First screenshot of other test was not saved", other.length() > 0);
+		assertEquals(firstRegion.getProperty("width"), otherRegion.getProperty("width"));
+		assertFalse(otherRegion.containsKey("base"));
+	}
+
+	private File captureWithRegion(String name) throws CaptureScreenshotException {
+		File file = new File(ScreenshotCapturer.getInstance().captureScreenshot(name));
+		files.add(file);
+		files.add(new File(file.getPath() + ".region"));
+		return file;
+	}
+
+	private Properties loadRegion(File screenshot) throws IOException {
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(screenshot.getPath() + ".region")) {
+			properties.load(in);
+		}
+		return properties;
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.test.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.regex.Pattern;
+
+import org.eclipse.reddeer.logparser.model.CompiledRegex;
+import org.eclipse.reddeer.logparser.model.CompiledRegex.Kind;
+import org.junit.Test;
+
+/**
+ * Tests that {@link CompiledRegex} matches lines the same way as {@link String#matches(String)}
+ * which was used to evaluate parse rules before.
+ */
+public class CompiledRegexTest {
+
+	private static final String[] REGEXES = {
+			"", "error", ".*error.*", ".*error", "error.*", ".*", ".*.*", "a.c", ".*a.c.*", ".*a\\.c.*",
+			".*\\[WARN\\].*", "\\[WARN\\].*", ".*(?i)error.*", "(?i)ERROR.*", ".*err|warn.*", ".*\\Qa.b\\E.*",
+			"x\\.*", ".*\\\\.*", ".*\\\\", "[abc]+", "^start.*", ".*end$", ".*a{2}.*", ".*\\d+.*", ".*\\-.*",
+			".*\\ .*", ".*\\..*", ".*\\*.*", "\\.\\.\\." };
+
+	private static final String[] LINES = {
+			"", "error", "ERROR: failed", "an error occurred", "Error", "a.c", "abc", "aXc", "[WARN] x", "WARN",
+			"warn", "x...", "x", "x.", "path\\to", "path\\", "start end", "aa", "123", "a-b", "a b", "a.b",
+			"*", "...", "end" };
+
+	private static final Object[][] KINDS = {
+			{ "error", Kind.EQUALS, "error" },
+			{ ".*error.*", Kind.CONTAINS, "error" },
+			{ "error.*", Kind.PREFIX, "error" },
+			{ ".*error", Kind.SUFFIX, "error" },
+			{ ".*\\[WARN\\].*", Kind.CONTAINS, "[WARN]" },
+			{ ".*\\ .*", Kind.CONTAINS, " " },
+			{ ".*", Kind.SUFFIX, "" },
+			{ "(?i)error", Kind.REGEX, null },
+			{ ".*a.c.*", Kind.REGEX, null },
+			{ ".*\\d.*", Kind.REGEX, null },
+			{ ".*\\Qa.b\\E.*", Kind.REGEX, null },
+			{ "x\\.*", Kind.REGEX, null },
+			{ ".*err|warn.*", Kind.REGEX, null } };
+
+	@Test
+	public void testMatchesLikeStringMatches() {
+		for (String regex : REGEXES) {
+			CompiledRegex compiledRegex = CompiledRegex.compile(regex);
+			Pattern pattern = Pattern.compile(regex);
+			for (String line : LINES) {
+				assertEquals("Regex '" + regex + "' on line '" + line + "'", pattern.matcher(line).matches(),
+						compiledRegex.matches(line));
+			}
+		}
+	}
+
+	@Test
+	public void testContainedLiteralMatchesLikeFind() {
+		for (String regex : REGEXES) {
+			CompiledRegex compiledRegex = CompiledRegex.compile(regex);
+			if (compiledRegex.getKind() != Kind.CONTAINS) {
+				continue;
+			}
+			Pattern pattern = Pattern.compile(Pattern.quote(compiledRegex.getLiteral()));
+			for (String line : LINES) {
+				assertEquals("Regex '" + regex + "' on line '" + line + "'", pattern.matcher(line).find(),
+						compiledRegex.matches(line));
+			}
+		}
+	}
+
+	@Test
+	public void testLiteralDetection() {
+		for (Object[] kind : KINDS) {
+			CompiledRegex compiledRegex = CompiledRegex.compile((String) kind[0]);
+			assertEquals("Kind of regex '" + kind[0] + "'", kind[1], compiledRegex.getKind());
+			assertEquals("Literal of regex '" + kind[0] + "'", kind[2], compiledRegex.getLiteral());
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.test.model;
+
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.reddeer.logparser.model.ParseRule;
+import org.eclipse.reddeer.logparser.model.ParseRuleMatcher;
+import org.junit.Test;
+
+/**
+ * Tests that {@link ParseRuleMatcher} applies the same parse rule to a line as rules evaluated
+ * one by one with {@link String#matches(String)}.
+ */
+public class ParseRuleMatcherTest {
+
+	private static final ParseRule DEFAULT_RULE = rule("default", null, null);
+
+	private static final String[] LINES = {
+			"", "he", "she", "his", "hers", "ushers", "hershey", "this is", "h", "sh", "HE said", "she said WARN",
+			"warning", "[WARN] he", "ERROR: his", "a.b" };
+
+	@Test
+	public void testOverlappingLiterals() {
+		assertMatchesLikeReference(Arrays.asList(rule("he", ".*he.*", null), rule("she", ".*she.*", null),
+				rule("hers", ".*hers.*", null), rule("his", ".*his.*", null)));
+		assertMatchesLikeReference(Arrays.asList(rule("hers", ".*hers.*", null), rule("his", ".*his.*", null),
+				rule("she", ".*she.*", null), rule("he", ".*he.*", null)));
+	}
+
+	@Test
+	public void testLiteralsMixedWithRegexes() {
+		assertMatchesLikeReference(Arrays.asList(rule("warn", ".*(?i)warn.*", ".*said.*"),
+				rule("she", ".*she.*", ".*WARN.*"), rule("dot", ".*a.b.*", null), rule("he", ".*he.*", null),
+				rule("error", "ERROR.*", null), rule("bracket", ".*\\[WARN\\].*", null), rule("all", null, null)));
+	}
+
+	@Test
+	public void testDuplicateLiterals() {
+		assertMatchesLikeReference(Arrays.asList(rule("first", ".*he.*", ".*she.*"), rule("second", ".*he.*", null),
+				rule("third", ".*s.*", null)));
+	}
+
+	@Test
+	public void testNoRules() {
+		assertMatchesLikeReference(new ArrayList<ParseRule>());
+	}
+
+	@Test
+	public void testRandomLiterals() {
+		Random random = new Random(42);
+		for (int iteration = 0; iteration < 200; iteration++) {
+			List<ParseRule> parseRules = new ArrayList<ParseRule>();
+			for (int i = 0; i < 6; i++) {
+				String exclude = random.nextInt(4) == 0 ? ".*" + randomText(random, 1, 2) + ".*" : null;
+				parseRules.add(rule("rule" + i, ".*" + randomText(random, 1, 3) + ".*", exclude));
+			}
+			ParseRuleMatcher parseRuleMatcher = new ParseRuleMatcher(parseRules, DEFAULT_RULE);
+			for (int i = 0; i < 50; i++) {
+				String line = randomText(random, 0, 8);
+				assertSame("Rules " + parseRules + " on line '" + line + "'", match(parseRules, line),
+						parseRuleMatcher.match(line));
+			}
+		}
+	}
+
+	private static void assertMatchesLikeReference(List<ParseRule> parseRules) {
+		ParseRuleMatcher parseRuleMatcher = new ParseRuleMatcher(parseRules, DEFAULT_RULE);
+		for (String line : LINES) {
+			assertSame("Line '" + line + "'", match(parseRules, line), parseRuleMatcher.match(line));
+		}
+	}
+
+	/**
+	 * Evaluates parse rules one by one the same way as log parser did before rules were precompiled
+	 */
+	private static ParseRule match(List<ParseRule> parseRules, String line) {
+		if (line.length() == 0) {
+			return null;
+		}
+		if (parseRules.isEmpty()) {
+			return DEFAULT_RULE;
+		}
+		for (ParseRule parseRule : parseRules) {
+			if (!parseRule.hasIncludeRegex() || line.matches(parseRule.getIncludeRegex())) {
+				if (parseRule.hasExcludeRegex() && line.matches(parseRule.getExcludeRegex())) {
+					return null;
+				}
+				return parseRule;
+			}
+		}
+		return null;
+	}
+
+	private static String randomText(Random random, int minLength, int maxLength) {
+		int length = minLength + random.nextInt(maxLength - minLength + 1);
+		StringBuilder text = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			text.append((char) ('a' + random.nextInt(3)));
+		}
+		return text.toString();
+	}
+
+	private static ParseRule rule(String name, String includeRegex, String excludeRegex) {
+		ParseRule parseRule = new ParseRule();
+		parseRule.setName(name);
+		parseRule.setIncludeRegex(includeRegex);
+		parseRule.setExcludeRegex(excludeRegex);
+		return parseRule;
+	}
+}
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.test.parser;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.reddeer.logparser.parser.DocumentLogLines;
+import org.junit.Test;
+
+/**
+ * Tests that {@link DocumentLogLines} reads the same lines as reader of document text
+ * used by log parser editor before.
+ */
+public class DocumentLogLinesTest {
+
+	private static final String[] TEXTS = { "", "a", "a\n", "a\nb", "a\r\nb\r\n", "a\rb\r", "\n\n", "a\n\nb\n",
+			"a\r\n\r\nb", "\r\n" };
+
+	@Test
+	public void testLinesLikeReader() throws IOException {
+		for (String text : TEXTS) {
+			DocumentLogLines logLines = new DocumentLogLines(new Document(text));
+			List<String> lines = new ArrayList<String>();
+			for (int lineNumber = 1; lineNumber <= logLines.getLineCount(); lineNumber++) {
+				lines.add(logLines.getLine(lineNumber));
+			}
+			assertEquals("Lines of '" + text.replace("\r", "\\r").replace("\n", "\\n") + "'", readLines(text), lines);
+		}
+	}
+
+	private static List<String> readLines(String text) throws IOException {
+		List<String> lines = new ArrayList<String>();
+		LineNumberReader reader = new LineNumberReader(new StringReader(text));
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lines.add(line);
+		}
+		return lines;
+	}
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.test.parser;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.reddeer.logparser.model.ParseRule;
+import org.eclipse.reddeer.logparser.parser.LogParser;
+import org.eclipse.reddeer.logparser.parser.ParsedLog;
+import org.junit.Test;
+
+/**
+ * Tests that log parsed by ranges of lines in parallel, the same way as log parser editor
+ * parses it, is exactly the same as log parsed sequentially.
+ */
+public class LogParserRangesTest {
+
+	private static final ParseRule DEFAULT_RULE = LogParserTest.rule("default", null, 1, 1);
+
+	private static final int[] RANGE_SIZES = { 1, 2, 3, 5, 8, 13, 100, 1000 };
+
+	@Test
+	public void testRangesWithOverlappingContext() {
+		// context of rules is longer than most of ranges
+		List<ParseRule> parseRules = Arrays.asList(LogParserTest.rule("error", ".*error.*", 7, 3),
+				LogParserTest.rule("warn", "warn.*", 2, 11), LogParserTest.rule("info", ".*info", 0, 0));
+		StringLogLines logLines = StringLogLines.generate(new Random(11), 500);
+
+		for (int rangeSize : RANGE_SIZES) {
+			assertParsedLikeSequential(logLines, parseRules, rangeSize);
+		}
+	}
+
+	@Test
+	public void testRandomLogsAndRanges() {
+		Random random = new Random(13);
+		for (int iteration = 0; iteration < 30; iteration++) {
+			StringLogLines logLines = StringLogLines.generate(random, 1 + random.nextInt(400));
+			List<ParseRule> parseRules = new ArrayList<ParseRule>();
+			for (int i = random.nextInt(3); i > 0; i--) {
+				parseRules.add(LogParserTest.rule("rule" + i, random.nextBoolean() ? ".*error.*" : "warn.*",
+						random.nextInt(10), random.nextInt(10)));
+			}
+			assertParsedLikeSequential(logLines, parseRules, RANGE_SIZES[random.nextInt(RANGE_SIZES.length)]);
+		}
+	}
+
+	@Test
+	public void testDefaultRuleRanges() {
+		StringLogLines logLines = StringLogLines.generate(new Random(17), 200);
+
+		for (int rangeSize : RANGE_SIZES) {
+			assertParsedLikeSequential(logLines, new ArrayList<ParseRule>(), rangeSize);
+		}
+	}
+
+	private static void assertParsedLikeSequential(StringLogLines logLines, List<ParseRule> parseRules,
+			int rangeSize) {
+		LogParser logParser = new LogParser(parseRules, DEFAULT_RULE);
+		StringBuilder expectedText = new StringBuilder();
+		ParsedLog expected = logParser.parse(logLines, expectedText::append);
+
+		List<ForkJoinTask<Object[]>> ranges = new ArrayList<ForkJoinTask<Object[]>>();
+		for (int from = 1; from <= logLines.getLineCount(); from += rangeSize) {
+			int fromLineNumber = from;
+			int toLineNumber = Math.min(from + rangeSize - 1, logLines.getLineCount());
+			ranges.add(ForkJoinPool.commonPool().submit(() -> {
+				StringBuilder text = new StringBuilder();
+				ParsedLog parsedLog = logParser.parse(logLines, fromLineNumber, toLineNumber, text::append,
+						new NullProgressMonitor());
+				return new Object[] { text.toString(), parsedLog };
+			}));
+		}
+		StringBuilder text = new StringBuilder();
+		ParsedLog parsedLog = new ParsedLog();
+		for (ForkJoinTask<Object[]> range : ranges) {
+			Object[] parsedRange = range.join();
+			text.append((String) parsedRange[0]);
+			parsedLog.addLines((ParsedLog) parsedRange[1]);
+		}
+
+		String message = "Ranges of " + rangeSize + " lines with rules " + parseRules;
+		assertEquals(message, expectedText.toString(), text.toString());
+		assertEquals(message, LogParserTest.getOriginalLineNumbers(expected),
+				LogParserTest.getOriginalLineNumbers(parsedLog));
+	}
+}
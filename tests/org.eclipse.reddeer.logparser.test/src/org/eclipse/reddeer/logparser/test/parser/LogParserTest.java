@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.test.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.reddeer.logparser.model.ParseRule;
+import org.eclipse.reddeer.logparser.parser.LogParser;
+import org.eclipse.reddeer.logparser.parser.ParsedLog;
+import org.junit.Test;
+
+/**
+ * Tests that {@link LogParser} keeping only the last lines in ring buffer produces the same
+ * parsed log as the reference parser which keeps all lines.
+ */
+public class LogParserTest {
+
+	private static final ParseRule DEFAULT_RULE = rule("default", null, 0, 0);
+
+	@Test
+	public void testContextAcrossRingBuffer() {
+		StringLogLines logLines = new StringLogLines("start error", "a", "b", "c", "d", "warn", "e", "f", "error",
+				"g", "", "h", "i", "j", "k", "error end");
+		ParseRule error = rule("error", ".*error.*", 3, 2);
+		ParseRule warn = rule("warn", "warn", 4, 5);
+
+		assertParsedLikeReference(logLines, Arrays.asList(error, warn));
+		List<Integer> originalLineNumbers = new ArrayList<Integer>();
+		logLines.parse(Arrays.asList(error, warn), DEFAULT_RULE, originalLineNumbers);
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 14, 15, 16), originalLineNumbers);
+	}
+
+	@Test
+	public void testRandomLogs() {
+		Random random = new Random(7);
+		for (int iteration = 0; iteration < 50; iteration++) {
+			StringLogLines logLines = StringLogLines.generate(random, 1 + random.nextInt(300));
+			List<ParseRule> parseRules = new ArrayList<ParseRule>();
+			String[] includeRegexes = { ".*error.*", "warn.*", ".*info", "at java", ".*", null };
+			for (int i = random.nextInt(4); i > 0; i--) {
+				ParseRule parseRule = rule("rule" + i, includeRegexes[random.nextInt(includeRegexes.length)],
+						random.nextInt(6), random.nextInt(6));
+				if (random.nextBoolean()) {
+					parseRule.setExcludeRegex(".*java.*");
+				}
+				parseRule.setIndent(random.nextInt(3));
+				parseRules.add(parseRule);
+			}
+			assertParsedLikeReference(logLines, parseRules);
+		}
+	}
+
+	@Test
+	public void testDefaultRuleContext() {
+		ParseRule defaultParseRule = rule("default", null, 2, 1);
+		StringLogLines logLines = new StringLogLines("", "", "a", "", "", "", "b", "");
+		List<Integer> expected = new ArrayList<Integer>();
+		String expectedText = logLines.parse(new ArrayList<ParseRule>(), defaultParseRule, expected);
+		StringBuilder text = new StringBuilder();
+
+		ParsedLog parsedLog = new LogParser(new ArrayList<ParseRule>(), defaultParseRule).parse(logLines, text::append);
+
+		assertEquals(expectedText, text.toString());
+		assertEquals(expected, getOriginalLineNumbers(parsedLog));
+	}
+
+	@Test
+	public void testParsedLogPassedInChunks() {
+		List<String> lines = new ArrayList<String>();
+		for (int i = 0; i < 10000; i++) {
+			lines.add("error at line " + i);
+		}
+		StringLogLines logLines = new StringLogLines(lines);
+		List<String> chunks = new ArrayList<String>();
+
+		new LogParser(new ArrayList<ParseRule>(), DEFAULT_RULE).parse(logLines, chunks::add);
+
+		StringBuilder text = new StringBuilder();
+		for (String chunk : chunks) {
+			assertEquals('\n', chunk.charAt(chunk.length() - 1));
+			text.append(chunk);
+		}
+		assertTrue(chunks.size() > 1);
+		assertEquals(logLines.parse(new ArrayList<ParseRule>(), DEFAULT_RULE, new ArrayList<Integer>()),
+				text.toString());
+	}
+
+	static void assertParsedLikeReference(StringLogLines logLines, List<ParseRule> parseRules) {
+		List<Integer> expected = new ArrayList<Integer>();
+		String expectedText = logLines.parse(parseRules, DEFAULT_RULE, expected);
+		StringBuilder text = new StringBuilder();
+
+		ParsedLog parsedLog = new LogParser(parseRules, DEFAULT_RULE).parse(logLines, text::append);
+
+		assertEquals("Parsed text with rules " + parseRules, expectedText, text.toString());
+		assertEquals("Original lines with rules " + parseRules, expected, getOriginalLineNumbers(parsedLog));
+	}
+
+	static List<Integer> getOriginalLineNumbers(ParsedLog parsedLog) {
+		List<Integer> originalLineNumbers = new ArrayList<Integer>(parsedLog.getLineCount());
+		for (int i = 0; i < parsedLog.getLineCount(); i++) {
+			originalLineNumbers.add(parsedLog.getOriginalLineNumber(i));
+		}
+		return originalLineNumbers;
+	}
+
+	static ParseRule rule(String name, String includeRegex, int linesBefore, int linesAfter) {
+		ParseRule parseRule = new ParseRule();
+		parseRule.setName(name);
+		parseRule.setIncludeRegex(includeRegex);
+		parseRule.setPrefix(name + ": ");
+		parseRule.setDisplayLinesBefore(linesBefore);
+		parseRule.setDisplaylinesAfter(linesAfter);
+		return parseRule;
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2017 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.test.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.reddeer.logparser.model.ParseRule;
+import org.eclipse.reddeer.logparser.parser.LogLines;
+
+/**
+ * Lines of log kept in memory together with reference parser which parses them the same way
+ * as log parser editor did before logs were parsed as stream.
+ */
+public class StringLogLines implements LogLines {
+
+	private final List<String> lines;
+
+	public StringLogLines(String... lines) {
+		this(Arrays.asList(lines));
+	}
+
+	public StringLogLines(List<String> lines) {
+		this.lines = lines;
+	}
+
+	/**
+	 * Generates random log whose lines contain words "error", "warn" and "info"
+	 * 
+	 * @param random random generator
+	 * @param lineCount number of lines
+	 * @return generated log
+	 */
+	public static StringLogLines generate(Random random, int lineCount) {
+		String[] words = { "error", "warn", "info", "at", "java", "" };
+		List<String> lines = new ArrayList<String>(lineCount);
+		for (int i = 0; i < lineCount; i++) {
+			StringBuilder line = new StringBuilder();
+			int wordCount = random.nextInt(4);
+			for (int word = 0; word < wordCount; word++) {
+				if (word > 0) {
+					line.append(' ');
+				}
+				line.append(words[random.nextInt(words.length)]);
+			}
+			lines.add(line.toString());
+		}
+		return new StringLogLines(lines);
+	}
+
+	@Override
+	public int getLineCount() {
+		return lines.size();
+	}
+
+	@Override
+	public String getLine(int lineNumber) {
+		return lines.get(lineNumber - 1);
+	}
+
+	@Override
+	public void close() {
+		// nothing to release
+	}
+
+	/**
+	 * Parses lines by reference algorithm
+	 * 
+	 * @param parseRules parse rules
+	 * @param defaultParseRule parse rule used when there are no parse rules
+	 * @param originalLineNumbers list filled with numbers of original lines of parsed log
+	 * @return parsed log text
+	 */
+	public String parse(List<ParseRule> parseRules, ParseRule defaultParseRule, List<Integer> originalLineNumbers) {
+		ParseRule[] includedLines = new ParseRule[lines.size() + 1];
+		for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+			ParseRule parseRule = match(parseRules, defaultParseRule, lines.get(lineNumber - 1));
+			if (parseRule == null) {
+				continue;
+			}
+			int addLinesFrom = Math.max(lineNumber - parseRule.getDisplayLinesBefore(), 1);
+			int addLinesTo = Math.min(lineNumber + parseRule.getDisplaylinesAfter(), lines.size());
+			for (int addLineNumber = addLinesFrom; addLineNumber <= addLinesTo; addLineNumber++) {
+				if (includedLines[addLineNumber] == null) {
+					includedLines[addLineNumber] = parseRule;
+				}
+			}
+		}
+		StringBuilder text = new StringBuilder();
+		for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+			ParseRule parseRule = includedLines[lineNumber];
+			if (parseRule != null) {
+				for (int i = 0; i < parseRule.getIndent(); i++) {
+					text.append(' ');
+				}
+				text.append(parseRule.getPrefix()).append(lines.get(lineNumber - 1)).append('\n');
+				originalLineNumbers.add(lineNumber);
+			}
+		}
+		return text.toString();
+	}
+
+	private static ParseRule match(List<ParseRule> parseRules, ParseRule defaultParseRule, String line) {
+		if (line.length() == 0) {
+			return null;
+		}
+		if (parseRules.isEmpty()) {
+			return defaultParseRule;
+		}
+		for (ParseRule parseRule : parseRules) {
+			if (!parseRule.hasIncludeRegex() || line.matches(parseRule.getIncludeRegex())) {
+				if (parseRule.hasExcludeRegex() && line.matches(parseRule.getExcludeRegex())) {
+					return null;
+				}
+				return parseRule;
+			}
+		}
+		return null;
+	}
+}
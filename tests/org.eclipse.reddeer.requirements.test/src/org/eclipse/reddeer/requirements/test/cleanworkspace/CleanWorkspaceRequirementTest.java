@@ -16,6 +16,7 @@ import static org.junit.Assert.fail;
 
 import java.lang.reflect.Field;
 
+import org.eclipse.reddeer.direct.project.Project;
 import org.eclipse.reddeer.eclipse.jdt.ui.packageview.PackageExplorerPart;
 import org.eclipse.reddeer.eclipse.jdt.ui.wizards.JavaProjectWizard;
 import org.eclipse.reddeer.eclipse.jdt.ui.wizards.NewJavaProjectWizardPageOne;
@@ -38,10 +39,14 @@ public class CleanWorkspaceRequirementTest {
 
 	@Before
 	public void setUp() {
+		requirements = getRequirements(TestClass.class);
+	}
+
+	private Requirements getRequirements(Class<?> testClass) {
 		builder = new RequirementsRunnerBuilder(new RequirementConfigurationSet());
 		Runner runner = null;
 		try {
-			runner = builder.runnerForClass(TestClass.class);
+			runner = builder.runnerForClass(testClass);
 		} catch (Throwable e) {
 			e.printStackTrace();
 		}
@@ -49,7 +54,7 @@ public class CleanWorkspaceRequirementTest {
 			fail();
 		}
 		RequirementsRunner reqRunner = (RequirementsRunner) runner;
-		requirements = null;
+		Requirements requirements = null;
 		try {
 			Field field = RequirementsRunner.class
 					.getDeclaredField("requirements");
@@ -64,7 +69,7 @@ public class CleanWorkspaceRequirementTest {
 		} catch (IllegalAccessException e) {
 			e.printStackTrace();
 		}
-
+		return requirements;
 	}
 
 	@Test
@@ -84,6 +89,20 @@ public class CleanWorkspaceRequirementTest {
 				packageExplorer.getProjects().isEmpty());
 	}
 	
+	@Test
+	public void fulfillRemovesProjectsCreatedByApiTest() {
+		Project.create("ApiProject");
+		requirements.fulfill();
+		assertFalse("Project should be deleted, but isn't", Project.isProject("ApiProject"));
+	}
+
+	@Test
+	public void fulfillRemovesProjectsViaProjectExplorerTest() {
+		Project.create("UiProject");
+		getRequirements(UITestClass.class).fulfill();
+		assertFalse("Project should be deleted, but isn't", Project.isProject("UiProject"));
+	}
+
 	@CleanWorkspace
 	public static class TestClass{
 		
@@ -96,5 +115,13 @@ public class CleanWorkspaceRequirementTest {
 			
 		}
 	}
-	
+
+	@CleanWorkspace(fast = false)
+	public static class UITestClass {
+
+		@Test
+		public void voidTest() {
+
+		}
+	}
 }
@@ -22,6 +22,7 @@ import java.util.List;
 import org.eclipse.reddeer.common.exception.RedDeerException;
 import org.eclipse.reddeer.common.exception.WaitTimeoutExpiredException;
 import org.eclipse.reddeer.common.wait.WaitUntil;
+import org.eclipse.reddeer.core.util.ItemsSnapshot;
 import org.eclipse.reddeer.core.matcher.WithIdMatcher;
 import org.eclipse.reddeer.swt.api.Table;
 import org.eclipse.reddeer.swt.condition.TableContainsItem;
@@ -118,6 +119,28 @@ public class DefaultTableTest extends AbstractTableTest {
 		assertThat(t.getItems(new CheckedTableItemMatcher()).size(), is(1));
 	}
 
+	@Test
+	public void testTableSnapshot() {
+		ItemsSnapshot snapshot = new DefaultTable(1).getSnapshot();
+
+		assertEquals(128, snapshot.getRowCount());
+		assertEquals(7, snapshot.getColumnCount());
+		assertEquals("x", snapshot.getText(0, 0));
+		assertEquals("line 100 in nowhere", snapshot.getText(100, 6));
+		assertEquals(100, snapshot.indexOf(6, "line 100 in nowhere"));
+		assertEquals(-1, snapshot.indexOf(0, "this is not in table"));
+	}
+
+	@Test
+	public void testCheckTableSnapshot() {
+		DefaultTable t = new DefaultTable(2);
+		t.getItem(1).setChecked(true);
+		ItemsSnapshot snapshot = t.getSnapshot();
+
+		assertFalse(snapshot.isChecked(0));
+		assertTrue(snapshot.isChecked(1));
+	}
+
 	@Test
 	public void doubleClickOnTableItem() {
 		org.eclipse.reddeer.swt.api.TableItem item = new DefaultTable(1).getItem(0);
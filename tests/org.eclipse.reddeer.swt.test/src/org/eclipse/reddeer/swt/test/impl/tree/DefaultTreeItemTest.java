@@ -81,6 +81,41 @@ public class DefaultTreeItemTest extends AbstractTreeTest {
 		DefaultTreeItem dfi = new DefaultTreeItem("A","AA","NONEXISTINGTEXT");
 	}
 	
+	@Test
+	public void testFindItemExpandsOnlyMatchingPath(){
+		createTreeItems(tree.getSWTWidget());
+		new DefaultTreeItem("B","BB");
+		assertTrue("TreeItem on path is not expanded", new DefaultTreeItem("B").isExpanded());
+		assertFalse("TreeItem outside of path was expanded", new DefaultTreeItem("A").isExpanded());
+	}
+	
+	@Test
+	public void testFindItemUnderLeafDoesNotWait(){
+		createTreeItems(tree.getSWTWidget());
+		long start = System.currentTimeMillis();
+		try {
+			new DefaultTreeItem("C","CC");
+			fail("Tree item under leaf tree item was found");
+		} catch (CoreLayerException ex) {
+			// expected, leaf tree item has no children
+		}
+		assertTrue("Lookup waited for children of leaf tree item",
+				System.currentTimeMillis() - start < TimePeriod.DEFAULT.getSeconds() * 1000);
+	}
+	
+	@Test
+	public void testFindItemWithChildrenAddedAsynchronously(){
+		createDynamicTreeItems(tree.getSWTWidget(), 0, 200, 3);
+		final Tree swtTree = tree.getSWTWidget();
+		int expandListeners = Display.syncExec(() -> swtTree.getListeners(SWT.Expand).length);
+
+		DefaultTreeItem dfi = new DefaultTreeItem("A", "A0");
+
+		assertEquals("A0", dfi.getText());
+		assertEquals("Expand listener was not removed from tree", expandListeners,
+				(int) Display.syncExec(() -> swtTree.getListeners(SWT.Expand).length));
+	}
+	
 	@Test
 	public void getItem() {
 		int cellIndex = 0;
@@ -13,6 +13,7 @@ package org.eclipse.reddeer.swt.test.impl.tree;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.core.IsCollectionContaining.hasItems;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -23,6 +24,7 @@ import org.eclipse.swt.widgets.Shell;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
 import org.eclipse.reddeer.core.matcher.WithIdMatcher;
+import org.eclipse.reddeer.core.util.ItemsSnapshot;
 import org.eclipse.reddeer.swt.api.Tree;
 import org.eclipse.reddeer.swt.api.TreeItem;
 import org.eclipse.reddeer.swt.impl.tree.DefaultTree;
@@ -107,6 +109,19 @@ public class DefaultTreeTest extends AbstractTreeTest {
 				item("C")));
 	}
 	
+	@Test
+	public void testGetSnapshot(){
+		createTreeItems(tree.getSWTWidget());
+		assertThat(tree.getSnapshot().getRowCount(), is(3));
+
+		tree.getItem("A").expand();
+		ItemsSnapshot snapshot = tree.getSnapshot();
+		assertThat(snapshot.getRowCount(), is(4));
+		assertEquals("AA", snapshot.getText(1, 0));
+		assertArrayEquals(new String[] {"A", "AA"}, snapshot.getPath(1));
+		assertEquals(2, snapshot.indexOf(0, "B"));
+	}
+	
 	private TypeSafeMatcher<TreeItem> item(final String text){
 		return new TypeSafeMatcher<TreeItem>() {
 
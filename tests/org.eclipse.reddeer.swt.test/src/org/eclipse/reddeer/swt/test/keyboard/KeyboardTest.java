@@ -12,6 +12,7 @@
 package org.eclipse.reddeer.swt.test.keyboard;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.eclipse.swt.SWT;
@@ -19,6 +20,8 @@ import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.reddeer.common.exception.RedDeerException;
 import org.eclipse.reddeer.common.exception.TestFailureException;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.common.util.Display;
 import org.eclipse.reddeer.common.util.ResultRunnable;
 import org.eclipse.reddeer.core.exception.CoreLayerException;
@@ -36,11 +39,14 @@ import org.junit.runner.RunWith;
 @RunWith(RedDeerSuite.class)
 public class KeyboardTest {
 	
+	private static final Logger log = Logger.getLogger(KeyboardTest.class);
+	
 	protected static final String SHELL_TITLE = "Keyboard testing shell";
 	private Text text;
 	
 	@After
 	public void cleanup() {
+		System.clearProperty(RedDeerProperties.KEYBOARD_FAST_TYPING.getName());
 		try {
 			Display.syncExec(new Runnable() {
 
@@ -68,6 +74,41 @@ public class KeyboardTest {
 		assertEquals("test123", getText());
 	}
 	
+	@Test
+	public void fastTypingTest() {
+		System.setProperty(RedDeerProperties.KEYBOARD_FAST_TYPING.getName(), "true");
+		openTestingShell();
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			text.append("{@Test} typing in bursts " + i + " fast.typing(" + i + ") ");
+		}
+		KeyboardFactory.getKeyboard().type(text.toString());
+		assertEquals(text.toString(), getText());
+	}
+	
+	@Test
+	public void fastTypingBenchmark() {
+		String text = "public void test123() {}";
+		
+		openTestingShell();
+		long start = System.currentTimeMillis();
+		KeyboardFactory.getKeyboard().type(text);
+		long keyByKey = System.currentTimeMillis() - start;
+		assertEquals(text, getText());
+		cleanup();
+		
+		System.setProperty(RedDeerProperties.KEYBOARD_FAST_TYPING.getName(), "true");
+		openTestingShell();
+		start = System.currentTimeMillis();
+		KeyboardFactory.getKeyboard().type(text);
+		long inBursts = System.currentTimeMillis() - start;
+		assertEquals(text, getText());
+		
+		log.info("Typing " + text.length() + " characters key by key: " + keyByKey + " ms, in bursts: " + inBursts
+				+ " ms");
+		assertTrue("Typing in bursts was not faster than typing key by key", inBursts < keyByKey);
+	}
+	
 	@Test
 	public void keyCombinationTest(){
 		new DefaultShell();
@@ -462,6 +462,24 @@ public class TextEditorTest {
 		assertTrue(offset == -1);
 	}
 
+	@Test
+	public void testGetPositionOfRegex() {
+		TextEditor textEditor = TextEditorTest.openJavaFile();
+		assertEquals(textEditor.getPositionOfText("JavaClass", 0), textEditor.getPositionOfRegex("Java\\w+", 0));
+		assertEquals(textEditor.getPositionOfText("JavaClass", 1), textEditor.getPositionOfRegex("Java\\w+", 1));
+		assertEquals(-1, textEditor.getPositionOfRegex("Java\\w+", 2));
+	}
+
+	@Test
+	public void testContainsTextAfterModification() {
+		TextEditor textEditor = TextEditorTest.openJavaFile();
+		assertTrue(textEditor.containsText("JavaClass"));
+		assertFalse(textEditor.containsText("ModifiedClass"));
+		textEditor.insertText(textEditor.getPositionOfText("JavaClass"), "Modified");
+		assertTrue(textEditor.containsText("ModifiedJavaClass"));
+		assertEquals(textEditor.getText().indexOf("JavaClass"), textEditor.getPositionOfText("JavaClass"));
+	}
+
 	@Test(expected=TestFailureException.class)
 	public void getSelectedTextTest() {
 		TextEditor textEditor = TextEditorTest.openJavaFile();